@@ -9,6 +9,8 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -23,7 +25,7 @@ import seedu.exception.ServerNotReadyApiException;
 import seedu.exception.UnauthorisedAccessApiException;
 import seedu.exception.UnknownResponseApiException;
 import seedu.files.FileReader;
-import seedu.files.FileStorage;
+import seedu.files.ResponseArchive;
 import seedu.ui.Ui;
 
 
@@ -32,8 +34,10 @@ import seedu.ui.Ui;
  */
 public class Api implements ApiInterface {
     private static final int FETCH_TRIES = 5;
+    private static final String ARCHIVE_DIRECTORY = "archive";
     private final HttpClient client;
-    private final FileStorage storage;
+    private final ResponseArchive archive;
+    private final Path responsePath;
     private final Ui ui;
     private HttpRequest request;
     private ArrayList<CompletableFuture<HttpResponse<String>>> responseFutureList = new ArrayList<>(5);
@@ -42,14 +46,15 @@ public class Api implements ApiInterface {
 
     /**
      * Constructor to create a new client.
-     * Initializes the storage class for file writing purposes.
+     * Initializes the archive that fetched responses are saved to, in the {@code archive} folder of the directory.
      *
-     * @param file The file name where the storage file is stored.
+     * @param file The file name that archived responses are named after, which is also loaded if none are archived.
      * @param directory The directory path where the storage file is stored.
      */
     public Api(String file, String directory) {
         this.client = HttpClient.newHttpClient();
-        this.storage = new FileStorage(directory, file);
+        this.archive = new ResponseArchive(Paths.get(directory, ARCHIVE_DIRECTORY), file);
+        this.responsePath = Paths.get(directory, file);
         this.ui = new Ui();
     }
 
@@ -176,7 +181,22 @@ public class Api implements ApiInterface {
 
         Ui.println(totalDataCount + " Parking Lot data received from LTA!");
 
-        storage.writeDataToFile(result);
+        archive.archive(result);
+    }
+
+    /**
+     * Gets the newest archived response, or the plain response file if nothing has been archived yet.
+     *
+     * @return Path of the response to load.
+     */
+    @Override
+    public Path getResponsePath() {
+        Path latestPath = archive.getLatestPath();
+        return latestPath == null ? responsePath : latestPath;
+    }
+
+    public ResponseArchive getArchive() {
+        return archive;
     }
 
     /**
@@ -1,5 +1,7 @@
 package seedu.api;
 
+import java.nio.file.Path;
+
 import seedu.exception.EmptyResponseException;
 import seedu.exception.FileWriteException;
 import seedu.exception.UnauthorisedAccessApiException;
@@ -10,4 +12,6 @@ import seedu.exception.UnauthorisedAccessApiException;
 public interface ApiInterface {
     void syncFetchData()
             throws FileWriteException, EmptyResponseException, UnauthorisedAccessApiException;
+
+    Path getResponsePath();
 }
@@ -1,5 +1,8 @@
 package seedu.api;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 import seedu.exception.FileWriteException;
 import seedu.files.FileStorage;
 
@@ -9,9 +12,11 @@ import seedu.files.FileStorage;
 public class ApiStub implements ApiInterface {
 
     private final FileStorage storage;
+    private final Path responsePath;
 
     public ApiStub(String file, String directory) {
         this.storage = new FileStorage(directory, file);
+        this.responsePath = Paths.get(directory, file);
     }
 
     /**
@@ -27,4 +32,9 @@ public class ApiStub implements ApiInterface {
                 + "\"LTA\"}]}";
         storage.writeDataToFile(sampleResult);
     }
+
+    @Override
+    public Path getResponsePath() {
+        return responsePath;
+    }
 }
@@ -45,8 +45,12 @@ public class FavouriteCommand extends Command {
     public CommandResult execute() {
         try {
             if (argument.equalsIgnoreCase("list")) {
-                favourite.updateFavouriteList(carparkList);
-                favourite.writeFavouriteList();
+                if (!favourite.isLoaded()) {
+                    String note = favourite.updateFavouriteList(carparkList);
+                    if (note != null) {
+                        Ui.printRed(note, true);
+                    }
+                }
                 String content = favourite.getFavouriteListString(carparkList);
                 if (content.isEmpty()) {
                     return new CommandResult("There are no favourites in the list!", CommandStatus.FAIL);
@@ -100,10 +104,10 @@ public class FavouriteCommand extends Command {
     }
 
     /**
-     * Inserts carparks into the favourite list and writes it into the favouriteList.txt
+     * Inserts carparks into the favourite list and logs the additions.
      *
      * @param carparkId Carpark IDs to favourite.
-     * @throws FileWriteException        If unable to write to favourite.txt file.
+     * @throws FileWriteException        If unable to write to the favourite log.
      * @throws DuplicateCarparkException If carpark ID is already in favourites.
      */
     public void setFavourite(ArrayList<String> carparkId) throws FileWriteException, DuplicateCarparkException {
@@ -113,9 +117,8 @@ public class FavouriteCommand extends Command {
             if (containsSearchStr) {
                 hasDuplicate = true;
             }
-            Favourite.getFavouriteList().add(id);
         }
-        favourite.writeFavouriteList();
+        favourite.addFavourites(carparkId);
         if (hasDuplicate) {
             throw new DuplicateCarparkException();
         }
@@ -36,10 +36,8 @@ public class FilterAddressCommand extends Command {
             if (result.isEmpty()) {
                 throw new NoCarparkFoundException();
             }
-            carparkList.resetBoldForAllCarparks();
             return new CommandResult(result, CommandStatus.FILTERSTRING);
         } catch (NoCarparkFoundException e) {
-            carparkList.resetBoldForAllCarparks();
             return new CommandResult(e.getMessage(), CommandStatus.FAIL);
         }
     }
@@ -36,10 +36,8 @@ public class FilterCarparkIdCommand extends Command {
             if (result.getSearchListString().isEmpty()) {
                 throw new NoCarparkFoundException();
             }
-            carparkList.resetBoldForAllCarparks();
             return new CommandResult(result, CommandStatus.MESSAGE);
         } catch (NoCarparkFoundException e) {
-            carparkList.resetBoldForAllCarparks();
             return new CommandResult(e.getMessage(), CommandStatus.FAIL);
         }
     }
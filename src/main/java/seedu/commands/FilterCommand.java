@@ -16,6 +16,8 @@ public class FilterCommand extends Command {
     private final CarparkList carparkList;
 
     private final Sentence searchQuery;
+    /** Number of most relevant carparks to show, or 0 to show every match unranked. */
+    private final int count;
 
     /**
      * Constructor for SearchCommand
@@ -24,8 +26,20 @@ public class FilterCommand extends Command {
      * @param searchQuery argument for the search command
      */
     public FilterCommand(CarparkList carparkList, Sentence searchQuery) {
+        this(carparkList, searchQuery, 0);
+    }
+
+    /**
+     * Constructor for SearchCommand that shows only the most relevant carparks, best first.
+     *
+     * @param carparkList carpark list of current api
+     * @param searchQuery argument for the search command
+     * @param count number of carparks to show
+     */
+    public FilterCommand(CarparkList carparkList, Sentence searchQuery, int count) {
         this.searchQuery = searchQuery;
         this.carparkList = carparkList;
+        this.count = count;
     }
 
     /**
@@ -43,14 +57,15 @@ public class FilterCommand extends Command {
     @Override
     public CommandResult execute() {
         try {
-            String result = runFilter(carparkList, searchQuery).getSearchListString();
+            CarparkFilteredList filteredList = count > 0
+                    ? carparkList.filterByRelevance(searchQuery, count)
+                    : runFilter(carparkList, searchQuery);
+            String result = filteredList.getSearchListString();
             if (result.isEmpty()) {
                 throw new NoCarparkFoundException();
             }
-            carparkList.resetBoldForAllCarparks();
             return new CommandResult(result, CommandStatus.MESSAGE);
         } catch (NoCarparkFoundException e) {
-            carparkList.resetBoldForAllCarparks();
             return new CommandResult(e.getMessage(), CommandStatus.FAIL);
         }
 
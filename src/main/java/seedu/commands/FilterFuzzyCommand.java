@@ -0,0 +1,44 @@
+package seedu.commands;
+
+import seedu.data.CarparkFilteredList;
+import seedu.data.CarparkList;
+import seedu.exception.NoCarparkFoundException;
+import seedu.parser.search.Sentence;
+
+/**
+ * Represents a command to search for the carparks that approximately contain the searchQuery, tolerating typos.
+ * Upon execution, it prints out the matching carparks, closest matches first.
+ */
+public class FilterFuzzyCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter -fuzzy";
+    public static final String COMMAND_WORD_SHORT = "fil -fuz";
+    private final CarparkList carparkList;
+
+    private final Sentence searchQuery;
+
+    /**
+     * Constructor for FilterFuzzyCommand
+     *
+     * @param carparkList carpark list of current api
+     * @param searchQuery argument for the search command
+     */
+    public FilterFuzzyCommand(CarparkList carparkList, Sentence searchQuery) {
+        this.searchQuery = searchQuery;
+        this.carparkList = carparkList;
+    }
+
+    @Override
+    public CommandResult execute() {
+        try {
+            CarparkFilteredList searchResult = carparkList.filterByFuzzyStrings(searchQuery);
+            String result = searchResult.getSearchListString();
+            if (result.isEmpty()) {
+                throw new NoCarparkFoundException();
+            }
+            return new CommandResult(result, CommandStatus.MESSAGE);
+        } catch (NoCarparkFoundException e) {
+            return new CommandResult(e.getMessage(), CommandStatus.FAIL);
+        }
+    }
+}
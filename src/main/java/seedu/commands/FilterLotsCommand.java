@@ -0,0 +1,45 @@
+package seedu.commands;
+
+import java.util.List;
+
+import seedu.data.Carpark;
+import seedu.data.CarparkList;
+import seedu.data.LotType;
+import seedu.exception.NoCarparkFoundException;
+
+/**
+ * Represents a command to filter for the carparks with at least a number of available lots of a lot type.
+ * Upon execution, it prints out the matching carparks in descending order of available lots.
+ */
+public class FilterLotsCommand extends Command {
+    public static final String COMMAND_WORD = "filter -min";
+    public static final String COMMAND_WORD_SHORT = "fil -min";
+    private final LotType lotType;
+    private final int minimumLots;
+
+    /**
+     * Constructor for the {@link FilterLotsCommand} class.
+     *
+     * @param carparkList {@link CarparkList} to filter.
+     * @param lotType Lot type to compare.
+     * @param minimumLots Minimum number of available lots, inclusive.
+     */
+    public FilterLotsCommand(CarparkList carparkList, LotType lotType, int minimumLots) {
+        this.carparkList = carparkList;
+        this.lotType = lotType;
+        this.minimumLots = minimumLots;
+    }
+
+    @Override
+    public CommandResult execute() {
+        try {
+            List<Carpark> result = carparkList.getLotTypeIndex().getCarparksWithAtLeast(lotType, minimumLots);
+            if (result.isEmpty()) {
+                throw new NoCarparkFoundException();
+            }
+            return new CommandResult(TopCommand.getLotTypeListString(result, lotType), CommandStatus.MESSAGE);
+        } catch (NoCarparkFoundException e) {
+            return new CommandResult(e.getMessage(), CommandStatus.FAIL);
+        }
+    }
+}
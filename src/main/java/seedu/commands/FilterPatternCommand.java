@@ -0,0 +1,43 @@
+package seedu.commands;
+
+import seedu.data.CarparkFilteredList;
+import seedu.data.CarparkList;
+import seedu.exception.NoCarparkFoundException;
+
+/**
+ * Represents a command to search for the carparks with a run of address words matching a wildcard pattern, such as
+ * {@code *plaza*}. Upon execution, it prints out all the matching carparks.
+ */
+public class FilterPatternCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter -pattern";
+    public static final String COMMAND_WORD_SHORT = "fil -pat";
+    private final CarparkList carparkList;
+
+    private final String pattern;
+
+    /**
+     * Constructor for FilterPatternCommand
+     *
+     * @param carparkList carpark list of current api
+     * @param pattern case-folded wildcard pattern for the search command
+     */
+    public FilterPatternCommand(CarparkList carparkList, String pattern) {
+        this.pattern = pattern;
+        this.carparkList = carparkList;
+    }
+
+    @Override
+    public CommandResult execute() {
+        try {
+            CarparkFilteredList searchResult = carparkList.filterByPattern(pattern);
+            String result = searchResult.getSearchListString();
+            if (result.isEmpty()) {
+                throw new NoCarparkFoundException();
+            }
+            return new CommandResult(result, CommandStatus.MESSAGE);
+        } catch (NoCarparkFoundException e) {
+            return new CommandResult(e.getMessage(), CommandStatus.FAIL);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.commands;
+
+import seedu.data.CarparkFilteredList;
+import seedu.data.CarparkList;
+import seedu.data.FieldQuery;
+import seedu.exception.NoCarparkFoundException;
+
+/**
+ * Represents a command to search for the carparks that match a {@link FieldQuery} over their development, area, ID,
+ * agency and available lots. Upon execution, it prints out all the matching carparks.
+ */
+public class FilterQueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter -query";
+    public static final String COMMAND_WORD_SHORT = "fil -q";
+    private final CarparkList carparkList;
+
+    private final FieldQuery fieldQuery;
+
+    /**
+     * Constructor for FilterQueryCommand
+     *
+     * @param carparkList carpark list of current api
+     * @param fieldQuery parsed query for the search command
+     */
+    public FilterQueryCommand(CarparkList carparkList, FieldQuery fieldQuery) {
+        this.fieldQuery = fieldQuery;
+        this.carparkList = carparkList;
+    }
+
+    @Override
+    public CommandResult execute() {
+        try {
+            CarparkFilteredList searchResult = carparkList.filterByQuery(fieldQuery);
+            String result = searchResult.getSearchListString();
+            if (result.isEmpty()) {
+                throw new NoCarparkFoundException();
+            }
+            return new CommandResult(result, CommandStatus.MESSAGE);
+        } catch (NoCarparkFoundException e) {
+            return new CommandResult(e.getMessage(), CommandStatus.FAIL);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.commands;
+
+import seedu.data.CarparkFilteredList;
+import seedu.data.CarparkList;
+import seedu.exception.NoCarparkFoundException;
+import seedu.parser.search.Sentence;
+
+/**
+ * Represents a command to search for the carparks with words that sound like the words of the searchQuery, however
+ * they are spelt. Upon execution, it prints out all the matching carparks.
+ */
+public class FilterSoundsCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter -sounds";
+    public static final String COMMAND_WORD_SHORT = "fil -snd";
+    private final CarparkList carparkList;
+
+    private final Sentence searchQuery;
+
+    /**
+     * Constructor for FilterSoundsCommand
+     *
+     * @param carparkList carpark list of current api
+     * @param searchQuery argument for the search command
+     */
+    public FilterSoundsCommand(CarparkList carparkList, Sentence searchQuery) {
+        this.searchQuery = searchQuery;
+        this.carparkList = carparkList;
+    }
+
+    @Override
+    public CommandResult execute() {
+        try {
+            CarparkFilteredList searchResult = carparkList.filterBySound(searchQuery);
+            String result = searchResult.getSearchListString();
+            if (result.isEmpty()) {
+                throw new NoCarparkFoundException();
+            }
+            return new CommandResult(result, CommandStatus.MESSAGE);
+        } catch (NoCarparkFoundException e) {
+            return new CommandResult(e.getMessage(), CommandStatus.FAIL);
+        }
+    }
+}
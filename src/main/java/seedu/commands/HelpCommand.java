@@ -5,10 +5,19 @@ import static seedu.common.CommonData.EXIT_FORMAT;
 import static seedu.common.CommonData.FAVOURITE_FORMAT;
 import static seedu.common.CommonData.FILTER_ADDRESS_FORMAT;
 import static seedu.common.CommonData.FILTER_FORMAT;
+import static seedu.common.CommonData.FILTER_FUZZY_FORMAT;
 import static seedu.common.CommonData.FILTER_ID_FORMAT;
+import static seedu.common.CommonData.FILTER_MIN_FORMAT;
+import static seedu.common.CommonData.FILTER_PATTERN_FORMAT;
+import static seedu.common.CommonData.FILTER_QUERY_FORMAT;
+import static seedu.common.CommonData.FILTER_RANKED_FORMAT;
+import static seedu.common.CommonData.FILTER_SOUNDS_FORMAT;
 import static seedu.common.CommonData.FIND_FORMAT;
 import static seedu.common.CommonData.HELP_FORMAT;
 import static seedu.common.CommonData.LIST_FORMAT;
+import static seedu.common.CommonData.STATS_FORMAT;
+import static seedu.common.CommonData.SUGGEST_FORMAT;
+import static seedu.common.CommonData.TOP_FORMAT;
 import static seedu.common.CommonData.UNFAVOURITE_FORMAT;
 import static seedu.common.CommonData.UPDATE_FORMAT;
 
@@ -30,9 +39,18 @@ public class HelpCommand extends Command {
         message += AUTH_FORMAT + "\n";
         message += UPDATE_FORMAT + "\n";
         message += FILTER_FORMAT + "\n";
+        message += FILTER_RANKED_FORMAT + "\n";
         message += FILTER_ADDRESS_FORMAT + "\n";
         message += FILTER_ID_FORMAT + "\n";
+        message += FILTER_FUZZY_FORMAT + "\n";
+        message += FILTER_SOUNDS_FORMAT + "\n";
+        message += FILTER_PATTERN_FORMAT + "\n";
+        message += FILTER_QUERY_FORMAT + "\n";
+        message += FILTER_MIN_FORMAT + "\n";
         message += FIND_FORMAT + "\n";
+        message += TOP_FORMAT + "\n";
+        message += SUGGEST_FORMAT + "\n";
+        message += STATS_FORMAT + "\n";
         message += FAVOURITE_FORMAT + "\n";
         message += UNFAVOURITE_FORMAT;
 
@@ -0,0 +1,50 @@
+package seedu.commands;
+
+import java.util.function.Supplier;
+
+import seedu.data.CarparkList;
+import seedu.data.CarparkRollup;
+import seedu.data.PhoneticIndex;
+import seedu.data.QueryCache;
+
+/**
+ * Represents a command to show the total available lots of each lot type, grouped by area or agency, or the
+ * counters of the search cache, or the size of the phonetic index.
+ */
+public class StatsCommand extends Command {
+    public static final String COMMAND_WORD = "stats";
+    public static final String COMMAND_WORD_SHORT = "st";
+    private final Supplier<String> statsString;
+
+    /**
+     * Constructor for the {@link StatsCommand} class.
+     *
+     * @param rollup {@link CarparkRollup} of the {@link CarparkList} to show the totals of.
+     */
+    public StatsCommand(CarparkRollup rollup) {
+        this.statsString = rollup::getRollupString;
+    }
+
+    /**
+     * Constructor for the {@link StatsCommand} class that shows the counters of a search cache.
+     *
+     * @param queryCache {@link QueryCache} of the {@link CarparkList} to show the counters of.
+     */
+    public StatsCommand(QueryCache queryCache) {
+        this.statsString = queryCache::getStatsString;
+    }
+
+    /**
+     * Constructor for the {@link StatsCommand} class that shows the size of a phonetic index.
+     *
+     * @param phoneticIndex {@link PhoneticIndex} of the {@link CarparkList} to show the size of.
+     */
+    public StatsCommand(PhoneticIndex phoneticIndex) {
+        this.statsString = phoneticIndex::getStatsString;
+    }
+
+    @Override
+    public CommandResult execute() {
+        return new CommandResult(statsString.get(), CommandStatus.MESSAGE);
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.commands;
+
+import java.util.List;
+
+import seedu.data.CarparkList;
+import seedu.data.SuggestionTrie;
+
+/**
+ * Represents a command to list the most common development words and carpark IDs that complete a prefix.
+ */
+public class SuggestCommand extends Command {
+    public static final String COMMAND_WORD = "suggest";
+    public static final String COMMAND_WORD_SHORT = "sug";
+    public static final int DEFAULT_COUNT = 5;
+    private final String prefix;
+    private final int count;
+
+    /**
+     * Constructor for the {@link SuggestCommand} class.
+     *
+     * @param carparkList {@link CarparkList} to take completions from.
+     * @param prefix Prefix to complete.
+     * @param count Number of completions to list.
+     */
+    public SuggestCommand(CarparkList carparkList, String prefix, int count) {
+        this.carparkList = carparkList;
+        this.prefix = prefix;
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute() {
+        SuggestionTrie suggestionTrie = carparkList.getSuggestionTrie();
+        List<String> suggestions = suggestionTrie.suggest(prefix, count);
+        if (suggestions.isEmpty()) {
+            return new CommandResult(String.format("No suggestions found for %s.", prefix), CommandStatus.FAIL);
+        }
+        StringBuilder bufferString = new StringBuilder(String.format("Suggestions for %s:", prefix));
+        for (String suggestion : suggestions) {
+            bufferString.append(String.format("\n@|yellow,bold %s|@ (%s carparks)", suggestion,
+                    suggestionTrie.getFrequency(suggestion)));
+        }
+        return new CommandResult(bufferString.toString(), CommandStatus.MESSAGE);
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.commands;
+
+import java.util.List;
+
+import seedu.data.Carpark;
+import seedu.data.CarparkList;
+import seedu.data.LotType;
+import seedu.exception.NoCarparkFoundException;
+
+/**
+ * Represents a command to list the carparks with the most available lots of a lot type.
+ */
+public class TopCommand extends Command {
+    public static final String COMMAND_WORD = "top";
+    public static final String COMMAND_WORD_SHORT = "t";
+    public static final int DEFAULT_COUNT = 10;
+    private final LotType lotType;
+    private final int count;
+
+    /**
+     * Constructor for the {@link TopCommand} class.
+     *
+     * @param carparkList {@link CarparkList} to rank.
+     * @param lotType Lot type to rank by.
+     * @param count Number of carparks to list.
+     */
+    public TopCommand(CarparkList carparkList, LotType lotType, int count) {
+        this.carparkList = carparkList;
+        this.lotType = lotType;
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute() {
+        try {
+            List<Carpark> result = carparkList.getLotTypeIndex().getTopCarparks(lotType, count);
+            if (result.isEmpty()) {
+                throw new NoCarparkFoundException();
+            }
+            return new CommandResult(getLotTypeListString(result, lotType), CommandStatus.MESSAGE);
+        } catch (NoCarparkFoundException e) {
+            return new CommandResult(e.getMessage(), CommandStatus.FAIL);
+        }
+    }
+
+    /**
+     * Gets a formatted string of carparks that shows the available lots of one lot type, in the given order.
+     *
+     * @param carparks Carparks to list.
+     * @param lotType Lot type to show.
+     * @return Formatted string.
+     */
+    public static String getLotTypeListString(List<Carpark> carparks, LotType lotType) {
+        StringBuilder bufferString = new StringBuilder();
+        for (Carpark carpark : carparks) {
+            bufferString.append(carpark.getLotTypeViewString(lotType)).append("\n");
+        }
+        return bufferString.toString().trim();
+    }
+}
@@ -82,7 +82,7 @@ public class UnfavouriteCommand extends Command {
      * Remove carparks from the favourite list.
      *
      * @param carparkId Carpark IDs to remove.
-     * @throws FileWriteException If unable to write to favourite.txt file.
+     * @throws FileWriteException If unable to write to the favourite log.
      * @throws NoCarparkFoundException If carpark ID is not in favourites.
      */
     public void setUnfavourite(ArrayList<String> carparkId) throws FileWriteException, NoCarparkFoundException {
@@ -91,11 +91,9 @@ public class UnfavouriteCommand extends Command {
             boolean containsSearchStr = Favourite.getFavouriteList().stream().anyMatch(id::equalsIgnoreCase);
             if (!containsSearchStr) {
                 hasNoCarpark = true;
-            } else {
-                Favourite.getFavouriteList().removeIf(value -> value.equalsIgnoreCase(id));
             }
         }
-        favourite.writeFavouriteList();
+        favourite.removeFavourites(carparkId);
         if (hasNoCarpark) {
             throw new NoCarparkFoundException();
         }
@@ -35,9 +35,9 @@ public class UpdateCommand extends Command {
     private String updateCarparkList(ApiInterface api, CarparkList carparkList) {
         try {
             api.syncFetchData();
-            CarparkList newCarparkList = new CarparkList(CommonFiles.LTA_FILE_PATH, CommonFiles.LTA_BACKUP_FILE_PATH);
+            CarparkList newCarparkList = new CarparkList(api.getResponsePath(), CommonFiles.LTA_BACKUP_FILE_PATH);
             carparkList.update(newCarparkList);
-            FileStorage.saveCarparkList(carparkList);
+            FileStorage.scheduleCarparkListSave(carparkList);
             return "Update Successful.";
         } catch (ParkingException e) {
             return "Update unsuccessful. " + e.getMessage();
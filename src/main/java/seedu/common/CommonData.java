@@ -2,6 +2,7 @@ package seedu.common;
 
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.List;
 
 import seedu.data.LotType;
 
@@ -19,6 +20,9 @@ public class CommonData {
             put(LotType.MOTORCYCLE, "Motorcycles");
             put(LotType.HEAVY_VEHICLE, "Heavy Vehicles");
         }};
+    /** Groups of address words that mean the same, so that searching for one also finds the others. */
+    public static final List<List<String>> ADDRESS_SYNONYMS = List.of(List.of("blk", "block"),
+            List.of("ave", "avenue"), List.of("rd", "road"), List.of("st", "street"), List.of("ctr", "centre"));
     public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm:ss");
 
     // Command format
@@ -34,11 +38,32 @@ public class CommonData {
             + "\t: Display information about the specific queried carpark.";
     public static final String FILTER_FORMAT = "`filter QUERY` or `fil QUERY`"
             + "\t: Filter carparks based on Carpark information.";
+    public static final String FILTER_RANKED_FORMAT = "`filter QUERY -k COUNT` or `fil QUERY -k COUNT` "
+            + "\t: List the COUNT carparks most relevant to QUERY, best first.";
 
     public static final String FILTER_ADDRESS_FORMAT = "`filter -address QUERY` or `fil -add QUERY` "
             + "\t: Filter carparks based on its Carpark address.";
     public static final String FILTER_ID_FORMAT = "`filter -id QUERY` or `fil -id QUERY` "
             + "\t: Filter carparks based on its Carpark Id.";
+    public static final String FILTER_FUZZY_FORMAT = "`filter -fuzzy QUERY` or `fil -fuz QUERY` "
+            + "\t: Filter carparks based on its Carpark address, allowing for typos.";
+    public static final String FILTER_SOUNDS_FORMAT = "`filter -sounds QUERY` or `fil -snd QUERY` "
+            + "\t: Filter carparks with address words that sound like QUERY.";
+    public static final String FILTER_PATTERN_FORMAT = "`filter -pattern PATTERN` or `fil -pat PATTERN` "
+            + "\t: Filter carparks with address words matching PATTERN, where * is any text and ? is any letter.";
+    public static final String FILTER_QUERY_FORMAT = "`filter -query QUERY` or `fil -q QUERY` "
+            + "\t: Filter carparks with a query such as `area:marina and (dev:orchard or id:a1*) and not agency:ura "
+            + "and lots.c>=20`.";
+    public static final String FILTER_MIN_FORMAT = "`filter -min LOT_TYPE:LOTS` or `fil -min LOT_TYPE:LOTS` "
+            + "\t: Filter carparks with at least LOTS available lots of LOT_TYPE (C, M or H).";
+    public static final String TOP_FORMAT = "`top -type LOT_TYPE -k COUNT` or `t -type LOT_TYPE -k COUNT` "
+            + "\t: List the COUNT carparks with the most available lots of LOT_TYPE (C, M or H).";
+    public static final String SUGGEST_FORMAT = "`suggest PREFIX -k COUNT` or `sug PREFIX -k COUNT` "
+            + "\t: List the most common address words and carpark IDs starting with PREFIX.";
+    public static final String STATS_FORMAT = "`stats -area` or `st -area` \t: Show total available lots by area."
+            + "\n`stats -agency` or `st -agency` \t: Show total available lots by agency."
+            + "\n`stats -cache` or `st -cache` \t: Show how often searches were answered from the cache."
+            + "\n`stats -phonetic` or `st -phonetic` \t: Show the size of the index used by `filter -sounds`.";
     public static final String UPDATE_FORMAT = "`update` or `u` \t: To fetch the latest data from LTA.";
     public static final String LIST_FORMAT = "`list` or `l` \t: List the carparks and its details.";
     public static final String EXIT_FORMAT = "`exit` or `e` \t: To quit parKING.";
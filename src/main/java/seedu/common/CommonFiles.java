@@ -11,6 +11,7 @@ public class CommonFiles {
     public static final String LTA_JSON_FILE = "ltaResponse.json";
     public static final String CARPARK_LIST_DIRECTORY = "./resources";
     public static final String CARPARK_LIST_FILE = "carparkList.txt";
+    public static final String CARPARK_SNAPSHOT_FILE = "carparkList.bin";
     public static final Path LTA_FILE_PATH = Paths.get(CommonFiles.API_JSON_DIRECTORY, CommonFiles.LTA_JSON_FILE);
     public static final Path LTA_BACKUP_FILE_PATH = Paths.get(CommonFiles.API_JSON_DIRECTORY,
         "ltaResponseSample.json");
@@ -0,0 +1,145 @@
+package seedu.data;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Burkhard-Keller tree over a set of words, for finding every word within an edit distance of a query without
+ * computing the distance to each word. Each child of a node is keyed by its distance to that node, so by the
+ * triangle inequality a search only descends into children whose key is within the bound of the query's distance
+ * to the node. The distance to a node is only computed up to the bound that decides which of its children to visit,
+ * so most nodes are ruled out early.
+ */
+public class BkTree {
+    private Node root;
+    private int size = 0;
+
+    /**
+     * Adds a word to the tree, if not already present.
+     *
+     * @param word Word to add.
+     */
+    public void add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = getEditDistance(node.word, word, Integer.MAX_VALUE);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                node.maxChildKey = Math.max(node.maxChildKey, distance);
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Gets every word in the tree within an edit distance of the query.
+     *
+     * @param word Query word.
+     * @param maxDistance Largest edit distance allowed, inclusive.
+     * @return Matching words with their distances, in no particular order.
+     */
+    public List<Match> search(String word, int maxDistance) {
+        List<Match> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+        ArrayDeque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            // Past this bound, no child is close enough to visit, so the exact distance is not needed.
+            int bound = maxDistance + node.maxChildKey;
+            int distance = getEditDistance(node.word, word, bound);
+            if (distance <= maxDistance) {
+                matches.add(new Match(node.word, distance));
+            }
+            if (distance > bound) {
+                continue;
+            }
+            int lastKey = Math.min(distance + maxDistance, node.maxChildKey);
+            for (int key = Math.max(1, distance - maxDistance); key <= lastKey; key++) {
+                Node child = node.children.get(key);
+                if (child != null) {
+                    nodesToVisit.push(child);
+                }
+            }
+        }
+        return matches;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the Levenshtein distance between two words, stopping early once it is known to exceed a bound.
+     *
+     * @param first First word.
+     * @param second Second word.
+     * @param bound Distance beyond which the exact value is not needed.
+     * @return The edit distance, or a value greater than {@code bound} if it exceeds the bound.
+     */
+    public static int getEditDistance(String first, String second, int bound) {
+        if (Math.abs(first.length() - second.length()) > bound) {
+            return bound + 1;
+        }
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > bound) {
+                return bound + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    /**
+     * A word found by a search, with its edit distance to the query.
+     */
+    public static class Match {
+        public final String word;
+        public final int distance;
+
+        private Match(String word, int distance) {
+            this.word = word;
+            this.distance = distance;
+        }
+    }
+
+    private static class Node {
+        private final String word;
+        private final HashMap<Integer, Node> children = new HashMap<>();
+        /** Largest distance key among the children, or 0 for a leaf. */
+        private int maxChildKey = 0;
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+}
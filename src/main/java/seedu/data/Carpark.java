@@ -3,6 +3,7 @@ package seedu.data;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.regex.Matcher;
@@ -15,13 +16,14 @@ import org.jetbrains.annotations.NotNull;
 import seedu.common.CommonData;
 import seedu.exception.InvalidFormatException;
 import seedu.parser.search.Sentence;
-import seedu.parser.search.Word;
 import seedu.ui.Ui;
 
 /**
  * Carpark class that represents a carpark and all the information stored in it.
  */
 public class Carpark implements Comparable<Carpark> {
+    private static final Pattern CARPARK_ID_PATTERN = Pattern.compile("^[a-zA-Z]*[0-9]*[a-zA-Z]*$|^[0-9]$");
+    private static final Pattern LOT_TYPE_PATTERN = Pattern.compile("^[a-zA-Z]$");
     @JsonIgnore
     private HashMap<LotType, Integer> allAvailableLots = new HashMap<>() { {
             put(LotType.CAR, 0);
@@ -41,6 +43,12 @@ public class Carpark implements Comparable<Carpark> {
     private Sentence developmentSentence;
     @JsonIgnore
     private LocalDateTime lastUpdated;
+    /** Position of this carpark in the indexes of the {@link CarparkList} that owns it. */
+    @JsonIgnore
+    private int ordinal = -1;
+    /** Encoded save line, kept until a saved field changes so that unchanged carparks are not encoded again. */
+    @JsonIgnore
+    private String saveString;
 
     /**
      * Used to print the identifier for a carpark.
@@ -52,20 +60,34 @@ public class Carpark implements Comparable<Carpark> {
         return String.format("CarparkID %s at %s: %s lots available", carparkId, development, availableLots);
     }
 
-    /**
-     * Resets the bolding on every word in the {@link Carpark#developmentSentence} instance.
-     */
-    public void resetBold() {
-        for (Word word : developmentSentence.getWords()) {
-            word.makeBold(false);
-        }
+    public String getListViewString() {
+        return getListViewString(new BitSet());
     }
 
-    public String getListViewString() {
+    /**
+     * Gets a list view string with some words of the development bolded, such as those that matched a search.
+     *
+     * @param highlightedWords Positions of the words in {@link Carpark#developmentSentence} to bold.
+     * @return Formatted string.
+     */
+    public String getListViewString(BitSet highlightedWords) {
         return String.format("CarparkID @|yellow,bold %s|@ at %s\n@|faint -->|@ @|yellow %s|@ "
                 + "available lots total",
             carparkId,
-            developmentSentence.toString(), availableLots);
+            developmentSentence.getHighlightedString(highlightedWords), availableLots);
+    }
+
+    /**
+     * Gets a list view string that shows the available lots of a single lot type instead of the total.
+     *
+     * @param lotType Lot type to show.
+     * @return Formatted string.
+     */
+    public String getLotTypeViewString(LotType lotType) {
+        return String.format("CarparkID @|yellow,bold %s|@ at %s\n@|faint -->|@ @|yellow %s|@ "
+                + "available lots for %s",
+            carparkId, developmentSentence.toString(), allAvailableLots.getOrDefault(lotType, 0),
+            CommonData.LOT_TYPE_TO_STRING.get(lotType));
     }
 
     public String getDetailViewString() {
@@ -96,12 +118,23 @@ public class Carpark implements Comparable<Carpark> {
         return bufferString.toString();
     }
 
-    public String getSaveString() {
+    /**
+     * Gets the line this carpark is saved as, encoding it again only if a saved field changed since it was last
+     * encoded. Synchronised with {@link Carpark#setFavourite(boolean)}, the one change made outside of a
+     * {@link CarparkList} update, since saves are encoded off the command thread.
+     *
+     * @return Save line.
+     */
+    public synchronized String getSaveString() {
+        if (saveString != null) {
+            return saveString;
+        }
         String saveStringFormat = "%s || %s || %s || %s || %s || %s || %s || %s || %s \n";
         String allAvailableLotsString = String.format("%s %s %s", allAvailableLots.get(LotType.CAR),
                 allAvailableLots.get(LotType.MOTORCYCLE), allAvailableLots.get(LotType.HEAVY_VEHICLE));
-        return String.format(saveStringFormat, carparkId, area, development, location, availableLots,
+        saveString = String.format(saveStringFormat, carparkId, area, development, location, availableLots,
                 allAvailableLotsString, isFavourited, agency, lastUpdated.format(CommonData.DATE_TIME_FORMATTER));
+        return saveString;
     }
 
     @JsonProperty("CarParkID")
@@ -111,14 +144,14 @@ public class Carpark implements Comparable<Carpark> {
 
     @JsonProperty("CarParkID")
     public void setCarparkId(String carparkId) throws InvalidFormatException {
+        saveString = null;
         exceptIfBlank(carparkId);
         validateFormat(carparkId);
         this.carparkId = carparkId;
     }
 
     private void validateFormat(String carparkId) throws InvalidFormatException {
-        Pattern carparkIdPattern = Pattern.compile("^[a-zA-Z]*[0-9]*[a-zA-Z]*$|^[0-9]$");
-        Matcher carparkIdMatcher = carparkIdPattern.matcher(carparkId);
+        Matcher carparkIdMatcher = CARPARK_ID_PATTERN.matcher(carparkId);
         if (!carparkIdMatcher.matches()) {
             throw new InvalidFormatException("Invalid Carpark ID format!");
         }
@@ -131,6 +164,7 @@ public class Carpark implements Comparable<Carpark> {
 
     @JsonProperty("Area")
     public void setArea(String area) {
+        saveString = null;
         this.area = area;
     }
 
@@ -141,6 +175,7 @@ public class Carpark implements Comparable<Carpark> {
 
     @JsonProperty("Development")
     public void setDevelopment(String development) throws InvalidFormatException {
+        saveString = null;
         exceptIfBlank(development);
         this.development = development;
         developmentSentence = new Sentence(development);
@@ -153,6 +188,7 @@ public class Carpark implements Comparable<Carpark> {
 
     @JsonProperty("Location")
     public void setLocation(String location) {
+        saveString = null;
         this.location = location;
     }
 
@@ -163,12 +199,13 @@ public class Carpark implements Comparable<Carpark> {
 
     @JsonProperty("LotType")
     public void setLotType(String lotType) throws InvalidFormatException {
+        saveString = null;
         this.lotType = chooseLotType(lotType);
         allAvailableLots.put(this.lotType, this.availableLots);
     }
 
     private LotType chooseLotType(String lotTypeString) throws InvalidFormatException {
-        if (!lotTypeString.trim().matches("^[a-zA-Z]$")) {
+        if (!LOT_TYPE_PATTERN.matcher(lotTypeString.trim()).matches()) {
             throw new InvalidFormatException("Lot type can only be alphabetic!");
         }
         if (lotTypeString.equals("H")) {
@@ -187,6 +224,7 @@ public class Carpark implements Comparable<Carpark> {
 
     @JsonProperty("AvailableLots")
     public void setAvailableLots(String availableLots) throws InvalidFormatException {
+        saveString = null;
         exceptIfBlank(availableLots);
         int parsedValue;
 
@@ -222,14 +260,17 @@ public class Carpark implements Comparable<Carpark> {
 
     @JsonProperty("Agency")
     public void setAgency(String agency) {
+        saveString = null;
         this.agency = agency;
     }
 
     private void setFavourited(boolean bool) {
+        saveString = null;
         isFavourited = bool;
     }
 
     public void setLastUpdated(String dateTimeString) throws InvalidFormatException {
+        saveString = null;
         try {
             lastUpdated = LocalDateTime.parse(dateTimeString, CommonData.DATE_TIME_FORMATTER);
         } catch (DateTimeParseException e) {
@@ -237,6 +278,10 @@ public class Carpark implements Comparable<Carpark> {
         }
     }
 
+    public LocalDateTime getLastUpdated() {
+        return lastUpdated;
+    }
+
     /**
      * Add a carpark lot type to the {@link Carpark#allAvailableLots} Hashmap object,
      * where the key is a {@link LotType} and the value is the number of lots.
@@ -261,6 +306,7 @@ public class Carpark implements Comparable<Carpark> {
     }
 
     private void updateAvailableLotsTotal() {
+        saveString = null;
         int sum = 0;
         for (int lotNumber : allAvailableLots.values()) {
             sum += lotNumber;
@@ -268,6 +314,14 @@ public class Carpark implements Comparable<Carpark> {
         availableLots = sum;
     }
 
+    int getOrdinal() {
+        return ordinal;
+    }
+
+    void setOrdinal(int ordinal) {
+        this.ordinal = ordinal;
+    }
+
     public Sentence getDevelopmentSentence() {
         return developmentSentence;
     }
@@ -318,8 +372,9 @@ public class Carpark implements Comparable<Carpark> {
         }
     }
 
-    public void setFavourite(boolean setFavourite) {
+    public synchronized void setFavourite(boolean setFavourite) {
         isFavourited = setFavourite;
+        saveString = null;
     }
 
 
@@ -345,6 +400,33 @@ public class Carpark implements Comparable<Carpark> {
         return parsedCarpark;
     }
 
+    /**
+     * Creates a carpark from fields that were already validated when they were saved, such as those read from a
+     * binary snapshot, without parsing or validating them again.
+     *
+     * @param carparkId Carpark ID.
+     * @param area Area, which may be empty.
+     * @param development Development.
+     * @param location Location.
+     * @param agency Agency.
+     * @param allAvailableLots Available lots of each lot type.
+     * @param lastUpdated Time the lots were last updated.
+     * @return Restored carpark.
+     */
+    public static Carpark restore(String carparkId, String area, String development, String location, String agency,
+            HashMap<LotType, Integer> allAvailableLots, LocalDateTime lastUpdated) {
+        Carpark carpark = new Carpark();
+        carpark.carparkId = carparkId;
+        carpark.area = area;
+        carpark.development = development;
+        carpark.developmentSentence = new Sentence(development);
+        carpark.location = location;
+        carpark.agency = agency;
+        carpark.setAllAvailableLots(allAvailableLots);
+        carpark.lastUpdated = lastUpdated;
+        return carpark;
+    }
+
     private static void validateNumberOfParams(String saveString) throws InvalidFormatException {
         Pattern delimiterPattern = Pattern.compile("\\|\\|");
         Matcher patternMatcher = delimiterPattern.matcher(saveString);
@@ -359,6 +441,7 @@ public class Carpark implements Comparable<Carpark> {
     }
 
     public void updateTime() {
+        saveString = null;
         lastUpdated = LocalDateTime.now();
     }
 
@@ -1,5 +1,7 @@
 package seedu.data;
 
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
 
 import seedu.commands.FilterAddressCommand;
@@ -8,6 +10,9 @@ import seedu.commands.FilterAddressCommand;
  * A subset of {@link CarparkList} that contains items that were filtered or searched for.
  */
 public class CarparkFilteredList extends CarparkList {
+    /** Words of each carpark's development that matched the search, bolded only when the list is rendered. */
+    private final HashMap<Carpark, BitSet> highlights = new HashMap<>();
+
     /**
      * Constructor for the {@link CarparkList} class. Initializes an object from a given
      * list of {@link Carpark} objects.
@@ -18,16 +23,44 @@ public class CarparkFilteredList extends CarparkList {
         super(carparks);
     }
 
+    /**
+     * Constructor for the {@link CarparkList} class. Initializes an object from a given
+     * list of {@link Carpark} objects, keeping their order if they are already ranked.
+     *
+     * @param carparks {@link List} of {@link Carpark} objects.
+     * @param isRanked If true, the carparks are kept in the given order instead of sorted by ID.
+     */
+    public CarparkFilteredList(List<Carpark> carparks, boolean isRanked) {
+        super(carparks, isRanked);
+    }
+
+    /**
+     * Marks words of a carpark's development as matching the search, for bolding in
+     * {@link CarparkFilteredList#getSearchListString()}. The carpark itself is left unchanged.
+     *
+     * @param carpark Carpark in this list.
+     * @param matchingWords Positions of the matching words in the carpark's development.
+     */
+    void setHighlightedWords(Carpark carpark, BitSet matchingWords) {
+        highlights.put(carpark, matchingWords);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        for (Carpark carpark : getCarparks()) {
+            BitSet matchingWords = highlights.getOrDefault(carpark, new BitSet());
+            result.append(carpark.getListViewString(matchingWords)).append("\n");
+        }
+        return result.toString();
+    }
+
     /**
      * Gets a formatted string for use with the {@link FilterAddressCommand Filter} command.
      *
      * @return Formatted string.
      */
     public String getSearchListString() {
-        StringBuilder bufferString = new StringBuilder();
-        for (Carpark carpark : getCarparks()) {
-            bufferString.append(carpark.getListViewString()).append("\n");
-        }
-        return bufferString.toString().trim();
+        return toString().trim();
     }
 }
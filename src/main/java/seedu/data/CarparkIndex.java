@@ -0,0 +1,24 @@
+package seedu.data;
+
+import java.util.HashMap;
+
+/**
+ * An auxiliary structure built over the {@link Carpark} objects of a {@link CarparkList}. The owning list notifies
+ * each registered index of changes so that it never has to be rebuilt from a full scan.
+ */
+public interface CarparkIndex {
+    /**
+     * Adds a carpark that is new to the owning {@link CarparkList}.
+     *
+     * @param carpark Carpark that was added.
+     */
+    void addCarpark(Carpark carpark);
+
+    /**
+     * Applies a change in the available lots of a carpark already in the owning {@link CarparkList}.
+     *
+     * @param carpark Carpark that was updated, already holding its new lot numbers.
+     * @param oldLots Lot numbers held by the carpark before the update.
+     */
+    void updateCarpark(Carpark carpark, HashMap<LotType, Integer> oldLots);
+}
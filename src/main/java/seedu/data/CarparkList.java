@@ -3,16 +3,24 @@ package seedu.data;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
+import seedu.common.CommonData;
 import seedu.common.CommonFiles;
 import seedu.exception.DuplicateCarparkIdException;
 import seedu.exception.FileWriteException;
 import seedu.exception.InvalidFormatException;
 import seedu.exception.NoCarparkFoundException;
 import seedu.exception.NoFileFoundException;
+import seedu.files.CarparkSnapshot;
 import seedu.files.FileReader;
 import seedu.parser.search.Sentence;
 import seedu.parser.search.Word;
@@ -21,10 +29,47 @@ import seedu.parser.search.Word;
  * Container for all the {@link Carpark} classes. Contains method for finding the carpark.
  */
 public class CarparkList {
+    private static final double DEVELOPMENT_RELEVANCE_WEIGHT = 1.0;
+    private static final double AREA_RELEVANCE_WEIGHT = 0.6;
+    private static final double ID_RELEVANCE_WEIGHT = 1.5;
+    private static final int QUERY_CACHE_CAPACITY = 128;
     public final HashMap<String, Carpark> carparkHashMap = new HashMap<String, Carpark>();
+    private final List<CarparkIndex> indexes = new ArrayList<>();
+    private final CarparkRollup areaRollup = new CarparkRollup("area", Carpark::getArea);
+    private final CarparkRollup agencyRollup = new CarparkRollup("agency", Carpark::getAgency);
+    private final LotTypeIndex lotTypeIndex = new LotTypeIndex();
+    private final SynonymTable synonymTable = new SynonymTable(CommonData.ADDRESS_SYNONYMS);
+    private final TokenIndex tokenIndex = new TokenIndex(carpark -> synonymTable.expand(
+            TokenIndex.getDevelopmentTokens(carpark)), true);
+    private final PhoneticIndex phoneticIndex = new PhoneticIndex(tokenIndex.getTokenizer());
+    private final TokenIndex areaTokenIndex = new TokenIndex(carpark -> TokenIndex.getFieldToken(carpark.getArea()),
+            false);
+    private final TokenIndex idTokenIndex = new TokenIndex(carpark -> TokenIndex.getFieldToken(
+            carpark.getCarparkId()), false);
+    private final TokenIndex agencyTokenIndex = new TokenIndex(carpark -> TokenIndex.getFieldToken(
+            carpark.getAgency()), false);
+    private final RelevanceRanker relevanceRanker = new RelevanceRanker();
+    private final IdGramIndex idGramIndex = new IdGramIndex();
+    private final DevelopmentGramIndex developmentGramIndex = new DevelopmentGramIndex();
+    private final SuggestionTrie suggestionTrie = new SuggestionTrie();
+    private final QueryCache queryCache = new QueryCache(QUERY_CACHE_CAPACITY);
+    private final SearchSession searchSession = new SearchSession();
+    /** Incremented whenever {@link CarparkList#update(CarparkList)} changes any carpark, to expire cached results. */
+    private long dataVersion = 0;
+    /** Carparks indexed by their ordinal, the order in which they were added to the indexes. */
+    private final ArrayList<Carpark> carparksByOrdinal = new ArrayList<>();
     private List<Carpark> carparks;
 
 
+    /**
+     * Constructor for the {@link CarparkList} class. Creates an empty list with its indexes, for carparks to be added
+     * later through {@link CarparkList#update(CarparkList)}, such as when no saved carparks could be loaded.
+     */
+    public CarparkList() {
+        carparks = new ArrayList<>();
+        buildIndexes();
+    }
+
     /**
      * Constructor for the {@link CarparkList} class. Loads from a {@link Path} object
      * that points to a {@code .json} file.
@@ -37,6 +82,42 @@ public class CarparkList {
         carparks = FileReader.loadLtaJson(filepath, filepathBackup);
         combineByLotType();
         sortCarparksById();
+        buildIndexes();
+    }
+
+    /**
+     * Constructor for the {@link CarparkList} class. Loads from a binary {@link CarparkSnapshot}, which holds carparks
+     * that were already validated and combined by lot type when it was written.
+     *
+     * @param snapshot Opened snapshot to decode.
+     * @throws InvalidFormatException If the snapshot is corrupted.
+     */
+    public CarparkList(CarparkSnapshot snapshot) throws InvalidFormatException {
+        this(snapshot, List.of());
+    }
+
+    /**
+     * Constructor for the {@link CarparkList} class. Loads from a base {@link CarparkSnapshot} and the snapshots of
+     * carparks that changed after it, applied in order so that the latest copy of each carpark is kept.
+     *
+     * @param snapshot Opened base snapshot to decode.
+     * @param deltas Snapshots of changed carparks, oldest first.
+     * @throws InvalidFormatException If any snapshot is corrupted.
+     */
+    public CarparkList(CarparkSnapshot snapshot, List<CarparkSnapshot> deltas) throws InvalidFormatException {
+        LinkedHashMap<String, Carpark> carparksById = new LinkedHashMap<>();
+        for (Carpark carpark : snapshot.getCarparks()) {
+            carparksById.put(carpark.getCarparkId().toLowerCase(), carpark);
+        }
+        for (CarparkSnapshot delta : deltas) {
+            for (Carpark carpark : delta.getCarparks()) {
+                carparksById.put(carpark.getCarparkId().toLowerCase(), carpark);
+            }
+        }
+        carparks = new ArrayList<>(carparksById.values());
+        combineByLotType();
+        sortCarparksById();
+        buildIndexes();
     }
 
     /**
@@ -46,9 +127,22 @@ public class CarparkList {
      * @param carparks {@link List} of {@link Carpark} objects.
      */
     CarparkList(List<Carpark> carparks) {
+        this(carparks, false);
+    }
+
+    /**
+     * Constructor for the {@link CarparkList} class. Initializes an object from a given
+     * list of {@link Carpark} objects, keeping their order if they are already ranked.
+     *
+     * @param carparks {@link List} of {@link Carpark} objects.
+     * @param isRanked If true, the carparks are kept in the given order instead of sorted by ID.
+     */
+    CarparkList(List<Carpark> carparks, boolean isRanked) {
         assert carparks != null : "Error creating carparks from list. Please contact the developer!";
         this.carparks = carparks;
-        sortCarparksById();
+        if (!isRanked) {
+            sortCarparksById();
+        }
     }
 
     /**
@@ -85,6 +179,47 @@ public class CarparkList {
         }
         combineByLotType();
         sortCarparksById();
+        buildIndexes();
+    }
+
+    /**
+     * Registers the {@link CarparkIndex} structures kept by this list and fills them with the current carparks.
+     * Filtered lists are short-lived views over carparks owned by another list, and do not build any.
+     */
+    private void buildIndexes() {
+        indexes.add(areaRollup);
+        indexes.add(agencyRollup);
+        indexes.add(lotTypeIndex);
+        indexes.add(tokenIndex);
+        indexes.add(areaTokenIndex);
+        indexes.add(idTokenIndex);
+        indexes.add(agencyTokenIndex);
+        indexes.add(suggestionTrie);
+        indexes.add(phoneticIndex);
+        indexes.add(idGramIndex);
+        indexes.add(developmentGramIndex);
+        relevanceRanker.addField(tokenIndex, DEVELOPMENT_RELEVANCE_WEIGHT);
+        relevanceRanker.addField(areaTokenIndex, AREA_RELEVANCE_WEIGHT);
+        relevanceRanker.addField(idTokenIndex, ID_RELEVANCE_WEIGHT);
+        for (Carpark carpark : carparks) {
+            addToIndexes(carpark);
+        }
+    }
+
+    private void addToIndexes(Carpark carpark) {
+        carpark.setOrdinal(carparksByOrdinal.size());
+        carparksByOrdinal.add(carpark);
+        for (CarparkIndex index : indexes) {
+            index.addCarpark(carpark);
+        }
+    }
+
+    private List<Carpark> getCarparksByOrdinals(int[] ordinals) {
+        List<Carpark> result = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            result.add(carparksByOrdinal.get(ordinal));
+        }
+        return result;
     }
 
     private void sortCarparksById() {
@@ -128,20 +263,25 @@ public class CarparkList {
     /**
      * Filter {@link CarparkList#carparks} with a {@link Sentence} object, where
      * any word must be present as a substring in the carpark object's carparkId field.
+     * Matches are looked up in the {@link IdGramIndex} rather than by scanning every carpark.
      *
      * @param searchQuery {@link Sentence} object to use as a search.
      * @return Filtered {@link CarparkList} object.
      */
     public CarparkFilteredList filterByCarparkId(Sentence searchQuery) {
-        HashSet<Carpark> carparkListBuffer = new HashSet<>();
+        assert !indexes.isEmpty() : "Filtered lists cannot be searched.";
+        List<String> substrings = new ArrayList<>();
         for (Word word : searchQuery.getWords()) {
-            for (Carpark carpark : carparks) {
-                if (carpark.getCarparkId().toLowerCase().contains(word.getText().toLowerCase())) {
-                    carparkListBuffer.add(carpark);
-                }
-            }
+            substrings.add(word.getText().toLowerCase());
         }
-        return new CarparkFilteredList(new ArrayList<>(carparkListBuffer));
+        int[] ordinals = getCachedResult("filter -id", substrings, () -> {
+            List<int[]> matches = new ArrayList<>();
+            for (String substring : substrings) {
+                matches.add(idGramIndex.findBySubstring(substring));
+            }
+            return PostingList.union(matches);
+        });
+        return new CarparkFilteredList(getCarparksByOrdinals(ordinals));
     }
 
     /**
@@ -153,41 +293,286 @@ public class CarparkList {
      * @return Filtered {@link CarparkList} object.
      */
     public CarparkFilteredList filterByAddress(Sentence searchQuery) {
-        HashSet<Carpark> carparkListBuffer = new HashSet<>(carparks);
+        return filterByAllStrings(searchQuery);
+    }
+
+    /**
+     * Filter {@link CarparkList#carparks} with a {@link Sentence} object, where
+     * every word in the query must be present or a prefixing substring of a word
+     * in the {@link Carpark} object's development string, or of a synonym of one such as {@code block} for
+     * {@code blk} (see {@link SynonymTable}). Matches are looked up in the
+     * {@link TokenIndex} rather than by scanning every carpark, or narrowed down from the last
+     * result if the query refines the last one (see {@link SearchSession}).
+     *
+     * @param searchQuery {@link Sentence} object to use as a search.
+     * @return Filtered {@link CarparkList} object.
+     */
+    public CarparkFilteredList filterByAllStrings(Sentence searchQuery) {
+        assert !indexes.isEmpty() : "Filtered lists cannot be searched.";
+        List<String> prefixes = getQueryWords(searchQuery);
+        int[] ordinals = getCachedResult("filter", prefixes, () -> {
+            int[] candidates = searchSession.getCandidates(prefixes, dataVersion);
+            return candidates == null ? tokenIndex.findByAllPrefixes(prefixes) : narrowByAllPrefixes(candidates,
+                    prefixes);
+        });
+        searchSession.remember(prefixes, ordinals, dataVersion);
+        CarparkFilteredList result = new CarparkFilteredList(getCarparksByOrdinals(ordinals));
+        for (Carpark carpark : result.getCarparks()) {
+            result.setHighlightedWords(carpark, getMatchingWords(carpark, prefixes));
+        }
+        return result;
+    }
+
+    /**
+     * Narrows a previous result down to the carparks where every prefix starts some development token.
+     *
+     * @param candidates Sorted ordinals of the previous result.
+     * @param prefixes Case-folded prefixes.
+     * @return Sorted ordinals of the matching carparks.
+     */
+    private int[] narrowByAllPrefixes(int[] candidates, List<String> prefixes) {
+        return Arrays.stream(candidates).filter(ordinal -> {
+            List<String> tokens = tokenIndex.getTokenizer().apply(carparksByOrdinal.get(ordinal));
+            return prefixes.stream().allMatch(prefix -> tokens.stream().anyMatch(token -> token.startsWith(prefix)));
+        }).toArray();
+    }
+
+    /**
+     * Filter {@link CarparkList#carparks} with a {@link Sentence} object, ranking carparks by how relevant their
+     * development, area and ID are to the words in the query, and keeping only the most relevant ones.
+     *
+     * @param searchQuery {@link Sentence} object to use as a search.
+     * @param count Maximum number of carparks to return.
+     * @return Filtered {@link CarparkList} object, most relevant first.
+     */
+    public CarparkFilteredList filterByRelevance(Sentence searchQuery, int count) {
+        assert !indexes.isEmpty() : "Filtered lists cannot be searched.";
+        List<String> prefixes = getQueryWords(searchQuery);
+        int[] ordinals = getCachedResult("filter -k " + count, prefixes, () -> relevanceRanker.rank(prefixes, count));
+        CarparkFilteredList result = new CarparkFilteredList(getCarparksByOrdinals(ordinals), true);
+        for (Carpark carpark : result.getCarparks()) {
+            result.setHighlightedWords(carpark, getMatchingWords(carpark, prefixes));
+        }
+        return result;
+    }
+
+    /**
+     * Gets the result of a search from the {@link QueryCache}, running the search only if the result is not cached
+     * for the current data version. Query words are sorted for the cache key, since no search depends on their order.
+     *
+     * @param command Search command, with any arguments that change the result.
+     * @param queryWords Case-folded query words.
+     * @param search Search to run on a cache miss.
+     * @return Ordinals of the result.
+     */
+    private int[] getCachedResult(String command, List<String> queryWords, Supplier<int[]> search) {
+        List<String> sortedWords = new ArrayList<>(queryWords);
+        Collections.sort(sortedWords);
+        String key = command + " " + String.join(" ", sortedWords);
+        int[] ordinals = queryCache.get(key, dataVersion);
+        if (ordinals == null) {
+            ordinals = search.get();
+            queryCache.put(key, dataVersion, ordinals);
+        }
+        return ordinals;
+    }
+
+    /**
+     * Filter {@link CarparkList#carparks} with a {@link FieldQuery}, which combines conditions on the development,
+     * area, ID, agency and available lots of a carpark.
+     *
+     * @param fieldQuery {@link FieldQuery} object to use as a search.
+     * @return Filtered {@link CarparkList} object.
+     */
+    public CarparkFilteredList filterByQuery(FieldQuery fieldQuery) {
+        assert !indexes.isEmpty() : "Filtered lists cannot be searched.";
+        int[] ordinals = getCachedResult("filter -query", List.of(fieldQuery.toString()),
+                () -> fieldQuery.evaluate(this));
+        CarparkFilteredList result = new CarparkFilteredList(getCarparksByOrdinals(ordinals));
+        List<String> prefixes = new ArrayList<>();
+        fieldQuery.addHighlightPrefixes(prefixes);
+        for (Carpark carpark : result.getCarparks()) {
+            result.setHighlightedWords(carpark, getMatchingWords(carpark, prefixes));
+        }
+        return result;
+    }
+
+    TokenIndex getFieldIndex(FieldQuery.Field field) {
+        switch (field) {
+        case AREA:
+            return areaTokenIndex;
+        case ID:
+            return idTokenIndex;
+        case AGENCY:
+            return agencyTokenIndex;
+        default:
+            return tokenIndex;
+        }
+    }
+
+    Carpark getCarparkByOrdinal(int ordinal) {
+        return carparksByOrdinal.get(ordinal);
+    }
+
+    int getIndexedCarparkCount() {
+        return carparksByOrdinal.size();
+    }
+
+    private static List<String> getQueryWords(Sentence searchQuery) {
+        List<String> queryWords = new ArrayList<>();
         for (Word word : searchQuery.getWords()) {
-            carparkListBuffer = filterBySubstring(carparkListBuffer, word.toString());
+            if (!word.getText().isEmpty()) {
+                queryWords.add(word.getText().toLowerCase());
+            }
         }
-        return new CarparkFilteredList(new ArrayList<>(carparkListBuffer));
+        return queryWords;
     }
 
-    private HashSet<Carpark> filterBySubstring(HashSet<Carpark> carparkList, String wordString) {
-        HashSet<Carpark> bufferList = new HashSet<>();
-        for (Carpark carpark : carparkList) {
-            for (Word word : carpark.getDevelopmentSentence().getWords()) {
-                if (word.toString().toLowerCase().startsWith(wordString.toLowerCase())) {
-                    word.makeBold(true);
-                    bufferList.add(carpark);
+    private BitSet getMatchingWords(Carpark carpark, List<String> prefixes) {
+        BitSet matchingWords = new BitSet();
+        List<Word> words = carpark.getDevelopmentSentence().getWords();
+        for (int i = 0; i < words.size(); i++) {
+            String token = words.get(i).getText().toLowerCase();
+            for (String prefix : prefixes) {
+                if (synonymTable.anyMatch(token, word -> word.startsWith(prefix))) {
+                    matchingWords.set(i);
                     break;
                 }
             }
         }
-        return bufferList;
+        return matchingWords;
     }
 
     /**
-     * Filter {@link CarparkList#carparks} with a {@link Sentence} object, where
-     * every word in the query must be present or a prefixing substring of a word
-     * in the {@link Carpark} object's development string.
+     * Filter {@link CarparkList#carparks} with a {@link Sentence} object, where every word in the query must be
+     * within a small edit distance of a word in the {@link Carpark} object's development string, so that typos
+     * still match. Results are ranked by their total edit distance to the query.
+     *
+     * @param searchQuery {@link Sentence} object to use as a search.
+     * @return Filtered {@link CarparkList} object, closest matches first.
+     */
+    public CarparkFilteredList filterByFuzzyStrings(Sentence searchQuery) {
+        assert !indexes.isEmpty() : "Filtered lists cannot be searched.";
+        List<String> queryWords = getQueryWords(searchQuery);
+        int[] ordinals = getCachedResult("filter -fuzzy", queryWords, () -> rankByFuzzyStrings(queryWords));
+        CarparkFilteredList result = new CarparkFilteredList(getCarparksByOrdinals(ordinals), true);
+        for (Carpark carpark : result.getCarparks()) {
+            result.setHighlightedWords(carpark, getFuzzyMatchingWords(carpark, queryWords));
+        }
+        return result;
+    }
+
+    private int[] rankByFuzzyStrings(List<String> queryWords) {
+        HashMap<Integer, Integer> totalDistances = null;
+        for (String queryWord : queryWords) {
+            HashMap<Integer, Integer> distances = tokenIndex.findByFuzzyToken(queryWord,
+                    getMaxEditDistance(queryWord));
+            if (totalDistances == null) {
+                totalDistances = distances;
+                continue;
+            }
+            HashMap<Integer, Integer> combinedDistances = new HashMap<>();
+            for (Map.Entry<Integer, Integer> entry : totalDistances.entrySet()) {
+                Integer distance = distances.get(entry.getKey());
+                if (distance != null) {
+                    combinedDistances.put(entry.getKey(), entry.getValue() + distance);
+                }
+            }
+            totalDistances = combinedDistances;
+        }
+        if (totalDistances == null) {
+            return new int[0];
+        }
+        final HashMap<Integer, Integer> rankDistances = totalDistances;
+        List<Integer> ordinals = new ArrayList<>(rankDistances.keySet());
+        ordinals.sort((first, second) -> rankDistances.get(first).equals(rankDistances.get(second))
+                ? carparksByOrdinal.get(first).getCarparkId().compareTo(carparksByOrdinal.get(second).getCarparkId())
+                : Integer.compare(rankDistances.get(first), rankDistances.get(second)));
+        return ordinals.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Filter {@link CarparkList#carparks} with a wildcard pattern that must match a run of whole words of the
+     * {@link Carpark} object's development string, such as {@code *plaza*} or {@code orch*rd}. Candidates are looked
+     * up in the {@link DevelopmentGramIndex} and then verified against the pattern.
+     *
+     * @param pattern Case-folded pattern, with at least one trigram in {@link DevelopmentGramIndex#getRequiredGrams}.
+     * @return Filtered {@link CarparkList} object.
+     */
+    public CarparkFilteredList filterByPattern(String pattern) {
+        assert !indexes.isEmpty() : "Filtered lists cannot be searched.";
+        int[] ordinals = getCachedResult("filter -pattern", List.of(pattern),
+                () -> developmentGramIndex.findByPattern(pattern));
+        CarparkFilteredList result = new CarparkFilteredList(getCarparksByOrdinals(ordinals));
+        for (Carpark carpark : result.getCarparks()) {
+            result.setHighlightedWords(carpark, DevelopmentGramIndex.getMatchingWords(carpark, pattern));
+        }
+        return result;
+    }
+
+    /**
+     * Filter {@link CarparkList#carparks} with a {@link Sentence} object, where every word in the query must sound
+     * like a word in the {@link Carpark} object's development string, as judged by their keys in the
+     * {@link PhoneticIndex}.
      *
      * @param searchQuery {@link Sentence} object to use as a search.
      * @return Filtered {@link CarparkList} object.
      */
-    public CarparkFilteredList filterByAllStrings(Sentence searchQuery) {
-        HashSet<Carpark> carparkListBuffer = new HashSet<>(carparks);
-        for (Word word : searchQuery.getWords()) {
-            carparkListBuffer = filterBySubstring(carparkListBuffer, word.toString());
+    public CarparkFilteredList filterBySound(Sentence searchQuery) {
+        assert !indexes.isEmpty() : "Filtered lists cannot be searched.";
+        List<String> queryWords = getQueryWords(searchQuery);
+        int[] ordinals = getCachedResult("filter -sounds", queryWords,
+                () -> phoneticIndex.findBySoundOfAll(queryWords));
+        CarparkFilteredList result = new CarparkFilteredList(getCarparksByOrdinals(ordinals));
+        HashSet<String> queryKeys = new HashSet<>();
+        for (String queryWord : queryWords) {
+            queryKeys.add(PhoneticIndex.getKey(queryWord));
         }
-        return new CarparkFilteredList(new ArrayList<>(carparkListBuffer));
+        for (Carpark carpark : result.getCarparks()) {
+            BitSet matchingWords = new BitSet();
+            List<Word> words = carpark.getDevelopmentSentence().getWords();
+            for (int i = 0; i < words.size(); i++) {
+                if (synonymTable.anyMatch(words.get(i).getText().toLowerCase(),
+                        word -> queryKeys.contains(PhoneticIndex.getKey(word)))) {
+                    matchingWords.set(i);
+                }
+            }
+            result.setHighlightedWords(carpark, matchingWords);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the largest edit distance tolerated for a query word. Short words allow fewer edits, since a couple of
+     * edits would let them match almost anything.
+     *
+     * @param word Query word.
+     * @return Maximum edit distance.
+     */
+    private static int getMaxEditDistance(String word) {
+        if (word.length() <= 2) {
+            return 0;
+        } else if (word.length() <= 5) {
+            return 1;
+        }
+        return 2;
+    }
+
+    private BitSet getFuzzyMatchingWords(Carpark carpark, List<String> queryWords) {
+        BitSet matchingWords = new BitSet();
+        List<Word> words = carpark.getDevelopmentSentence().getWords();
+        for (int i = 0; i < words.size(); i++) {
+            String token = words.get(i).getText().toLowerCase();
+            for (String queryWord : queryWords) {
+                int maxDistance = getMaxEditDistance(queryWord);
+                if (synonymTable.anyMatch(token,
+                        word -> BkTree.getEditDistance(word, queryWord, maxDistance) <= maxDistance)) {
+                    matchingWords.set(i);
+                    break;
+                }
+            }
+        }
+        return matchingWords;
     }
 
     /**
@@ -212,15 +597,39 @@ public class CarparkList {
         return carparks;
     }
 
-    /**
-     * Resets the {@link Word#isBold} attribute in all {@link Carpark} objects to false.
-     */
-    public void resetBoldForAllCarparks() {
-        for (Carpark carpark : carparks) {
-            carpark.resetBold();
-        }
+    public CarparkRollup getAreaRollup() {
+        return areaRollup;
     }
 
+    public CarparkRollup getAgencyRollup() {
+        return agencyRollup;
+    }
+
+    public LotTypeIndex getLotTypeIndex() {
+        return lotTypeIndex;
+    }
+
+    public SuggestionTrie getSuggestionTrie() {
+        return suggestionTrie;
+    }
+
+    public PhoneticIndex getPhoneticIndex() {
+        return phoneticIndex;
+    }
+
+    public SearchSession getSearchSession() {
+        return searchSession;
+    }
+
+    public QueryCache getQueryCache() {
+        return queryCache;
+    }
+
+    public long getDataVersion() {
+        return dataVersion;
+    }
+
+
     public String getSaveString() {
         StringBuilder bufferString = new StringBuilder();
         for (Carpark carpark : carparks) {
@@ -236,20 +645,39 @@ public class CarparkList {
      *
      * @param carparkListNew The new carpark list to update with.
      */
-    public void update(CarparkList carparkListNew) {
+    public synchronized void update(CarparkList carparkListNew) {
+        boolean isChanged = false;
+        // The new list was already combined by lot type, so each of its carparks is merged on its own, and the
+        // carparks of this list are never combined with themselves again.
         for (Carpark carpark : carparkListNew.getCarparks()) {
-            try {
-                Carpark carparkToBeUpdated = findCarpark(carpark.getCarparkId());
-                if (!carpark.getAllAvailableLots().equals(carparkToBeUpdated.getAllAvailableLots())) {
-                    carparkToBeUpdated.updateTime();
-                }
-                carparkToBeUpdated.setAllAvailableLots(carpark.getAllAvailableLots());
-            } catch (NoCarparkFoundException e) {
+            String carparkId = carpark.getCarparkId().toLowerCase();
+            Carpark carparkToBeUpdated = carparkHashMap.get(carparkId);
+            if (carparkToBeUpdated == carpark) {
+                continue;
+            }
+            if (carparkToBeUpdated == null) {
+                isChanged = true;
                 carpark.updateTime();
+                carpark.setAllAvailableLots(new HashMap<>(carpark.getAllAvailableLots()));
+                carparkHashMap.put(carparkId, carpark);
                 carparks.add(carpark);
+                addToIndexes(carpark);
+                continue;
+            }
+            if (carpark.getAllAvailableLots().equals(carparkToBeUpdated.getAllAvailableLots())) {
+                continue;
+            }
+            isChanged = true;
+            HashMap<LotType, Integer> oldLots = new HashMap<>(carparkToBeUpdated.getAllAvailableLots());
+            carparkToBeUpdated.updateTime();
+            carparkToBeUpdated.setAllAvailableLots(new HashMap<>(carpark.getAllAvailableLots()));
+            for (CarparkIndex index : indexes) {
+                index.updateCarpark(carparkToBeUpdated, oldLots);
             }
         }
-        combineByLotType();
+        if (isChanged) {
+            dataVersion++;
+        }
         sortCarparksById();
     }
 }
@@ -0,0 +1,118 @@
+package seedu.data;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import seedu.common.CommonData;
+
+/**
+ * Running totals of available lots per {@link LotType}, grouped by a {@link Carpark} attribute such as its area or
+ * agency. Totals are adjusted by deltas as carparks change, so reading them costs one step per group.
+ */
+public class CarparkRollup implements CarparkIndex {
+    private static final String NO_GROUP_NAME = "(none)";
+
+    private final String groupName;
+    private final Function<Carpark, String> groupKey;
+    private final TreeMap<String, GroupTotals> groups = new TreeMap<>();
+
+    /**
+     * Constructor for the {@link CarparkRollup} class.
+     *
+     * @param groupName Name of the attribute carparks are grouped by, for display.
+     * @param groupKey Function that gives the group a carpark belongs to.
+     */
+    public CarparkRollup(String groupName, Function<Carpark, String> groupKey) {
+        this.groupName = groupName;
+        this.groupKey = groupKey;
+    }
+
+    @Override
+    public void addCarpark(Carpark carpark) {
+        GroupTotals totals = groups.computeIfAbsent(getGroup(carpark), key -> new GroupTotals());
+        totals.carparkCount++;
+        totals.addLots(carpark.getAllAvailableLots(), 1);
+    }
+
+    @Override
+    public void updateCarpark(Carpark carpark, HashMap<LotType, Integer> oldLots) {
+        GroupTotals totals = groups.get(getGroup(carpark));
+        assert totals != null : "Updated carpark was never added to the rollup.";
+        totals.addLots(oldLots, -1);
+        totals.addLots(carpark.getAllAvailableLots(), 1);
+    }
+
+    private String getGroup(Carpark carpark) {
+        String group = groupKey.apply(carpark);
+        if (group == null || group.isBlank()) {
+            return NO_GROUP_NAME;
+        }
+        return group.trim();
+    }
+
+    /**
+     * Gets the number of carparks in a group.
+     *
+     * @param group Group to look up.
+     * @return Number of carparks, or 0 if the group does not exist.
+     */
+    public int getCarparkCount(String group) {
+        GroupTotals totals = groups.get(group);
+        return totals == null ? 0 : totals.carparkCount;
+    }
+
+    /**
+     * Gets the total available lots of a lot type in a group.
+     *
+     * @param group Group to look up.
+     * @param lotType Lot type to total.
+     * @return Total available lots, or 0 if the group does not exist.
+     */
+    public int getTotalLots(String group, LotType lotType) {
+        GroupTotals totals = groups.get(group);
+        return totals == null ? 0 : totals.lots.get(lotType);
+    }
+
+    /**
+     * Gets a formatted string listing the totals of every group.
+     *
+     * @return Formatted string.
+     */
+    public String getRollupString() {
+        StringBuilder bufferString = new StringBuilder();
+        bufferString.append(String.format("Available lots by %s:", groupName));
+        for (Map.Entry<String, GroupTotals> entry : groups.entrySet()) {
+            GroupTotals totals = entry.getValue();
+            bufferString.append(String.format("\n@|yellow,bold %s|@ (%s carparks)", entry.getKey(),
+                    totals.carparkCount));
+            for (LotType lotType : LotType.values()) {
+                bufferString.append(String.format("\n@|faint -->|@ %s: @|yellow %s|@",
+                        CommonData.LOT_TYPE_TO_STRING.get(lotType), totals.lots.get(lotType)));
+            }
+        }
+        return bufferString.toString();
+    }
+
+    /**
+     * Carpark count and lot totals of a single group.
+     */
+    private static class GroupTotals {
+        private final EnumMap<LotType, Integer> lots = new EnumMap<>(LotType.class);
+        private int carparkCount = 0;
+
+        private GroupTotals() {
+            for (LotType lotType : LotType.values()) {
+                lots.put(lotType, 0);
+            }
+        }
+
+        private void addLots(HashMap<LotType, Integer> lotsToAdd, int sign) {
+            for (LotType lotType : LotType.values()) {
+                lots.put(lotType, lots.get(lotType) + sign * lotsToAdd.getOrDefault(lotType, 0));
+            }
+        }
+    }
+}
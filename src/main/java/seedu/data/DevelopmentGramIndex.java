@@ -0,0 +1,178 @@
+package seedu.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.parser.search.Word;
+
+/**
+ * Trigram index over the case-folded development strings of a {@link CarparkList}, for wildcard patterns such as
+ * {@code *plaza*} or {@code orch*rd}. A pattern matches a run of whole words of a development, where {@code *} stands
+ * for any characters and {@code ?} for any single character. Each development is padded with a space on either side
+ * before it is split into trigrams, so the literal parts of a pattern next to a word boundary give trigrams too. A
+ * pattern is answered by intersecting the postings of every trigram of its literal parts and verifying the remaining
+ * candidates, and is never answered by scanning every carpark.
+ */
+public class DevelopmentGramIndex implements CarparkIndex {
+    private static final int GRAM_LENGTH = 3;
+
+    private final HashMap<String, PostingList> grams = new HashMap<>();
+    /** Case-folded developments by ordinal, with words separated by single spaces, for verifying candidates. */
+    private final ArrayList<String> developmentsByOrdinal = new ArrayList<>();
+
+    @Override
+    public void addCarpark(Carpark carpark) {
+        String development = getDevelopmentString(carpark);
+        while (developmentsByOrdinal.size() <= carpark.getOrdinal()) {
+            developmentsByOrdinal.add(null);
+        }
+        developmentsByOrdinal.set(carpark.getOrdinal(), development);
+        String paddedDevelopment = " " + development + " ";
+        HashSet<String> developmentGrams = new HashSet<>();
+        for (int start = 0; start + GRAM_LENGTH <= paddedDevelopment.length(); start++) {
+            developmentGrams.add(paddedDevelopment.substring(start, start + GRAM_LENGTH));
+        }
+        for (String gram : developmentGrams) {
+            grams.computeIfAbsent(gram, key -> new PostingList()).add(carpark.getOrdinal());
+        }
+    }
+
+    @Override
+    public void updateCarpark(Carpark carpark, HashMap<LotType, Integer> oldLots) {
+        // Developments do not change when lots are updated.
+    }
+
+    /**
+     * Gets the trigrams that every development matching a pattern must contain.
+     *
+     * @param pattern Case-folded pattern.
+     * @return List of distinct trigrams, empty if the pattern has too few letters in a row to be looked up.
+     */
+    public static List<String> getRequiredGrams(String pattern) {
+        List<String> requiredGrams = new ArrayList<>();
+        for (String literal : (" " + pattern + " ").split("[*?]")) {
+            for (int start = 0; start + GRAM_LENGTH <= literal.length(); start++) {
+                String gram = literal.substring(start, start + GRAM_LENGTH);
+                if (!requiredGrams.contains(gram)) {
+                    requiredGrams.add(gram);
+                }
+            }
+        }
+        return requiredGrams;
+    }
+
+    /**
+     * Compiles a pattern into a regular expression matching a run of whole words, with each literal part of the
+     * pattern in its own group.
+     *
+     * @param pattern Case-folded pattern.
+     * @return Compiled regular expression.
+     */
+    public static Pattern compile(String pattern) {
+        StringBuilder regex = new StringBuilder("(?<=^| )");
+        StringBuilder literal = new StringBuilder();
+        for (char character : pattern.toCharArray()) {
+            if (character == '*' || character == '?') {
+                regex.append('(').append(Pattern.quote(literal.toString())).append(')')
+                        .append(character == '*' ? ".*?" : ".");
+                literal.setLength(0);
+            } else {
+                literal.append(character);
+            }
+        }
+        regex.append('(').append(Pattern.quote(literal.toString())).append(")(?= |$)");
+        return Pattern.compile(regex.toString());
+    }
+
+    /**
+     * Gets the ordinals of carparks with a run of whole words in their development matching a pattern.
+     *
+     * @param pattern Case-folded pattern, which must have at least one required trigram.
+     * @return Sorted array of ordinals.
+     */
+    public int[] findByPattern(String pattern) {
+        List<String> requiredGrams = getRequiredGrams(pattern);
+        assert !requiredGrams.isEmpty() : "Pattern cannot be looked up without a trigram.";
+        List<PostingList> postingLists = new ArrayList<>();
+        for (String gram : requiredGrams) {
+            PostingList postingList = grams.get(gram);
+            if (postingList == null) {
+                return new int[0];
+            }
+            postingLists.add(postingList);
+        }
+        postingLists.sort(Comparator.comparingInt(PostingList::size));
+        int[] candidates = postingLists.get(0).toArray();
+        for (int i = 1; i < postingLists.size() && candidates.length > 0; i++) {
+            candidates = PostingList.intersect(candidates, postingLists.get(i).toArray());
+        }
+        Matcher matcher = compile(pattern).matcher("");
+        int[] result = new int[candidates.length];
+        int count = 0;
+        for (int ordinal : candidates) {
+            if (matcher.reset(developmentsByOrdinal.get(ordinal)).find()) {
+                result[count++] = ordinal;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Gets the positions of the words of a carpark's development that contain the literal parts of a match of a
+     * pattern, so that words only covered by a wildcard are left out.
+     *
+     * @param carpark Carpark to check.
+     * @param pattern Case-folded pattern.
+     * @return Positions of the matching words in the development {@link seedu.parser.search.Sentence}.
+     */
+    public static BitSet getMatchingWords(Carpark carpark, String pattern) {
+        List<Word> words = carpark.getDevelopmentSentence().getWords();
+        List<Integer> wordStarts = new ArrayList<>();
+        List<Integer> wordPositions = new ArrayList<>();
+        StringBuilder development = new StringBuilder();
+        for (int i = 0; i < words.size(); i++) {
+            if (words.get(i).getText().isEmpty()) {
+                continue;
+            }
+            if (development.length() > 0) {
+                development.append(' ');
+            }
+            wordStarts.add(development.length());
+            wordPositions.add(i);
+            development.append(words.get(i).getText().toLowerCase());
+        }
+        BitSet matchingWords = new BitSet();
+        Matcher matcher = compile(pattern).matcher(development);
+        while (matcher.find()) {
+            for (int group = 1; group <= matcher.groupCount(); group++) {
+                if (matcher.start(group) == matcher.end(group)) {
+                    continue;
+                }
+                for (int i = 0; i < wordStarts.size(); i++) {
+                    int wordEnd = wordStarts.get(i) + words.get(wordPositions.get(i)).getText().length();
+                    if (matcher.start(group) < wordEnd && matcher.end(group) > wordStarts.get(i)) {
+                        matchingWords.set(wordPositions.get(i));
+                    }
+                }
+            }
+        }
+        return matchingWords;
+    }
+
+    private static String getDevelopmentString(Carpark carpark) {
+        List<String> words = new ArrayList<>();
+        for (Word word : carpark.getDevelopmentSentence().getWords()) {
+            if (!word.getText().isEmpty()) {
+                words.add(word.getText().toLowerCase());
+            }
+        }
+        return String.join(" ", words);
+    }
+}
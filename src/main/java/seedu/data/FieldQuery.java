@@ -0,0 +1,394 @@
+package seedu.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * A parsed boolean query over the fields of a {@link Carpark}, such as
+ * {@code area:marina and (dev:orchard or id:a1*) and not agency:ura and lots.c>=20}. Each node answers with a sorted
+ * array of carpark ordinals from the indexes of a {@link CarparkList}. An AND node runs its most selective children
+ * first and stops as soon as its result is empty. Once its result is much smaller than the next child, the remaining
+ * carparks are checked one by one instead of looking up the child in full, and NOT children are only ever removed
+ * from a result rather than listing every carpark that does not match.
+ */
+public abstract class FieldQuery {
+    /** How many times larger than the current result a child must be for the result to be checked one by one. */
+    private static final int VERIFY_RATIO = 8;
+
+    /**
+     * A carpark attribute that can be searched by a {@link FieldQuery}.
+     */
+    public enum Field {
+        DEVELOPMENT("dev"), AREA("area"), ID("id"), AGENCY("agency");
+
+        private final String name;
+
+        Field(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    /**
+     * Estimates the number of carparks matching this query, to order the children of an AND node.
+     *
+     * @param carparkList {@link CarparkList} to search.
+     * @return Estimated number of carparks.
+     */
+    abstract int estimateSize(CarparkList carparkList);
+
+    /**
+     * Gets the carparks matching this query.
+     *
+     * @param carparkList {@link CarparkList} to search.
+     * @return Sorted array of ordinals.
+     */
+    abstract int[] evaluate(CarparkList carparkList);
+
+    /**
+     * Checks if a single carpark matches this query.
+     *
+     * @param carparkList {@link CarparkList} the carpark belongs to.
+     * @param carpark Carpark to check.
+     * @return True if the carpark matches.
+     */
+    abstract boolean matches(CarparkList carparkList, Carpark carpark);
+
+    /**
+     * Adds the development prefixes that a matching carpark must contain, for highlighting.
+     *
+     * @param prefixes List to add to.
+     */
+    void addHighlightPrefixes(List<String> prefixes) {
+    }
+
+    /**
+     * Gets the query in a normalised form, which is the same for queries that differ only in spacing or brackets.
+     *
+     * @return Normalised query.
+     */
+    @Override
+    public abstract String toString();
+
+    /**
+     * Creates a query for carparks with a field matching a value.
+     *
+     * @param field Field to search.
+     * @param value Case-folded value. Development values match the beginning of any word of the development, and
+     *      other values match the whole field.
+     * @param isPrefix If true, the value only needs to match the beginning of the field.
+     * @return Query.
+     */
+    public static FieldQuery field(Field field, String value, boolean isPrefix) {
+        return new FieldTerm(field, value, isPrefix || field == Field.DEVELOPMENT);
+    }
+
+    /**
+     * Creates a query for carparks with available lots of a lot type within a range.
+     *
+     * @param lotType Lot type to compare.
+     * @param minimumLots Minimum number of available lots, inclusive.
+     * @param maximumLots Maximum number of available lots, inclusive.
+     * @return Query.
+     */
+    public static FieldQuery lots(LotType lotType, int minimumLots, int maximumLots) {
+        assert minimumLots <= maximumLots : "Lots range is empty, use noLots instead.";
+        return new LotsTerm(lotType, minimumLots, maximumLots);
+    }
+
+    /**
+     * Creates a query on the available lots of a lot type that no carpark matches, such as fewer than 0 lots.
+     *
+     * @param lotType Lot type to compare.
+     * @return Query.
+     */
+    public static FieldQuery noLots(LotType lotType) {
+        // An empty range, which the lot type index and the scan both treat as matching nothing.
+        return new LotsTerm(lotType, 0, -1);
+    }
+
+    /**
+     * Creates a query for carparks matching every one of the given queries.
+     *
+     * @param children Queries to combine.
+     * @return Query.
+     */
+    public static FieldQuery and(List<FieldQuery> children) {
+        return children.size() == 1 ? children.get(0) : new And(children);
+    }
+
+    /**
+     * Creates a query for carparks matching any of the given queries.
+     *
+     * @param children Queries to combine.
+     * @return Query.
+     */
+    public static FieldQuery or(List<FieldQuery> children) {
+        return children.size() == 1 ? children.get(0) : new Or(children);
+    }
+
+    /**
+     * Creates a query for carparks not matching the given query.
+     *
+     * @param child Query to negate.
+     * @return Query.
+     */
+    public static FieldQuery not(FieldQuery child) {
+        return child instanceof Not ? ((Not) child).child : new Not(child);
+    }
+
+    private static int[] getAllOrdinals(CarparkList carparkList) {
+        return IntStream.range(0, carparkList.getIndexedCarparkCount()).toArray();
+    }
+
+    /**
+     * Narrows a result down to the carparks that do or do not match a query, checking them one by one if the result
+     * is much smaller than the query and combining ordinals otherwise.
+     */
+    private static int[] narrow(CarparkList carparkList, int[] result, FieldQuery fieldQuery, boolean isIncluded) {
+        if (fieldQuery.estimateSize(carparkList) > (long) result.length * VERIFY_RATIO) {
+            return Arrays.stream(result).filter(ordinal -> fieldQuery.matches(carparkList,
+                    carparkList.getCarparkByOrdinal(ordinal)) == isIncluded).toArray();
+        }
+        int[] matches = fieldQuery.evaluate(carparkList);
+        return isIncluded ? PostingList.intersect(result, matches) : PostingList.difference(result, matches);
+    }
+
+    private static String join(List<FieldQuery> children, String operator) {
+        List<String> childStrings = new ArrayList<>();
+        for (FieldQuery child : children) {
+            childStrings.add(child.toString());
+        }
+        return "(" + String.join(" " + operator + " ", childStrings) + ")";
+    }
+
+    /**
+     * Matches a value against one field through its {@link TokenIndex}.
+     */
+    private static class FieldTerm extends FieldQuery {
+        private final Field field;
+        private final String value;
+        private final boolean isPrefix;
+
+        private FieldTerm(Field field, String value, boolean isPrefix) {
+            this.field = field;
+            this.value = value;
+            this.isPrefix = isPrefix;
+        }
+
+        @Override
+        int estimateSize(CarparkList carparkList) {
+            TokenIndex fieldIndex = carparkList.getFieldIndex(field);
+            return isPrefix ? fieldIndex.countByPrefix(value) : fieldIndex.getDocumentFrequency(value);
+        }
+
+        @Override
+        int[] evaluate(CarparkList carparkList) {
+            TokenIndex fieldIndex = carparkList.getFieldIndex(field);
+            return isPrefix ? fieldIndex.findByPrefix(value) : fieldIndex.findByToken(value);
+        }
+
+        @Override
+        boolean matches(CarparkList carparkList, Carpark carpark) {
+            for (String token : carparkList.getFieldIndex(field).getTokenizer().apply(carpark)) {
+                if (isPrefix ? token.startsWith(value) : token.equals(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        void addHighlightPrefixes(List<String> prefixes) {
+            if (field == Field.DEVELOPMENT) {
+                prefixes.add(value);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return field.getName() + ":" + value + (isPrefix && field != Field.DEVELOPMENT ? "*" : "");
+        }
+    }
+
+    /**
+     * Matches a range of available lots through the {@link LotTypeIndex}.
+     */
+    private static class LotsTerm extends FieldQuery {
+        private final LotType lotType;
+        private final int minimumLots;
+        private final int maximumLots;
+
+        private LotsTerm(LotType lotType, int minimumLots, int maximumLots) {
+            this.lotType = lotType;
+            this.minimumLots = minimumLots;
+            this.maximumLots = maximumLots;
+        }
+
+        @Override
+        int estimateSize(CarparkList carparkList) {
+            return carparkList.getLotTypeIndex().countInRange(lotType, minimumLots, maximumLots);
+        }
+
+        @Override
+        int[] evaluate(CarparkList carparkList) {
+            return carparkList.getLotTypeIndex().getOrdinalsInRange(lotType, minimumLots, maximumLots);
+        }
+
+        @Override
+        boolean matches(CarparkList carparkList, Carpark carpark) {
+            int lots = carpark.getAllAvailableLots().getOrDefault(lotType, 0);
+            return lots >= minimumLots && lots <= maximumLots;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("lots.%s:%s..%s", lotType, minimumLots, maximumLots);
+        }
+    }
+
+    private static class And extends FieldQuery {
+        private final List<FieldQuery> children;
+
+        private And(List<FieldQuery> children) {
+            this.children = children;
+        }
+
+        @Override
+        int estimateSize(CarparkList carparkList) {
+            int estimate = carparkList.getIndexedCarparkCount();
+            for (FieldQuery child : children) {
+                if (!(child instanceof Not)) {
+                    estimate = Math.min(estimate, child.estimateSize(carparkList));
+                }
+            }
+            return estimate;
+        }
+
+        @Override
+        int[] evaluate(CarparkList carparkList) {
+            List<FieldQuery> includes = new ArrayList<>();
+            List<FieldQuery> excludes = new ArrayList<>();
+            for (FieldQuery child : children) {
+                if (child instanceof Not) {
+                    excludes.add(((Not) child).child);
+                } else {
+                    includes.add(child);
+                }
+            }
+            includes.sort(Comparator.comparingInt(child -> child.estimateSize(carparkList)));
+            int[] result = includes.isEmpty() ? getAllOrdinals(carparkList) : includes.get(0).evaluate(carparkList);
+            for (int i = 1; i < includes.size() && result.length > 0; i++) {
+                result = narrow(carparkList, result, includes.get(i), true);
+            }
+            for (int i = 0; i < excludes.size() && result.length > 0; i++) {
+                result = narrow(carparkList, result, excludes.get(i), false);
+            }
+            return result;
+        }
+
+        @Override
+        boolean matches(CarparkList carparkList, Carpark carpark) {
+            for (FieldQuery child : children) {
+                if (!child.matches(carparkList, carpark)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        void addHighlightPrefixes(List<String> prefixes) {
+            for (FieldQuery child : children) {
+                child.addHighlightPrefixes(prefixes);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return join(children, "and");
+        }
+    }
+
+    private static class Or extends FieldQuery {
+        private final List<FieldQuery> children;
+
+        private Or(List<FieldQuery> children) {
+            this.children = children;
+        }
+
+        @Override
+        int estimateSize(CarparkList carparkList) {
+            int estimate = 0;
+            for (FieldQuery child : children) {
+                estimate += child.estimateSize(carparkList);
+            }
+            return Math.min(estimate, carparkList.getIndexedCarparkCount());
+        }
+
+        @Override
+        int[] evaluate(CarparkList carparkList) {
+            List<int[]> results = new ArrayList<>();
+            for (FieldQuery child : children) {
+                results.add(child.evaluate(carparkList));
+            }
+            return PostingList.union(results);
+        }
+
+        @Override
+        boolean matches(CarparkList carparkList, Carpark carpark) {
+            for (FieldQuery child : children) {
+                if (child.matches(carparkList, carpark)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        void addHighlightPrefixes(List<String> prefixes) {
+            for (FieldQuery child : children) {
+                child.addHighlightPrefixes(prefixes);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return join(children, "or");
+        }
+    }
+
+    private static class Not extends FieldQuery {
+        private final FieldQuery child;
+
+        private Not(FieldQuery child) {
+            this.child = child;
+        }
+
+        @Override
+        int estimateSize(CarparkList carparkList) {
+            return Math.max(carparkList.getIndexedCarparkCount() - child.estimateSize(carparkList), 0);
+        }
+
+        @Override
+        int[] evaluate(CarparkList carparkList) {
+            return PostingList.difference(getAllOrdinals(carparkList), child.evaluate(carparkList));
+        }
+
+        @Override
+        boolean matches(CarparkList carparkList, Carpark carpark) {
+            return !child.matches(carparkList, carpark);
+        }
+
+        @Override
+        public String toString() {
+            return "not " + child;
+        }
+    }
+}
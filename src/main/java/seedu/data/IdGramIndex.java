@@ -0,0 +1,74 @@
+package seedu.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+
+/**
+ * N-gram index over the case-folded {@link Carpark} IDs of a {@link CarparkList}, for substring search. Every
+ * substring of up to {@link IdGramIndex#GRAM_LENGTH} characters of every ID is indexed, so queries of that length
+ * are answered by a single lookup. Longer queries intersect the postings of their trigrams and verify the few
+ * remaining candidates.
+ */
+public class IdGramIndex implements CarparkIndex {
+    private static final int GRAM_LENGTH = 3;
+
+    private final HashMap<String, PostingList> grams = new HashMap<>();
+    /** Case-folded carpark IDs by ordinal, for verifying candidates. */
+    private final ArrayList<String> idsByOrdinal = new ArrayList<>();
+
+    @Override
+    public void addCarpark(Carpark carpark) {
+        String carparkId = carpark.getCarparkId().toLowerCase();
+        while (idsByOrdinal.size() <= carpark.getOrdinal()) {
+            idsByOrdinal.add(null);
+        }
+        idsByOrdinal.set(carpark.getOrdinal(), carparkId);
+        HashSet<String> idGrams = new HashSet<>();
+        for (int length = 1; length <= GRAM_LENGTH; length++) {
+            for (int start = 0; start + length <= carparkId.length(); start++) {
+                idGrams.add(carparkId.substring(start, start + length));
+            }
+        }
+        for (String gram : idGrams) {
+            grams.computeIfAbsent(gram, key -> new PostingList()).add(carpark.getOrdinal());
+        }
+    }
+
+    @Override
+    public void updateCarpark(Carpark carpark, HashMap<LotType, Integer> oldLots) {
+        // Carpark IDs do not change when lots are updated.
+    }
+
+    /**
+     * Gets the ordinals of carparks whose ID contains the given string.
+     *
+     * @param substring Case-folded string to search for.
+     * @return Sorted array of ordinals.
+     */
+    public int[] findBySubstring(String substring) {
+        if (substring.length() <= GRAM_LENGTH) {
+            PostingList postingList = grams.get(substring);
+            return postingList == null ? new int[0] : postingList.toArray();
+        }
+        int[] candidates = null;
+        for (int start = 0; start + GRAM_LENGTH <= substring.length(); start++) {
+            PostingList postingList = grams.get(substring.substring(start, start + GRAM_LENGTH));
+            if (postingList == null) {
+                return new int[0];
+            }
+            candidates = candidates == null
+                    ? postingList.toArray()
+                    : PostingList.intersect(candidates, postingList.toArray());
+        }
+        int[] result = new int[candidates.length];
+        int count = 0;
+        for (int ordinal : candidates) {
+            if (idsByOrdinal.get(ordinal).contains(substring)) {
+                result[count++] = ordinal;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.data;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Orders the {@link Carpark} objects of a {@link CarparkList} by their available lots, separately for every
+ * {@link LotType}. Carparks with the same number of lots share a bucket, and buckets are kept in a balanced tree, so
+ * the k carparks with the most lots or all carparks above a threshold are found in O(log n + k).
+ */
+public class LotTypeIndex implements CarparkIndex {
+    private final EnumMap<LotType, TreeMap<Integer, LinkedHashSet<Carpark>>> lotTrees = new EnumMap<>(LotType.class);
+
+    /**
+     * Constructor for the {@link LotTypeIndex} class.
+     */
+    public LotTypeIndex() {
+        for (LotType lotType : LotType.values()) {
+            lotTrees.put(lotType, new TreeMap<>());
+        }
+    }
+
+    @Override
+    public void addCarpark(Carpark carpark) {
+        for (LotType lotType : LotType.values()) {
+            addToBucket(lotType, carpark.getAllAvailableLots().getOrDefault(lotType, 0), carpark);
+        }
+    }
+
+    @Override
+    public void updateCarpark(Carpark carpark, HashMap<LotType, Integer> oldLots) {
+        for (LotType lotType : LotType.values()) {
+            int oldLotNumber = oldLots.getOrDefault(lotType, 0);
+            int newLotNumber = carpark.getAllAvailableLots().getOrDefault(lotType, 0);
+            if (oldLotNumber != newLotNumber) {
+                removeFromBucket(lotType, oldLotNumber, carpark);
+                addToBucket(lotType, newLotNumber, carpark);
+            }
+        }
+    }
+
+    private void addToBucket(LotType lotType, int lotNumber, Carpark carpark) {
+        lotTrees.get(lotType).computeIfAbsent(lotNumber, key -> new LinkedHashSet<>()).add(carpark);
+    }
+
+    private void removeFromBucket(LotType lotType, int lotNumber, Carpark carpark) {
+        TreeMap<Integer, LinkedHashSet<Carpark>> lotTree = lotTrees.get(lotType);
+        LinkedHashSet<Carpark> bucket = lotTree.get(lotNumber);
+        assert bucket != null && bucket.contains(carpark) : "Carpark missing from its lot type bucket.";
+        bucket.remove(carpark);
+        if (bucket.isEmpty()) {
+            lotTree.remove(lotNumber);
+        }
+    }
+
+    /**
+     * Gets the carparks with the most available lots of a lot type, in descending order of lots.
+     *
+     * @param lotType Lot type to rank by.
+     * @param count Maximum number of carparks to return.
+     * @return List of at most {@code count} carparks.
+     */
+    public List<Carpark> getTopCarparks(LotType lotType, int count) {
+        List<Carpark> result = new ArrayList<>();
+        for (LinkedHashSet<Carpark> bucket : lotTrees.get(lotType).descendingMap().values()) {
+            for (Carpark carpark : bucket) {
+                if (result.size() == count) {
+                    return result;
+                }
+                result.add(carpark);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets every carpark with at least a given number of available lots of a lot type, in descending order of lots.
+     *
+     * @param lotType Lot type to compare.
+     * @param minimumLots Minimum number of available lots, inclusive.
+     * @return List of carparks that meet the threshold.
+     */
+    public List<Carpark> getCarparksWithAtLeast(LotType lotType, int minimumLots) {
+        List<Carpark> result = new ArrayList<>();
+        for (LinkedHashSet<Carpark> bucket : lotTrees.get(lotType).tailMap(minimumLots, true)
+                .descendingMap().values()) {
+            result.addAll(bucket);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the ordinals of every carpark with available lots of a lot type within a range.
+     *
+     * @param lotType Lot type to compare.
+     * @param minimumLots Minimum number of available lots, inclusive.
+     * @param maximumLots Maximum number of available lots, inclusive.
+     * @return Sorted array of ordinals.
+     */
+    public int[] getOrdinalsInRange(LotType lotType, int minimumLots, int maximumLots) {
+        if (minimumLots > maximumLots) {
+            return new int[0];
+        }
+        List<Integer> ordinals = new ArrayList<>();
+        for (LinkedHashSet<Carpark> bucket : lotTrees.get(lotType).subMap(minimumLots, true, maximumLots, true)
+                .values()) {
+            for (Carpark carpark : bucket) {
+                ordinals.add(carpark.getOrdinal());
+            }
+        }
+        return ordinals.stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    /**
+     * Counts the carparks with available lots of a lot type within a range, one step per distinct lot number.
+     *
+     * @param lotType Lot type to compare.
+     * @param minimumLots Minimum number of available lots, inclusive.
+     * @param maximumLots Maximum number of available lots, inclusive.
+     * @return Number of carparks.
+     */
+    public int countInRange(LotType lotType, int minimumLots, int maximumLots) {
+        if (minimumLots > maximumLots) {
+            return 0;
+        }
+        int count = 0;
+        for (LinkedHashSet<Carpark> bucket : lotTrees.get(lotType).subMap(minimumLots, true, maximumLots, true)
+                .values()) {
+            count += bucket.size();
+        }
+        return count;
+    }
+}
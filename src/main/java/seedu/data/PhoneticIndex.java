@@ -0,0 +1,244 @@
+package seedu.data;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Inverted index from the phonetic keys of the development tokens of a {@link Carpark} to the ordinals of the
+ * carparks containing them, so that words spelt the way they sound, such as {@code tampenis} for {@code TAMPINES},
+ * are found with a single hash lookup. Keys follow the Metaphone rules, which drop vowels after the first letter and
+ * fold letters that sound alike. Tokens with digits in them are kept as they are, since block numbers have no sound
+ * to match on.
+ */
+public class PhoneticIndex implements CarparkIndex {
+    /** Longest phonetic key kept, so that long words still match when their endings are garbled. */
+    private static final int MAX_KEY_LENGTH = 6;
+    /** Rough sizes in bytes of a string, a hash map entry and a posting list, for estimating memory use. */
+    private static final int STRING_OVERHEAD = 40;
+    private static final int ENTRY_OVERHEAD = 32;
+    private static final int POSTING_LIST_OVERHEAD = 32;
+
+    private final HashMap<String, PostingList> postings = new HashMap<>();
+    private final Function<Carpark, List<String>> tokenizer;
+    private int carparkCount = 0;
+
+    /**
+     * Constructor for the {@link PhoneticIndex} class.
+     *
+     * @param tokenizer Function that gives the case-folded tokens of a carpark.
+     */
+    public PhoneticIndex(Function<Carpark, List<String>> tokenizer) {
+        this.tokenizer = tokenizer;
+    }
+
+    @Override
+    public void addCarpark(Carpark carpark) {
+        carparkCount++;
+        for (String token : tokenizer.apply(carpark)) {
+            postings.computeIfAbsent(getKey(token), key -> new PostingList()).add(carpark.getOrdinal());
+        }
+    }
+
+    @Override
+    public void updateCarpark(Carpark carpark, HashMap<LotType, Integer> oldLots) {
+        // Tokens do not change when lots are updated.
+    }
+
+    /**
+     * Gets the ordinals of the carparks with a token that sounds like every one of the given words.
+     *
+     * @param words Case-folded words.
+     * @return Sorted array of ordinals.
+     */
+    public int[] findBySoundOfAll(List<String> words) {
+        if (words.isEmpty()) {
+            return new int[0];
+        }
+        int[] result = null;
+        for (String word : words) {
+            PostingList postingList = postings.get(getKey(word));
+            if (postingList == null) {
+                return new int[0];
+            }
+            result = result == null ? postingList.toArray() : PostingList.intersect(result, postingList.toArray());
+        }
+        return result;
+    }
+
+    /**
+     * Estimates the memory used by the keys and posting lists of this index.
+     *
+     * @return Estimated size in bytes.
+     */
+    public long getMemoryFootprint() {
+        long bytes = 0;
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            bytes += STRING_OVERHEAD + 2L * entry.getKey().length() + ENTRY_OVERHEAD + POSTING_LIST_OVERHEAD
+                    + 4L * entry.getValue().getCapacity();
+        }
+        return bytes;
+    }
+
+    /**
+     * Gets the number of phonetic keys, carparks and estimated memory use of this index, for display.
+     *
+     * @return Stats string.
+     */
+    public String getStatsString() {
+        return String.format("Phonetic index: @|yellow %s|@ keys for @|yellow %s|@ carparks\n"
+                + "@|faint -->|@ Estimated memory: @|yellow %s|@ KB", postings.size(), carparkCount,
+                (getMemoryFootprint() + 1023) / 1024);
+    }
+
+    /**
+     * Gets the phonetic key of a word, or the word itself if it has any digits or no letter that is sounded.
+     *
+     * @param word Case-folded word.
+     * @return Phonetic key.
+     */
+    public static String getKey(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.isDigit(word.charAt(i))) {
+                return "#" + word;
+            }
+        }
+        String key = getMetaphone(word);
+        return key.isEmpty() ? "#" + word : key;
+    }
+
+    private static String getMetaphone(String word) {
+        StringBuilder letters = new StringBuilder();
+        for (char character : word.toUpperCase().toCharArray()) {
+            if (character >= 'A' && character <= 'Z') {
+                letters.append(character);
+            }
+        }
+        String text = letters.toString();
+        if (text.startsWith("AE") || text.startsWith("GN") || text.startsWith("KN") || text.startsWith("PN")
+                || text.startsWith("WR")) {
+            text = text.substring(1);
+        } else if (text.startsWith("X")) {
+            text = "S" + text.substring(1);
+        } else if (text.startsWith("WH")) {
+            text = "W" + text.substring(2);
+        }
+
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < text.length() && key.length() < MAX_KEY_LENGTH; i++) {
+            char current = text.charAt(i);
+            if (current != 'C' && i > 0 && text.charAt(i - 1) == current) {
+                continue;
+            }
+            char next = i + 1 < text.length() ? text.charAt(i + 1) : '\0';
+            char afterNext = i + 2 < text.length() ? text.charAt(i + 2) : '\0';
+            char previous = i > 0 ? text.charAt(i - 1) : '\0';
+            switch (current) {
+            case 'A':
+                //Fallthrough
+            case 'E':
+                //Fallthrough
+            case 'I':
+                //Fallthrough
+            case 'O':
+                //Fallthrough
+            case 'U':
+                if (i == 0) {
+                    key.append('A');
+                }
+                break;
+            case 'B':
+                if (!(previous == 'M' && i == text.length() - 1)) {
+                    key.append('B');
+                }
+                break;
+            case 'C':
+                if (next == 'I' && afterNext == 'A' || next == 'H') {
+                    key.append(previous == 'S' && next == 'H' ? 'K' : 'X');
+                } else if (next == 'I' || next == 'E' || next == 'Y') {
+                    if (previous != 'S') {
+                        key.append('S');
+                    }
+                } else {
+                    key.append('K');
+                }
+                break;
+            case 'D':
+                key.append(next == 'G' && isFrontVowel(afterNext) ? 'J' : 'T');
+                break;
+            case 'G':
+                if (next == 'H' && !(i + 2 == text.length() || isVowel(afterNext))) {
+                    break;
+                }
+                if (next == 'N' && (i + 2 == text.length()
+                        || text.startsWith("ED", i + 2) && i + 4 == text.length())) {
+                    break;
+                }
+                key.append(isFrontVowel(next) && previous != 'G' ? 'J' : 'K');
+                break;
+            case 'H':
+                if (isVowel(next) && !(previous == 'C' || previous == 'S' || previous == 'P' || previous == 'T'
+                        || previous == 'G')) {
+                    key.append('H');
+                }
+                break;
+            case 'K':
+                if (previous != 'C') {
+                    key.append('K');
+                }
+                break;
+            case 'P':
+                key.append(next == 'H' ? 'F' : 'P');
+                break;
+            case 'Q':
+                key.append('K');
+                break;
+            case 'S':
+                if (next == 'H' || next == 'I' && (afterNext == 'O' || afterNext == 'A')) {
+                    key.append('X');
+                } else {
+                    key.append('S');
+                }
+                break;
+            case 'T':
+                if (next == 'I' && (afterNext == 'O' || afterNext == 'A')) {
+                    key.append('X');
+                } else if (next == 'H') {
+                    key.append('0');
+                } else if (!(next == 'C' && afterNext == 'H')) {
+                    key.append('T');
+                }
+                break;
+            case 'V':
+                key.append('F');
+                break;
+            case 'W':
+                //Fallthrough
+            case 'Y':
+                if (isVowel(next)) {
+                    key.append(current);
+                }
+                break;
+            case 'X':
+                key.append("KS");
+                break;
+            case 'Z':
+                key.append('S');
+                break;
+            default:
+                key.append(current);
+                break;
+            }
+        }
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key.toString();
+    }
+
+    private static boolean isVowel(char character) {
+        return "AEIOU".indexOf(character) >= 0 && character != '\0';
+    }
+
+    private static boolean isFrontVowel(char character) {
+        return "EIY".indexOf(character) >= 0 && character != '\0';
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.data;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A growable list of {@link Carpark} ordinals in ascending order, as held by the search indexes of a
+ * {@link CarparkList}. Ordinals only ever grow, so appending keeps the list sorted and lists can be combined by
+ * merging.
+ */
+public class PostingList {
+    private int[] ordinals = new int[2];
+    private int size = 0;
+
+    /**
+     * Appends an ordinal, ignoring it if it is already the last one in the list.
+     *
+     * @param ordinal Ordinal to append, not smaller than the last one.
+     */
+    public void add(int ordinal) {
+        if (size > 0 && ordinals[size - 1] == ordinal) {
+            return;
+        }
+        assert size == 0 || ordinals[size - 1] < ordinal : "Ordinals must be added in ascending order.";
+        if (size == ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, size * 2);
+        }
+        ordinals[size++] = ordinal;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    int getCapacity() {
+        return ordinals.length;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(ordinals, size);
+    }
+
+    /**
+     * Gets the ordinals found in both sorted arrays.
+     *
+     * @param first Sorted array of ordinals.
+     * @param second Sorted array of ordinals.
+     * @return Sorted array of the common ordinals.
+     */
+    public static int[] intersect(int[] first, int[] second) {
+        int[] result = new int[Math.min(first.length, second.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                result[count++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Gets the ordinals found in the first sorted array but not the second.
+     *
+     * @param first Sorted array of ordinals.
+     * @param second Sorted array of ordinals to remove.
+     * @return Sorted array of the remaining ordinals.
+     */
+    public static int[] difference(int[] first, int[] second) {
+        int[] result = new int[first.length];
+        int count = 0;
+        int j = 0;
+        for (int ordinal : first) {
+            while (j < second.length && second[j] < ordinal) {
+                j++;
+            }
+            if (j == second.length || second[j] != ordinal) {
+                result[count++] = ordinal;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Gets the ordinals found in any of the sorted arrays.
+     *
+     * @param lists Sorted arrays of ordinals.
+     * @return Sorted array of every ordinal, without duplicates.
+     */
+    public static int[] union(List<int[]> lists) {
+        if (lists.isEmpty()) {
+            return new int[0];
+        } else if (lists.size() == 1) {
+            return lists.get(0);
+        }
+        BitSet bitSet = new BitSet();
+        for (int[] list : lists) {
+            for (int ordinal : list) {
+                bitSet.set(ordinal);
+            }
+        }
+        return bitSet.stream().toArray();
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded least recently used cache of search results, keyed by a normalised query string. Results are kept as
+ * carpark ordinals and tagged with the data version of the {@link CarparkList} they came from, so a result is never
+ * served after the list has changed.
+ */
+public class QueryCache {
+    private final int capacity;
+    private final LinkedHashMap<String, Entry> entries;
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+
+    /**
+     * Constructor for the {@link QueryCache} class.
+     *
+     * @param capacity Maximum number of results to keep.
+     */
+    public QueryCache(int capacity) {
+        this.capacity = capacity;
+        // Access order makes the first entry the least recently used one.
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > QueryCache.this.capacity) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets a cached result, if one exists for the given data version.
+     *
+     * @param key Normalised query.
+     * @param dataVersion Current data version of the owning {@link CarparkList}.
+     * @return Ordinals of the result, or null if there is no result for this version.
+     */
+    public int[] get(String key, long dataVersion) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.dataVersion != dataVersion) {
+            if (entry != null) {
+                entries.remove(key);
+            }
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return entry.ordinals;
+    }
+
+    /**
+     * Caches a result, evicting the least recently used one if the cache is full.
+     *
+     * @param key Normalised query.
+     * @param dataVersion Data version of the owning {@link CarparkList} the result was computed from.
+     * @param ordinals Ordinals of the result. The array must not be changed afterwards.
+     */
+    public void put(String key, long dataVersion, int[] ordinals) {
+        entries.put(key, new Entry(dataVersion, ordinals));
+    }
+
+    public int getSize() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Gets a formatted string of the cache counters.
+     *
+     * @return Formatted string.
+     */
+    public String getStatsString() {
+        return String.format("Search cache: @|yellow %s|@ of %s results cached\n"
+                + "@|faint -->|@ Hits: @|yellow %s|@\n@|faint -->|@ Misses: @|yellow %s|@\n"
+                + "@|faint -->|@ Evictions: @|yellow %s|@", entries.size(), capacity, hitCount, missCount,
+                evictionCount);
+    }
+
+    /**
+     * A cached result and the data version it was computed from.
+     */
+    private static class Entry {
+        private final long dataVersion;
+        private final int[] ordinals;
+
+        private Entry(long dataVersion, int[] ordinals) {
+            this.dataVersion = dataVersion;
+            this.ordinals = ordinals;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Ranks carparks against a multi-word query with BM25-style scoring over one or more {@link TokenIndex} fields.
+ * Each query word scores a carpark by its best matching token across fields: rarer tokens and shorter fields score
+ * higher, and a token equal to the query word scores higher than one it only prefixes. Only the requested number of
+ * best carparks are kept, in a bounded heap, so matches are never sorted as a whole.
+ */
+public class RelevanceRanker {
+    private static final double TERM_SATURATION = 1.2;
+    private static final double LENGTH_NORMALISATION = 0.75;
+    private static final double EXACT_MATCH_WEIGHT = 1.0;
+    private static final double PREFIX_MATCH_WEIGHT = 0.5;
+
+    private final List<TokenIndex> fieldIndexes = new ArrayList<>();
+    private final List<Double> fieldWeights = new ArrayList<>();
+
+    /**
+     * Adds a field to score carparks on.
+     *
+     * @param fieldIndex Index over the field's tokens.
+     * @param weight Weight of matches in this field relative to other fields.
+     */
+    public void addField(TokenIndex fieldIndex, double weight) {
+        fieldIndexes.add(fieldIndex);
+        fieldWeights.add(weight);
+    }
+
+    /**
+     * Gets the carparks most relevant to a query.
+     *
+     * @param words Case-folded query words.
+     * @param count Maximum number of carparks to return.
+     * @return Ordinals of the best carparks, most relevant first.
+     */
+    public int[] rank(List<String> words, int count) {
+        HashMap<Integer, Double> totalScores = new HashMap<>();
+        for (String word : words) {
+            for (Map.Entry<Integer, Double> entry : getWordScores(word).entrySet()) {
+                totalScores.merge(entry.getKey(), entry.getValue(), Double::sum);
+            }
+        }
+
+        // Min-heap of the best carparks so far; the weakest is evicted when a better one is found.
+        PriorityQueue<Map.Entry<Integer, Double>> bestScores = new PriorityQueue<>((first, second) ->
+                first.getValue().equals(second.getValue())
+                        ? Integer.compare(second.getKey(), first.getKey())
+                        : Double.compare(first.getValue(), second.getValue()));
+        for (Map.Entry<Integer, Double> entry : totalScores.entrySet()) {
+            bestScores.offer(entry);
+            if (bestScores.size() > count) {
+                bestScores.poll();
+            }
+        }
+        int[] result = new int[bestScores.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = bestScores.poll().getKey();
+        }
+        return result;
+    }
+
+    private HashMap<Integer, Double> getWordScores(String word) {
+        HashMap<Integer, Double> wordScores = new HashMap<>();
+        for (int i = 0; i < fieldIndexes.size(); i++) {
+            TokenIndex fieldIndex = fieldIndexes.get(i);
+            double averageLength = Math.max(fieldIndex.getAverageDocumentLength(), 1);
+            for (Map.Entry<String, PostingList> entry : fieldIndex.getTokensByPrefix(word).entrySet()) {
+                double matchWeight = entry.getKey().equals(word) ? EXACT_MATCH_WEIGHT : PREFIX_MATCH_WEIGHT;
+                double tokenWeight = fieldWeights.get(i) * matchWeight
+                        * getInverseDocumentFrequency(fieldIndex.getDocumentCount(), entry.getValue().size());
+                for (int ordinal : entry.getValue().toArray()) {
+                    // Tokens rarely repeat within a field, so the term frequency is taken as 1.
+                    double lengthRatio = fieldIndex.getDocumentLength(ordinal) / averageLength;
+                    double score = tokenWeight * (TERM_SATURATION + 1)
+                            / (1 + TERM_SATURATION * (1 - LENGTH_NORMALISATION + LENGTH_NORMALISATION * lengthRatio));
+                    wordScores.merge(ordinal, score, Math::max);
+                }
+            }
+        }
+        return wordScores;
+    }
+
+    private static double getInverseDocumentFrequency(int documentCount, int documentFrequency) {
+        return Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Remembers the last prefix search of a session, so that a refined search such as {@code orchard road} after
+ * {@code orch} only has to check the carparks the last search found. A search refines the last one if every last
+ * query word starts one of its own words, since any carpark it matches then also matched the last search. The
+ * remembered result is tagged with the data version of the owning {@link CarparkList} and is ignored once that
+ * changes.
+ */
+public class SearchSession {
+    private List<String> lastWords = new ArrayList<>();
+    private int[] lastOrdinals = new int[0];
+    private long lastDataVersion = -1;
+    private long narrowedCount = 0;
+
+    /**
+     * Gets the result of the last search if the given search refines it.
+     *
+     * @param words Case-folded query words of the new search.
+     * @param dataVersion Current data version of the owning {@link CarparkList}.
+     * @return Ordinals of the carparks that can match the new search, or null if it does not refine the last one.
+     */
+    public int[] getCandidates(List<String> words, long dataVersion) {
+        if (dataVersion != lastDataVersion || lastWords.isEmpty()) {
+            return null;
+        }
+        for (String lastWord : lastWords) {
+            if (words.stream().noneMatch(word -> word.startsWith(lastWord))) {
+                return null;
+            }
+        }
+        narrowedCount++;
+        return lastOrdinals;
+    }
+
+    /**
+     * Remembers the result of a search.
+     *
+     * @param words Case-folded query words of the search.
+     * @param ordinals Ordinals of the result. The array must not be changed afterwards.
+     * @param dataVersion Data version of the owning {@link CarparkList} the result was found in.
+     */
+    public void remember(List<String> words, int[] ordinals, long dataVersion) {
+        lastWords = new ArrayList<>(words);
+        lastOrdinals = ordinals;
+        lastDataVersion = dataVersion;
+    }
+
+    public long getNarrowedCount() {
+        return narrowedCount;
+    }
+}
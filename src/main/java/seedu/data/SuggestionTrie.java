@@ -0,0 +1,160 @@
+package seedu.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+import seedu.parser.search.Word;
+
+/**
+ * A trie of development words and carpark IDs, weighted by the number of carparks that contain each. Every node keeps
+ * its most frequent completions, so suggesting completions for a prefix only walks the prefix and never the subtree
+ * below it. Children are kept in sorted arrays rather than maps to keep the many small nodes compact.
+ */
+public class SuggestionTrie implements CarparkIndex {
+    /** Most completions kept at each node, and so the most that can be suggested at once. */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private final Node root = new Node();
+    /** Number of carparks containing each case-folded word. */
+    private final HashMap<String, Integer> frequencies = new HashMap<>();
+    /** Word as first seen in the data, for display. */
+    private final HashMap<String, String> displayWords = new HashMap<>();
+
+    @Override
+    public void addCarpark(Carpark carpark) {
+        HashSet<String> words = new HashSet<>();
+        for (Word word : carpark.getDevelopmentSentence().getWords()) {
+            if (!word.getText().isEmpty()) {
+                words.add(word.getText());
+            }
+        }
+        words.add(carpark.getCarparkId());
+        HashSet<String> keys = new HashSet<>();
+        for (String word : words) {
+            String key = word.toLowerCase();
+            if (keys.add(key)) {
+                displayWords.putIfAbsent(key, word);
+                addWord(key);
+            }
+        }
+    }
+
+    @Override
+    public void updateCarpark(Carpark carpark, HashMap<LotType, Integer> oldLots) {
+        // Words and IDs never change when lots are updated.
+    }
+
+    private void addWord(String key) {
+        frequencies.merge(key, 1, Integer::sum);
+        Node node = root;
+        node.offer(key);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.getOrAddChild(key.charAt(i));
+            node.offer(key);
+        }
+    }
+
+    /**
+     * Gets the most frequent words and carpark IDs starting with a prefix.
+     *
+     * @param prefix Prefix to complete, in any case.
+     * @param count Maximum number of completions, up to {@link SuggestionTrie#MAX_SUGGESTIONS}.
+     * @return Completions as first seen in the data, most frequent first.
+     */
+    public List<String> suggest(String prefix, int count) {
+        Node node = root;
+        String key = prefix.toLowerCase();
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.getChild(key.charAt(i));
+        }
+        List<String> result = new ArrayList<>();
+        if (node == null) {
+            return result;
+        }
+        for (int i = 0; i < node.topSize && result.size() < count; i++) {
+            result.add(displayWords.get(node.topWords[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of carparks containing a word or with a carpark ID.
+     *
+     * @param word Word or carpark ID, in any case.
+     * @return Number of carparks.
+     */
+    public int getFrequency(String word) {
+        return frequencies.getOrDefault(word.toLowerCase(), 0);
+    }
+
+    /**
+     * A trie node, with its children sorted by character and its most frequent completions.
+     */
+    private class Node {
+        private char[] childKeys = new char[0];
+        private Node[] children = new Node[0];
+        /** Grown on demand, since most nodes deep in the trie only ever have one completion. */
+        private String[] topWords = new String[1];
+        private int topSize = 0;
+
+        private Node getChild(char key) {
+            int index = Arrays.binarySearch(childKeys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node getOrAddChild(char key) {
+            int index = Arrays.binarySearch(childKeys, key);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            char[] newKeys = new char[childKeys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(childKeys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = key;
+            newChildren[insertAt] = new Node();
+            System.arraycopy(childKeys, insertAt, newKeys, insertAt + 1, childKeys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            childKeys = newKeys;
+            children = newChildren;
+            return newChildren[insertAt];
+        }
+
+        /**
+         * Updates the most frequent completions after the frequency of a word below this node went up by one.
+         */
+        private void offer(String word) {
+            int index = 0;
+            while (index < topSize && !topWords[index].equals(word)) {
+                index++;
+            }
+            if (index == topSize) {
+                if (topSize < MAX_SUGGESTIONS) {
+                    if (topSize == topWords.length) {
+                        topWords = Arrays.copyOf(topWords, Math.min(topSize * 2, MAX_SUGGESTIONS));
+                    }
+                    topSize++;
+                } else if (isRankedBefore(topWords[topSize - 1], word)) {
+                    return;
+                }
+                index = topSize - 1;
+            }
+            // Move the word up past the completions it now outranks.
+            while (index > 0 && isRankedBefore(word, topWords[index - 1])) {
+                topWords[index] = topWords[index - 1];
+                index--;
+            }
+            topWords[index] = word;
+        }
+
+        private boolean isRankedBefore(String first, String second) {
+            int firstFrequency = frequencies.get(first);
+            int secondFrequency = frequencies.get(second);
+            return firstFrequency != secondFrequency ? firstFrequency > secondFrequency : first.compareTo(second) < 0;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Table of words that mean the same in an address, such as {@code blk} and {@code block}. Tokens are expanded with
+ * their synonyms when a carpark is indexed, so a query for either word is still a single index lookup.
+ */
+public class SynonymTable {
+    private final HashMap<String, List<String>> synonyms = new HashMap<>();
+
+    /**
+     * Constructor for the {@link SynonymTable} class.
+     *
+     * @param groups Groups of case-folded words that mean the same.
+     */
+    public SynonymTable(List<List<String>> groups) {
+        for (List<String> group : groups) {
+            for (String word : group) {
+                synonyms.computeIfAbsent(word, key -> new ArrayList<>());
+                for (String synonym : group) {
+                    if (!synonym.equals(word) && !synonyms.get(word).contains(synonym)) {
+                        synonyms.get(word).add(synonym);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the synonyms of a word, not including the word itself.
+     *
+     * @param token Case-folded word.
+     * @return List of synonyms, empty if there are none.
+     */
+    public List<String> getSynonyms(String token) {
+        return synonyms.getOrDefault(token, List.of());
+    }
+
+    /**
+     * Expands a list of tokens with the synonyms of each that are not already in it, keeping the original tokens
+     * first and in order.
+     *
+     * @param tokens Case-folded tokens.
+     * @return List of tokens and their synonyms.
+     */
+    public List<String> expand(List<String> tokens) {
+        List<String> expandedTokens = new ArrayList<>(tokens);
+        for (String token : tokens) {
+            for (String synonym : getSynonyms(token)) {
+                if (!expandedTokens.contains(synonym)) {
+                    expandedTokens.add(synonym);
+                }
+            }
+        }
+        return expandedTokens;
+    }
+
+    /**
+     * Checks if a word or any of its synonyms passes a test.
+     *
+     * @param token Case-folded word.
+     * @param test Test to apply.
+     * @return True if the word or a synonym passes.
+     */
+    public boolean anyMatch(String token, Predicate<String> test) {
+        return test.test(token) || getSynonyms(token).stream().anyMatch(test);
+    }
+}
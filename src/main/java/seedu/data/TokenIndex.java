@@ -0,0 +1,219 @@
+package seedu.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import seedu.parser.search.Word;
+
+/**
+ * Inverted index from the case-folded tokens of a {@link Carpark} field, such as the words of its development, to
+ * the ordinals of the carparks containing them. Tokens are kept in sorted order, so all tokens sharing a prefix form
+ * one contiguous range.
+ */
+public class TokenIndex implements CarparkIndex {
+    private final TreeMap<String, PostingList> postings = new TreeMap<>();
+    private final Function<Carpark, List<String>> tokenizer;
+    /** The same tokens, arranged for typo-tolerant lookup, or null if not needed. */
+    private final BkTree bkTree;
+    /** Number of tokens of each carpark by ordinal, for length normalisation when ranking. */
+    private int[] documentLengths = new int[16];
+    private int documentCount = 0;
+    private long totalDocumentLength = 0;
+
+    /**
+     * Constructor for the {@link TokenIndex} class.
+     *
+     * @param tokenizer Function that gives the case-folded tokens of a carpark.
+     * @param isFuzzy If true, also supports lookups within an edit distance.
+     */
+    public TokenIndex(Function<Carpark, List<String>> tokenizer, boolean isFuzzy) {
+        this.tokenizer = tokenizer;
+        this.bkTree = isFuzzy ? new BkTree() : null;
+    }
+
+    @Override
+    public void addCarpark(Carpark carpark) {
+        List<String> tokens = tokenizer.apply(carpark);
+        int ordinal = carpark.getOrdinal();
+        if (ordinal >= documentLengths.length) {
+            documentLengths = Arrays.copyOf(documentLengths, Math.max(ordinal + 1, documentLengths.length * 2));
+        }
+        documentLengths[ordinal] = tokens.size();
+        documentCount++;
+        totalDocumentLength += tokens.size();
+        for (String token : tokens) {
+            PostingList postingList = postings.get(token);
+            if (postingList == null) {
+                postingList = new PostingList();
+                postings.put(token, postingList);
+                if (bkTree != null) {
+                    bkTree.add(token);
+                }
+            }
+            postingList.add(ordinal);
+        }
+    }
+
+    @Override
+    public void updateCarpark(Carpark carpark, HashMap<LotType, Integer> oldLots) {
+        // Tokens do not change when lots are updated.
+    }
+
+    /**
+     * Gets the case-folded words of a carpark's development.
+     *
+     * @param carpark Carpark to tokenize.
+     * @return List of non-empty words, in order.
+     */
+    public static List<String> getDevelopmentTokens(Carpark carpark) {
+        List<String> tokens = new ArrayList<>();
+        for (Word word : carpark.getDevelopmentSentence().getWords()) {
+            String token = word.getText().toLowerCase();
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Gets a single case-folded token for a carpark field, or no tokens if the field is blank.
+     *
+     * @param field Field value.
+     * @return List of at most one token.
+     */
+    public static List<String> getFieldToken(String field) {
+        if (field == null || field.isBlank()) {
+            return new ArrayList<>();
+        }
+        return List.of(field.trim().toLowerCase());
+    }
+
+    public Function<Carpark, List<String>> getTokenizer() {
+        return tokenizer;
+    }
+
+    /**
+     * Gets the number of carparks that contain a token.
+     *
+     * @param token Case-folded token.
+     * @return Document frequency of the token.
+     */
+    public int getDocumentFrequency(String token) {
+        PostingList postingList = postings.get(token);
+        return postingList == null ? 0 : postingList.size();
+    }
+
+    public int getDocumentLength(int ordinal) {
+        return documentLengths[ordinal];
+    }
+
+    public int getDocumentCount() {
+        return documentCount;
+    }
+
+    public double getAverageDocumentLength() {
+        return documentCount == 0 ? 0 : (double) totalDocumentLength / documentCount;
+    }
+
+    /**
+     * Gets the tokens starting with the given prefix, with the carparks containing each.
+     *
+     * @param prefix Case-folded prefix.
+     * @return Sorted map from token to posting list.
+     */
+    public Map<String, PostingList> getTokensByPrefix(String prefix) {
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+    }
+
+    /**
+     * Gets the ordinals of carparks with exactly the given token.
+     *
+     * @param token Case-folded token.
+     * @return Sorted array of ordinals.
+     */
+    public int[] findByToken(String token) {
+        PostingList postingList = postings.get(token);
+        return postingList == null ? new int[0] : postingList.toArray();
+    }
+
+    /**
+     * Estimates the number of carparks with a token starting with the given prefix, without merging their posting
+     * lists. Carparks with several such tokens are counted once for each.
+     *
+     * @param prefix Case-folded prefix.
+     * @return Upper bound of the number of carparks.
+     */
+    public int countByPrefix(String prefix) {
+        int count = 0;
+        for (PostingList postingList : getTokensByPrefix(prefix).values()) {
+            count += postingList.size();
+        }
+        return count;
+    }
+
+    /**
+     * Gets the ordinals of carparks with a token starting with the given prefix.
+     *
+     * @param prefix Case-folded prefix.
+     * @return Sorted array of ordinals.
+     */
+    public int[] findByPrefix(String prefix) {
+        List<int[]> lists = new ArrayList<>();
+        for (PostingList postingList : getTokensByPrefix(prefix).values()) {
+            lists.add(postingList.toArray());
+        }
+        return PostingList.union(lists);
+    }
+
+    /**
+     * Gets the ordinals of carparks where every prefix starts some token.
+     *
+     * @param prefixes Case-folded prefixes.
+     * @return Sorted array of ordinals.
+     */
+    public int[] findByAllPrefixes(List<String> prefixes) {
+        List<int[]> lists = new ArrayList<>();
+        for (String prefix : prefixes) {
+            int[] ordinals = findByPrefix(prefix);
+            if (ordinals.length == 0) {
+                return ordinals;
+            }
+            lists.add(ordinals);
+        }
+        if (lists.isEmpty()) {
+            return new int[0];
+        }
+        // Intersect the most selective lists first so intermediate results stay small.
+        lists.sort((first, second) -> Integer.compare(first.length, second.length));
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = PostingList.intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Gets the carparks with a token within an edit distance of the given word, each with the smallest
+     * such distance among its tokens.
+     *
+     * @param word Case-folded word.
+     * @param maxDistance Largest edit distance allowed, inclusive.
+     * @return Map from ordinal to edit distance.
+     */
+    public HashMap<Integer, Integer> findByFuzzyToken(String word, int maxDistance) {
+        assert bkTree != null : "This index does not support fuzzy lookups.";
+        HashMap<Integer, Integer> distances = new HashMap<>();
+        for (BkTree.Match match : bkTree.search(word, maxDistance)) {
+            for (int ordinal : postings.get(match.word).toArray()) {
+                distances.merge(ordinal, match.distance, Math::min);
+            }
+        }
+        return distances;
+    }
+}
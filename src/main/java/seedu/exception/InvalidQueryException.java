@@ -0,0 +1,27 @@
+package seedu.exception;
+
+/**
+ * Exception for when a field query given to the filter command cannot be parsed.
+ */
+public class InvalidQueryException extends ParkingException {
+
+    private final String message;
+
+    /**
+     * Constructor for the exception.
+     *
+     * @param message Message to be printed.
+     */
+    public InvalidQueryException(String message) {
+        super();
+        this.message = message;
+    }
+
+    /**
+     * Message to be returned.
+     */
+    @Override
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,191 @@
+package seedu.files;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.zip.CRC32;
+
+import seedu.data.Carpark;
+import seedu.data.LotType;
+
+/**
+ * File of the available lots of the carparks in a base {@link CarparkSnapshot}, one fixed-width record per record of
+ * the base, so that a refresh that only changes lots overwrites just the records of the carparks that changed, in
+ * place, with positional writes. The base keeps the attributes that rarely change and the lots as they were when it
+ * was written, which are used for any record this file does not have.
+ *
+ * <p>Each record carries its own checksum, so a record torn by a crash in the middle of a write is ignored and the
+ * carpark falls back to its lots in the base. The header records the checksum of the base the file belongs to, and a
+ * file of any other base is cleared when it is opened.
+ *
+ * <p>Layout, with every number big-endian:
+ * <pre>
+ * header:    magic (int), version (int), checksum of the base (int), record count of the base (int)
+ * record:    car, motorcycle and heavy vehicle lots (int each), last updated in epoch seconds (long),
+ *            CRC-32 of the rest of the record (int)
+ * </pre>
+ */
+class AvailabilityFile implements AutoCloseable {
+    static final int HEADER_SIZE = 4 * Integer.BYTES;
+    static final int RECORD_SIZE = 3 * Integer.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int MAGIC = 0x504B4156;
+    private static final int VERSION = 1;
+    private static final LotType[] LOT_TYPES = {LotType.CAR, LotType.MOTORCYCLE, LotType.HEAVY_VEHICLE};
+
+    private final FileChannel channel;
+    private final int recordCount;
+    /** Every record, once read, or null until then. */
+    private ByteBuffer records;
+
+    private AvailabilityFile(FileChannel channel, int recordCount) {
+        this.channel = channel;
+        this.recordCount = recordCount;
+    }
+
+    /**
+     * Opens the availability file of a base, creating it if it does not exist and clearing it if it belongs to
+     * another base.
+     *
+     * @param filepath Availability file.
+     * @param baseChecksum Checksum of the base snapshot.
+     * @param recordCount Number of records in the base snapshot.
+     * @return Opened availability file.
+     * @throws IOException If the file cannot be read or written.
+     */
+    static AvailabilityFile open(Path filepath, int baseChecksum, int recordCount) throws IOException {
+        FileChannel channel = FileChannel.open(filepath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            channel.read(header, 0);
+            if (header.position() < HEADER_SIZE || header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+                    || header.getInt(8) != baseChecksum || header.getInt(12) != recordCount) {
+                // Records past the end of the file read as missing, so the file only needs its header.
+                channel.truncate(0);
+                header.clear();
+                header.putInt(MAGIC).putInt(VERSION).putInt(baseChecksum).putInt(recordCount).flip();
+                writeFully(channel, header, 0);
+                channel.force(false);
+            }
+            return new AvailabilityFile(channel, recordCount);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static int computeChecksum(ByteBuffer record) {
+        CRC32 crc = new CRC32();
+        crc.update(record.duplicate().limit(record.position() + RECORD_SIZE - Integer.BYTES));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Overwrites the record of a carpark with its current lots, without touching any other record.
+     *
+     * @param recordNumber Record number of the carpark in the base.
+     * @param carpark Carpark to save the lots of.
+     * @throws IOException If the record cannot be written.
+     */
+    void write(int recordNumber, Carpark carpark) throws IOException {
+        assert recordNumber >= 0 && recordNumber < recordCount : "Record number out of range.";
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        for (LotType lotType : LOT_TYPES) {
+            record.putInt(carpark.getAllAvailableLots().getOrDefault(lotType, 0));
+        }
+        record.putLong(carpark.getLastUpdated().toEpochSecond(ZoneOffset.UTC));
+        record.putInt(computeChecksum(record.duplicate().position(0)));
+        writeFully(channel, record.flip(), HEADER_SIZE + (long) recordNumber * RECORD_SIZE);
+        if (records != null) {
+            records.duplicate().position(recordNumber * RECORD_SIZE).put(record.array());
+        }
+    }
+
+    /**
+     * Forces the records written so far to the disk.
+     *
+     * @throws IOException If the file cannot be synced.
+     */
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * Reads every record into memory, so they can be looked up after the file is closed.
+     *
+     * @throws IOException If the file cannot be read.
+     */
+    void readAll() throws IOException {
+        records = ByteBuffer.allocate(recordCount * RECORD_SIZE);
+        long position = HEADER_SIZE;
+        while (records.hasRemaining()) {
+            int read = channel.read(records, position);
+            if (read < 0) {
+                break;
+            }
+            position += read;
+        }
+        records.clear();
+    }
+
+    /**
+     * Gets the lots of a record, as read by {@link AvailabilityFile#readAll()}.
+     *
+     * @param recordNumber Record number of the carpark in the base.
+     * @return Lots of each lot type, or null if the record was never written or is corrupted.
+     */
+    HashMap<LotType, Integer> getLots(int recordNumber) {
+        int position = getValidPosition(recordNumber);
+        if (position < 0) {
+            return null;
+        }
+        HashMap<LotType, Integer> allAvailableLots = new HashMap<>();
+        for (int i = 0; i < LOT_TYPES.length; i++) {
+            allAvailableLots.put(LOT_TYPES[i], records.getInt(position + i * Integer.BYTES));
+        }
+        return allAvailableLots;
+    }
+
+    /**
+     * Gets the time the lots of a record were last updated, as read by {@link AvailabilityFile#readAll()}.
+     *
+     * @param recordNumber Record number of the carpark in the base.
+     * @return Time last updated, or null if the record was never written or is corrupted.
+     */
+    LocalDateTime getLastUpdated(int recordNumber) {
+        int position = getValidPosition(recordNumber);
+        if (position < 0) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(records.getLong(position + LOT_TYPES.length * Integer.BYTES), 0,
+                ZoneOffset.UTC);
+    }
+
+    private int getValidPosition(int recordNumber) {
+        assert records != null : "Records have not been read.";
+        assert recordNumber >= 0 && recordNumber < recordCount : "Record number out of range.";
+        int position = recordNumber * RECORD_SIZE;
+        // A record never written is all zeroes, which does not match its checksum either.
+        ByteBuffer record = records.duplicate().position(position);
+        if (records.getInt(position + RECORD_SIZE - Integer.BYTES) != computeChecksum(record)) {
+            return -1;
+        }
+        return position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,373 @@
+package seedu.files;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.data.Carpark;
+import seedu.data.CarparkList;
+import seedu.data.LotType;
+import seedu.exception.FileWriteException;
+import seedu.exception.InvalidFormatException;
+
+/**
+ * Saved carparks, kept as a base {@link CarparkSnapshot} with the files of what changed since it, so a refresh writes
+ * in proportion to the carparks it changed rather than to the whole list. A carpark of the base whose lots are all
+ * that changed has its fixed-width record in the {@link AvailabilityFile} overwritten in place, which is what most
+ * refreshes do. Any other carpark that changed, such as one added since the base, goes to the changes file, a
+ * {@link PageFile} with a {@link PageTree} keyed by case-folded carpark ID, so a carpark that changes again is updated
+ * in place, and each save is one crash-safe commit. Loading reads the base with the lots of the availability file,
+ * then applies the changes over it. Once the changes would outgrow {@link CarparkDeltaLog#MAX_DELTA_RATIO} of the
+ * base, the next save folds them into a new base and rewrites the text save along with it. Saves run on the
+ * background saver of {@link FileStorage}, so compaction does too.
+ *
+ * <p>The files are named after the base, such as {@code carparkList-lots.dat} and {@code carparkList-changes.db}. Each
+ * value in the tree is a snapshot of the one carpark, which carries its own checksum, and the headers of both files
+ * record the checksum of the base they belong to, so changes left over from an older base are ignored.
+ */
+class CarparkDeltaLog {
+    /** Size of the changes, as a fraction of the base, beyond which a new base is written instead. */
+    static final double MAX_DELTA_RATIO = 0.5;
+    private static final String CHANGES_SUFFIX = "-changes.db";
+    private static final String LOTS_SUFFIX = "-lots.dat";
+    private static final int ROOT_SLOT = 0;
+    private static final int BASE_CHECKSUM_SLOT = 1;
+    private static final LotType[] LOT_TYPES = {LotType.CAR, LotType.MOTORCYCLE, LotType.HEAVY_VEHICLE};
+    private static final HashMap<Path, CarparkDeltaLog> LOGS = new HashMap<>();
+
+    private final Path snapshotPath;
+    private final Path textPath;
+    private final Path changesPath;
+    private final Path lotsPath;
+    /** Carparks as they were last saved, by case-folded ID, or null if what is on disk is not known. */
+    private HashMap<String, SavedCarpark> savedCarparks;
+    /** Record numbers of the carparks in the base, by case-folded ID. */
+    private HashMap<String, Integer> recordNumbers;
+    private int baseChecksum;
+    private int baseRecordCount;
+    private long baseSize;
+    private long changesSize;
+
+    /**
+     * State of a carpark when it was last saved.
+     */
+    private static class SavedCarpark {
+        private final Carpark carpark;
+        private final int[] lots = new int[LOT_TYPES.length];
+        private final LocalDateTime lastUpdated;
+        /** Size of the carpark in the changes file, or 0 if it is only in the base. */
+        private final int changedSize;
+
+        SavedCarpark(Carpark carpark, int changedSize) {
+            this.carpark = carpark;
+            for (int i = 0; i < LOT_TYPES.length; i++) {
+                lots[i] = carpark.getAllAvailableLots().getOrDefault(LOT_TYPES[i], 0);
+            }
+            lastUpdated = carpark.getLastUpdated();
+            this.changedSize = changedSize;
+        }
+
+        /**
+         * Checks that only the lots of a carpark may have changed, so it can be saved to the availability file.
+         */
+        boolean hasSameAttributes(Carpark other) {
+            return changedSize == 0 && other.getCarparkId().equals(carpark.getCarparkId())
+                    && Objects.equals(other.getArea(), carpark.getArea())
+                    && Objects.equals(other.getDevelopment(), carpark.getDevelopment())
+                    && Objects.equals(other.getLocation(), carpark.getLocation())
+                    && Objects.equals(other.getAgency(), carpark.getAgency());
+        }
+
+        boolean matches(Carpark other) {
+            if (other != carpark || !lastUpdated.equals(other.getLastUpdated())) {
+                return false;
+            }
+            for (int i = 0; i < LOT_TYPES.length; i++) {
+                if (lots[i] != other.getAllAvailableLots().getOrDefault(LOT_TYPES[i], 0)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private CarparkDeltaLog(Path directory, String snapshotFile, String textFile) {
+        snapshotPath = directory.resolve(snapshotFile);
+        textPath = directory.resolve(textFile);
+        int extensionStart = snapshotFile.lastIndexOf('.');
+        String baseName = extensionStart < 0 ? snapshotFile : snapshotFile.substring(0, extensionStart);
+        changesPath = directory.resolve(baseName + CHANGES_SUFFIX);
+        lotsPath = directory.resolve(baseName + LOTS_SUFFIX);
+    }
+
+    /**
+     * Gets the log of a base snapshot, which is shared so that saves know what was last loaded or saved.
+     *
+     * @param directory Directory of the files.
+     * @param snapshotFile File name of the base snapshot.
+     * @param textFile File name of the text save, rewritten with each new base.
+     * @return Log of the base snapshot.
+     */
+    static synchronized CarparkDeltaLog getInstance(Path directory, String snapshotFile, String textFile) {
+        return LOGS.computeIfAbsent(directory.resolve(snapshotFile).toAbsolutePath().normalize(),
+            key -> new CarparkDeltaLog(directory, snapshotFile, textFile));
+    }
+
+    /**
+     * Loads the base snapshot with the lots saved after it, and applies the changes saved after it. Changes that
+     * cannot be read are dropped.
+     *
+     * @return Loaded carpark list.
+     * @throws IOException If the base snapshot cannot be read.
+     * @throws InvalidFormatException If the base snapshot is corrupted.
+     */
+    synchronized CarparkList load() throws IOException, InvalidFormatException {
+        FileWriteQueue.getInstance().awaitWrite(snapshotPath);
+        CarparkSnapshot base = openWithLots();
+        List<byte[]> changedValues = new ArrayList<>();
+        List<CarparkSnapshot> changes = new ArrayList<>();
+        if (Files.exists(changesPath)) {
+            try (PageFile pageFile = PageFile.open(changesPath, PageFile.DEFAULT_POOL_SIZE)) {
+                if (pageFile.getHeaderSlot(BASE_CHECKSUM_SLOT) == base.getChecksum()) {
+                    new PageTree(pageFile, ROOT_SLOT).forEach((key, value) -> changedValues.add(value));
+                }
+                for (byte[] value : changedValues) {
+                    changes.add(CarparkSnapshot.decode(ByteBuffer.wrap(value)));
+                }
+            } catch (IOException | InvalidFormatException e) {
+                // The base alone is still a consistent save, so only the changes are lost.
+                changedValues.clear();
+                changes.clear();
+                Files.deleteIfExists(changesPath);
+            }
+        }
+        CarparkList carparkList = new CarparkList(base, changes);
+        HashMap<String, Integer> changedSizes = new HashMap<>();
+        for (int i = 0; i < changes.size(); i++) {
+            changedSizes.put(changes.get(i).getCarpark(0).getCarparkId().toLowerCase(), changedValues.get(i).length);
+        }
+        savedCarparks = new HashMap<>();
+        changesSize = 0;
+        for (Carpark carpark : carparkList.getCarparks()) {
+            String key = carpark.getCarparkId().toLowerCase();
+            int changedSize = changedSizes.getOrDefault(key, 0);
+            savedCarparks.put(key, new SavedCarpark(carpark, changedSize));
+            changesSize += changedSize;
+        }
+        recordNumbers = new HashMap<>();
+        for (int i = 0; i < base.getRecordCount(); i++) {
+            recordNumbers.put(base.getCarparkId(i).toLowerCase(), i);
+        }
+        baseChecksum = base.getChecksum();
+        baseRecordCount = base.getRecordCount();
+        baseSize = Files.size(snapshotPath);
+        return carparkList;
+    }
+
+    /**
+     * Opens the base snapshot, reading the lots of its carparks from the availability file where it has them.
+     */
+    private CarparkSnapshot openWithLots() throws IOException, InvalidFormatException {
+        CarparkSnapshot base = CarparkSnapshot.open(snapshotPath);
+        if (!Files.exists(lotsPath)) {
+            return base;
+        }
+        try (AvailabilityFile availability = AvailabilityFile.open(lotsPath, base.getChecksum(),
+                base.getRecordCount())) {
+            availability.readAll();
+            return base.withAvailability(availability);
+        } catch (IOException e) {
+            // The base still has the lots as they were when it was written.
+            return base;
+        }
+    }
+
+    /**
+     * Finds a saved carpark by its ID, reading only the pages of the changes file on the way to it, and the base if
+     * it has not changed.
+     *
+     * @param carparkId Carpark ID, in any case.
+     * @return Saved carpark, or null if no carpark has the ID.
+     * @throws IOException If the files cannot be read.
+     * @throws InvalidFormatException If the files are corrupted.
+     */
+    synchronized Carpark findCarpark(String carparkId) throws IOException, InvalidFormatException {
+        FileWriteQueue.getInstance().awaitWrite(snapshotPath);
+        CarparkSnapshot base = openWithLots();
+        if (!Files.exists(changesPath)) {
+            return base.findCarpark(carparkId);
+        }
+        try (PageFile pageFile = PageFile.open(changesPath, PageFile.DEFAULT_POOL_SIZE)) {
+            if (pageFile.getHeaderSlot(BASE_CHECKSUM_SLOT) == base.getChecksum()) {
+                byte[] value = new PageTree(pageFile, ROOT_SLOT).get(carparkId.toLowerCase());
+                if (value != null) {
+                    return CarparkSnapshot.decode(ByteBuffer.wrap(value)).getCarpark(0);
+                }
+            }
+        }
+        return base.findCarpark(carparkId);
+    }
+
+    /**
+     * Forgets what was last loaded or saved, such as when the carparks were loaded from elsewhere, so that the next
+     * save writes a new base.
+     */
+    synchronized void reset() {
+        savedCarparks = null;
+    }
+
+    /**
+     * Saves the carparks that changed since the last save, overwriting the records in the availability file of those
+     * whose lots are all that changed, and putting the rest in the changes file in one commit. A new base and text
+     * save are queued instead when the changes are due to be folded in or a carpark was removed. Nothing is written if
+     * no carpark changed.
+     *
+     * @param carparkList CarparkList object to be saved.
+     * @throws FileWriteException If the changes cannot be saved, or the previous write of the base failed.
+     */
+    synchronized void save(CarparkList carparkList) throws FileWriteException {
+        List<Carpark> changedCarparks = new ArrayList<>();
+        List<byte[]> changedValues = new ArrayList<>();
+        List<Carpark> changedLots = new ArrayList<>();
+        byte[] base = null;
+        String saveString = null;
+        // Updates to the list are locked out while it is compared and encoded.
+        synchronized (carparkList) {
+            List<Carpark> carparks = carparkList.getCarparks();
+            boolean isCompacting = savedCarparks == null;
+            if (!isCompacting) {
+                int keptCount = 0;
+                long newChangesSize = changesSize;
+                for (Carpark carpark : carparks) {
+                    SavedCarpark saved = savedCarparks.get(carpark.getCarparkId().toLowerCase());
+                    if (saved != null) {
+                        keptCount++;
+                    }
+                    if (saved != null && !saved.matches(carpark) && saved.hasSameAttributes(carpark)
+                            && recordNumbers.containsKey(carpark.getCarparkId().toLowerCase())) {
+                        changedLots.add(carpark);
+                    } else if (saved == null || !saved.matches(carpark)) {
+                        byte[] value = CarparkSnapshot.encode(List.of(carpark));
+                        changedCarparks.add(carpark);
+                        changedValues.add(value);
+                        newChangesSize += value.length - (saved == null ? 0 : saved.changedSize);
+                        isCompacting |= value.length > PageTree.MAX_VALUE_BYTES;
+                    }
+                }
+                if (changedCarparks.isEmpty() && changedLots.isEmpty() && keptCount == savedCarparks.size()) {
+                    return;
+                }
+                // The changes file cannot record a removed carpark.
+                isCompacting |= keptCount < savedCarparks.size() || newChangesSize > MAX_DELTA_RATIO * baseSize;
+                if (!isCompacting) {
+                    for (Carpark carpark : changedLots) {
+                        savedCarparks.put(carpark.getCarparkId().toLowerCase(), new SavedCarpark(carpark, 0));
+                    }
+                    for (int i = 0; i < changedCarparks.size(); i++) {
+                        Carpark carpark = changedCarparks.get(i);
+                        savedCarparks.put(carpark.getCarparkId().toLowerCase(), new SavedCarpark(carpark,
+                                changedValues.get(i).length));
+                    }
+                    changesSize = newChangesSize;
+                }
+            }
+            if (isCompacting) {
+                saveString = carparkList.getSaveString();
+                base = CarparkSnapshot.encode(carparks);
+                savedCarparks = new HashMap<>();
+                recordNumbers = new HashMap<>();
+                for (int i = 0; i < carparks.size(); i++) {
+                    String key = carparks.get(i).getCarparkId().toLowerCase();
+                    savedCarparks.put(key, new SavedCarpark(carparks.get(i), 0));
+                    recordNumbers.put(key, i);
+                }
+                baseRecordCount = carparks.size();
+                changesSize = 0;
+            }
+        }
+
+        try {
+            if (base == null) {
+                saveLots(changedLots);
+                saveChanges(changedCarparks, changedValues);
+            } else {
+                saveBase(base, saveString);
+            }
+        } catch (FileWriteException e) {
+            // What is on disk is no longer certain, so the next save starts again from a new base.
+            savedCarparks = null;
+            throw e;
+        }
+    }
+
+    private void saveLots(List<Carpark> changedLots) throws FileWriteException {
+        if (changedLots.isEmpty()) {
+            return;
+        }
+        try (AvailabilityFile availability = AvailabilityFile.open(lotsPath, baseChecksum, baseRecordCount)) {
+            for (Carpark carpark : changedLots) {
+                availability.write(recordNumbers.get(carpark.getCarparkId().toLowerCase()), carpark);
+            }
+            availability.force();
+        } catch (IOException e) {
+            throw new FileWriteException(lotsPath.toString());
+        }
+    }
+
+    private void saveChanges(List<Carpark> changedCarparks, List<byte[]> changedValues) throws FileWriteException {
+        if (changedCarparks.isEmpty()) {
+            return;
+        }
+        try (PageFile pageFile = PageFile.open(changesPath, PageFile.DEFAULT_POOL_SIZE)) {
+            if (pageFile.getHeaderSlot(BASE_CHECKSUM_SLOT) != baseChecksum) {
+                // Changes of an older base are dropped along with the first change of this one.
+                pageFile.truncate();
+                pageFile.setHeaderSlot(ROOT_SLOT, 0);
+                pageFile.setHeaderSlot(BASE_CHECKSUM_SLOT, baseChecksum);
+            }
+            PageTree tree = new PageTree(pageFile, ROOT_SLOT);
+            for (int i = 0; i < changedCarparks.size(); i++) {
+                tree.put(changedCarparks.get(i).getCarparkId().toLowerCase(), changedValues.get(i));
+            }
+            pageFile.commit();
+        } catch (IOException | InvalidFormatException e) {
+            throw new FileWriteException(changesPath.toString());
+        }
+    }
+
+    private void saveBase(byte[] base, String saveString) throws FileWriteException {
+        try {
+            baseChecksum = CarparkSnapshot.decode(ByteBuffer.wrap(base)).getChecksum();
+        } catch (InvalidFormatException e) {
+            assert false : "Encoded snapshots are always valid.";
+        }
+        baseSize = base.length;
+        // The text save is queued first, so the base is never older than it after a successful save.
+        FileWriteQueue.getInstance().submit(textPath, saveString.getBytes(StandardCharsets.UTF_8));
+        FileWriteQueue.getInstance().submit(snapshotPath, base);
+        // The old changes are only dropped once the new base is confirmed on disk. If its write fails, the old base
+        // stays, and so do the changes that go with it.
+        FileWriteQueue.getInstance().awaitSuccessfulWrite(snapshotPath);
+        try {
+            Files.deleteIfExists(lotsPath);
+            Files.deleteIfExists(changesPath);
+        } catch (IOException e) {
+            throw new FileWriteException(changesPath.toString());
+        }
+    }
+
+    Path getChangesPath() {
+        return changesPath;
+    }
+
+    Path getLotsPath() {
+        return lotsPath;
+    }
+}
@@ -0,0 +1,325 @@
+package seedu.files;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import seedu.data.Carpark;
+import seedu.data.LotType;
+import seedu.exception.FileWriteException;
+import seedu.exception.InvalidFormatException;
+
+/**
+ * Binary snapshot of the carparks of a {@link seedu.data.CarparkList}, read through a memory-mapped buffer. The file
+ * has a fixed-size header, one fixed-width record per carpark, a table of the distinct strings the records refer to,
+ * and an index of the records sorted by case-folded carpark ID. Opening a snapshot checks the header and the checksum
+ * of the rest of the file, and each record is decoded from the mapped file when it is asked for. Lots saved after the
+ * snapshot can be read over its own through {@link CarparkSnapshot#withAvailability(AvailabilityFile)}.
+ *
+ * <p>Layout, with every number big-endian:
+ * <pre>
+ * header:    magic (int), version (int), record count (int), string table offset (int), ID index offset (int),
+ *            CRC-32 of everything after the header (int)
+ * record:    ID, area, development, location and agency string offsets (int each),
+ *            car, motorcycle and heavy vehicle lots (int each), last updated in epoch seconds (long)
+ * strings:   length in bytes (int), UTF-8 bytes
+ * ID index:  ID string offset (int), record number (int), sorted by case-folded ID
+ * </pre>
+ */
+public class CarparkSnapshot {
+    private static final int MAGIC = 0x504B534E;
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 24;
+    private static final int RECORD_SIZE = 5 * Integer.BYTES + 3 * Integer.BYTES + Long.BYTES;
+    private static final int INDEX_ENTRY_SIZE = 2 * Integer.BYTES;
+    private static final LotType[] LOT_TYPES = {LotType.CAR, LotType.MOTORCYCLE, LotType.HEAVY_VEHICLE};
+
+    private final ByteBuffer buffer;
+    private final int recordCount;
+    private final int stringTableOffset;
+    private final int idIndexOffset;
+    private final int checksum;
+    /** Lots saved after the snapshot, used over the lots in its records, or null if there are none. */
+    private final AvailabilityFile availability;
+
+    private CarparkSnapshot(ByteBuffer buffer) throws InvalidFormatException {
+        this.buffer = buffer;
+        availability = null;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new InvalidFormatException("Carpark snapshot is not in the snapshot format.");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new InvalidFormatException("Carpark snapshot version " + buffer.getInt(4) + " is not supported.");
+        }
+        recordCount = buffer.getInt(8);
+        stringTableOffset = buffer.getInt(12);
+        idIndexOffset = buffer.getInt(16);
+        checksum = buffer.getInt(20);
+        if (recordCount < 0 || stringTableOffset != HEADER_SIZE + (long) recordCount * RECORD_SIZE
+                || idIndexOffset < stringTableOffset
+                || idIndexOffset + (long) recordCount * INDEX_ENTRY_SIZE != buffer.capacity()
+                || computeChecksum(buffer) != checksum) {
+            throw new InvalidFormatException("Carpark snapshot is truncated or corrupted.");
+        }
+    }
+
+    private CarparkSnapshot(CarparkSnapshot snapshot, AvailabilityFile availability) {
+        buffer = snapshot.buffer;
+        recordCount = snapshot.recordCount;
+        stringTableOffset = snapshot.stringTableOffset;
+        idIndexOffset = snapshot.idIndexOffset;
+        checksum = snapshot.checksum;
+        this.availability = availability;
+    }
+
+    private static int computeChecksum(ByteBuffer buffer) {
+        ByteBuffer body = buffer.duplicate();
+        body.position(HEADER_SIZE);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Opens a snapshot file by mapping it into memory and checking its header.
+     *
+     * @param filepath Snapshot file.
+     * @return Opened snapshot.
+     * @throws IOException If the file cannot be read.
+     * @throws InvalidFormatException If the file is not a snapshot of a supported version.
+     */
+    public static CarparkSnapshot open(Path filepath) throws IOException, InvalidFormatException {
+        try (FileChannel channel = FileChannel.open(filepath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new CarparkSnapshot(buffer);
+        }
+    }
+
+    /**
+     * Decodes a snapshot held in memory, such as one embedded in another file.
+     *
+     * @param buffer Content of the snapshot, from position 0 to its capacity.
+     * @return Decoded snapshot.
+     * @throws InvalidFormatException If the content is not a snapshot of a supported version.
+     */
+    static CarparkSnapshot decode(ByteBuffer buffer) throws InvalidFormatException {
+        return new CarparkSnapshot(buffer);
+    }
+
+    /**
+     * Writes carparks to a snapshot file, replacing it only once the new snapshot is complete.
+     *
+     * @param filepath Snapshot file.
+     * @param carparks Carparks to save.
+     * @throws FileWriteException If the file cannot be written.
+     */
+    public static void write(Path filepath, List<Carpark> carparks) throws FileWriteException {
+        try {
+            FileWriteQueue.writeAtomically(filepath, encode(carparks));
+        } catch (IOException e) {
+            throw new FileWriteException(filepath.toString());
+        }
+    }
+
+    /**
+     * Encodes carparks in the snapshot format.
+     *
+     * @param carparks Carparks to save.
+     * @return Content of the snapshot file.
+     */
+    static byte[] encode(List<Carpark> carparks) {
+        LinkedHashMap<String, Integer> stringOffsets = new LinkedHashMap<>();
+        int stringTableOffset = HEADER_SIZE + carparks.size() * RECORD_SIZE;
+        int[] stringTableSize = {0};
+        List<byte[]> stringBytes = new ArrayList<>();
+        int[][] references = new int[carparks.size()][];
+        for (int i = 0; i < carparks.size(); i++) {
+            Carpark carpark = carparks.get(i);
+            String[] fields = {carpark.getCarparkId(), nullToEmpty(carpark.getArea()), carpark.getDevelopment(),
+                nullToEmpty(carpark.getLocation()), nullToEmpty(carpark.getAgency())};
+            references[i] = new int[fields.length];
+            for (int j = 0; j < fields.length; j++) {
+                references[i][j] = stringOffsets.computeIfAbsent(fields[j], field -> {
+                    byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+                    stringBytes.add(bytes);
+                    int offset = stringTableOffset + stringTableSize[0];
+                    stringTableSize[0] += Integer.BYTES + bytes.length;
+                    return offset;
+                });
+            }
+        }
+        int idIndexOffset = stringTableOffset + stringTableSize[0];
+        ByteBuffer buffer = ByteBuffer.allocate(idIndexOffset + carparks.size() * INDEX_ENTRY_SIZE);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(carparks.size()).putInt(stringTableOffset).putInt(idIndexOffset)
+                .putInt(0);
+        for (int i = 0; i < carparks.size(); i++) {
+            Carpark carpark = carparks.get(i);
+            for (int reference : references[i]) {
+                buffer.putInt(reference);
+            }
+            for (LotType lotType : LOT_TYPES) {
+                buffer.putInt(carpark.getAllAvailableLots().getOrDefault(lotType, 0));
+            }
+            buffer.putLong(carpark.getLastUpdated().toEpochSecond(ZoneOffset.UTC));
+        }
+        for (byte[] bytes : stringBytes) {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+        List<Integer> idOrder = new ArrayList<>();
+        for (int i = 0; i < carparks.size(); i++) {
+            idOrder.add(i);
+        }
+        idOrder.sort((first, second) -> carparks.get(first).getCarparkId().toLowerCase()
+                .compareTo(carparks.get(second).getCarparkId().toLowerCase()));
+        for (int recordNumber : idOrder) {
+            buffer.putInt(references[recordNumber][0]).putInt(recordNumber);
+        }
+        buffer.putInt(20, computeChecksum(buffer.flip()));
+        return buffer.array();
+    }
+
+    private static String nullToEmpty(String string) {
+        return string == null ? "" : string;
+    }
+
+    /**
+     * Gets a view of the snapshot that decodes the lots of its carparks from an availability file where the file has
+     * them, and from the snapshot otherwise.
+     *
+     * @param availability Availability file of the snapshot, with its records read.
+     * @return View of the snapshot.
+     */
+    CarparkSnapshot withAvailability(AvailabilityFile availability) {
+        return new CarparkSnapshot(this, availability);
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    public int getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Decodes a single record of the snapshot.
+     *
+     * @param recordNumber Position of the record, from 0 to {@link CarparkSnapshot#getRecordCount()} - 1.
+     * @return Decoded carpark.
+     * @throws InvalidFormatException If the record refers to data outside the snapshot.
+     */
+    public Carpark getCarpark(int recordNumber) throws InvalidFormatException {
+        assert recordNumber >= 0 && recordNumber < recordCount : "Record number out of range.";
+        int position = HEADER_SIZE + recordNumber * RECORD_SIZE;
+        try {
+            String carparkId = getString(buffer.getInt(position));
+            String area = getString(buffer.getInt(position + 4));
+            String development = getString(buffer.getInt(position + 8));
+            String location = getString(buffer.getInt(position + 12));
+            String agency = getString(buffer.getInt(position + 16));
+            HashMap<LotType, Integer> allAvailableLots = availability == null ? null
+                    : availability.getLots(recordNumber);
+            LocalDateTime lastUpdated;
+            if (allAvailableLots == null) {
+                allAvailableLots = new HashMap<>();
+                for (int i = 0; i < LOT_TYPES.length; i++) {
+                    allAvailableLots.put(LOT_TYPES[i], buffer.getInt(position + 20 + i * Integer.BYTES));
+                }
+                lastUpdated = LocalDateTime.ofEpochSecond(buffer.getLong(position + 32), 0, ZoneOffset.UTC);
+            } else {
+                lastUpdated = availability.getLastUpdated(recordNumber);
+            }
+            return Carpark.restore(carparkId, area, development, location, agency, allAvailableLots, lastUpdated);
+        } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+            throw new InvalidFormatException("Carpark snapshot is truncated or corrupted.");
+        }
+    }
+
+    /**
+     * Decodes only the carpark ID of a record.
+     *
+     * @param recordNumber Position of the record, from 0 to {@link CarparkSnapshot#getRecordCount()} - 1.
+     * @return Carpark ID.
+     * @throws InvalidFormatException If the record refers to data outside the snapshot.
+     */
+    String getCarparkId(int recordNumber) throws InvalidFormatException {
+        assert recordNumber >= 0 && recordNumber < recordCount : "Record number out of range.";
+        try {
+            return getString(buffer.getInt(HEADER_SIZE + recordNumber * RECORD_SIZE));
+        } catch (IndexOutOfBoundsException e) {
+            throw new InvalidFormatException("Carpark snapshot is truncated or corrupted.");
+        }
+    }
+
+    /**
+     * Decodes every record of the snapshot, in the order they were saved.
+     *
+     * @return List of carparks.
+     * @throws InvalidFormatException If any record refers to data outside the snapshot.
+     */
+    public List<Carpark> getCarparks() throws InvalidFormatException {
+        List<Carpark> carparks = new ArrayList<>(recordCount);
+        for (int i = 0; i < recordCount; i++) {
+            carparks.add(getCarpark(i));
+        }
+        return carparks;
+    }
+
+    /**
+     * Finds a carpark by its ID through the ID index, decoding only the IDs compared along the way and the record
+     * found.
+     *
+     * @param carparkId Carpark ID, in any case.
+     * @return Decoded carpark, or null if no carpark has the ID.
+     * @throws InvalidFormatException If the index refers to data outside the snapshot.
+     */
+    public Carpark findCarpark(String carparkId) throws InvalidFormatException {
+        String key = carparkId.toLowerCase();
+        int low = 0;
+        int high = recordCount - 1;
+        try {
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int entry = idIndexOffset + middle * INDEX_ENTRY_SIZE;
+                int comparison = getString(buffer.getInt(entry)).toLowerCase().compareTo(key);
+                if (comparison == 0) {
+                    return getCarpark(buffer.getInt(entry + 4));
+                } else if (comparison < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new InvalidFormatException("Carpark snapshot is truncated or corrupted.");
+        }
+        return null;
+    }
+
+    private String getString(int offset) {
+        if (offset < stringTableOffset || offset >= idIndexOffset) {
+            throw new IndexOutOfBoundsException("String offset outside the string table.");
+        }
+        int length = buffer.getInt(offset);
+        if (length < 0 || offset + Integer.BYTES + (long) length > idIndexOffset) {
+            throw new IndexOutOfBoundsException("String runs past the string table.");
+        }
+        byte[] bytes = new byte[length];
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset + Integer.BYTES);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -1,25 +1,46 @@
 package seedu.files;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 
 import seedu.common.CommonFiles;
 import seedu.data.CarparkList;
 import seedu.exception.FileWriteException;
-import seedu.exception.InvalidFormatException;
 import seedu.exception.NoCarparkFoundException;
 import seedu.exception.NoFileFoundException;
 import seedu.ui.Ui;
 
 /**
- * Represents the 'favourite' class.
+ * Represents the 'favourite' class. The favourite file is a checkpoint of the list, and every change made since is
+ * appended as a small record to a log file beside it, named after the favourite file with {@code .log} added. Loading
+ * replays the log over the checkpoint, and the log is folded back into the checkpoint once it grows long or the list is
+ * loaded again. The log starts with the modified time and size of the checkpoint it applies to, so a log left over from
+ * an older checkpoint, such as one edited by hand, is discarded.
  */
 public class Favourite {
+    /** Number of log records after which the log is folded into the checkpoint. */
+    public static final int COMPACTION_THRESHOLD = 64;
+    private static final String LOG_SUFFIX = ".log";
+    private static final String LOG_HEADER_PREFIX = "#checkpoint ";
+    private static final char ADD_RECORD = '+';
+    private static final char REMOVE_RECORD = '-';
+
     private static ArrayList<String> favouriteList = new ArrayList<>();
     private final FileStorage fileStorage;
     private final String directory;
     private final String file;
+    private final Path checkpointPath;
+    private final Path logPath;
+    private int logRecordCount = 0;
+    private boolean isLoaded = false;
 
     /**
      * Constructor for favourite class.
@@ -31,34 +52,47 @@ public class Favourite {
         this.fileStorage = new FileStorage(directory, file);
         this.directory = directory;
         this.file = file;
+        this.checkpointPath = Paths.get(directory, file);
+        this.logPath = Paths.get(directory, file + LOG_SUFFIX);
         favouriteList = new ArrayList<>();
     }
 
     /**
-     * Reads in data from favourite.txt file and saves it to this object.
+     * Reads in data from favourite.txt file, replays the changes logged since, and saves it to this object. Logged
+     * changes are then folded into favourite.txt.
      *
+     * @return Note to show the user if some favourites were invalid and removed, or null if none were.
      * @throws NoFileFoundException If no file found.
      */
-    public void updateFavouriteList(CarparkList carparkList) throws NoFileFoundException, FileWriteException {
+    public String updateFavouriteList(CarparkList carparkList) throws NoFileFoundException, FileWriteException {
         String content = FileReader.readStringFromTxt(file, directory, true).trim();
-        if (content.isEmpty()) {
-            return;
-        }
-        String[] lines = content.split("\\R");
         ArrayList<String> tempArray = new ArrayList<>();
-        Collections.addAll(tempArray, lines);
+        if (!content.isEmpty()) {
+            Collections.addAll(tempArray, content.split("\\R"));
+        }
+        boolean hasLog = Files.exists(logPath);
+        replayLog(tempArray);
         tempArray = new ArrayList<>(new LinkedHashSet<>(tempArray));
+        isLoaded = true;
+        if (tempArray.isEmpty()) {
+            favouriteList = tempArray;
+            if (hasLog) {
+                writeFavouriteList();
+            }
+            return null;
+        }
         boolean isValid = ensureValidity(carparkList, tempArray);
+        if (!isValid || hasLog) {
+            writeFavouriteList();
+        }
 
         // Don't throw exception and interrupt the flow in the method that calls this one - file should be
-        // good to go after writing.
+        // good to go after writing. The caller shows the note, since this may run in the background.
         if (!isValid) {
-            writeFavouriteList();
-            InvalidFormatException e = new InvalidFormatException("NOTE: There was an issue loading some favourites "
-                + "in your " + CommonFiles.FAVOURITE_FILE + " file.\n      The problematic items have been skipped "
-                + "and removed from the list.");
-            Ui.printError(e);
+            return "NOTE: There was an issue loading some favourites in your " + CommonFiles.FAVOURITE_FILE
+                + " file.\n      The problematic items have been skipped and removed from the list.";
         }
+        return null;
     }
 
     /**
@@ -88,7 +122,7 @@ public class Favourite {
     }
 
     /**
-     * Writes all favourite carpark IDs to favourite.txt file.
+     * Writes all favourite carpark IDs to favourite.txt file, and clears the log of changes it now contains.
      *
      * @throws FileWriteException If unable to write to file.
      */
@@ -98,6 +132,116 @@ public class Favourite {
             content.append(favouriteList.get(i)).append("\n");
         }
         fileStorage.writeDataToFile(content.toString());
+        // The checkpoint must be on disk before the log it replaces is deleted.
+        fileStorage.flush();
+        try {
+            Files.deleteIfExists(logPath);
+        } catch (IOException e) {
+            throw new FileWriteException(logPath.toString());
+        }
+        logRecordCount = 0;
+    }
+
+    /**
+     * Adds carpark IDs to the favourite list that are not already in it, and appends the additions to the log.
+     *
+     * @param carparkIds Carpark IDs to add.
+     * @throws FileWriteException If unable to write to the log.
+     */
+    public void addFavourites(List<String> carparkIds) throws FileWriteException {
+        StringBuilder records = new StringBuilder();
+        for (String id : carparkIds) {
+            if (favouriteList.stream().noneMatch(id::equalsIgnoreCase)) {
+                favouriteList.add(id);
+                records.append(ADD_RECORD).append(id).append("\n");
+            }
+        }
+        appendToLog(records.toString());
+    }
+
+    /**
+     * Removes carpark IDs from the favourite list, and appends the removals to the log.
+     *
+     * @param carparkIds Carpark IDs to remove.
+     * @throws FileWriteException If unable to write to the log.
+     */
+    public void removeFavourites(List<String> carparkIds) throws FileWriteException {
+        StringBuilder records = new StringBuilder();
+        for (String id : carparkIds) {
+            if (favouriteList.removeIf(id::equalsIgnoreCase)) {
+                records.append(REMOVE_RECORD).append(id).append("\n");
+            }
+        }
+        appendToLog(records.toString());
+    }
+
+    /**
+     * Appends records to the log in a single write, starting a new log for the current checkpoint if there is none.
+     * The log is folded into the checkpoint once it passes {@link Favourite#COMPACTION_THRESHOLD} records, but only if
+     * the list was loaded, since the checkpoint is rewritten from the list in memory.
+     */
+    private void appendToLog(String records) throws FileWriteException {
+        if (records.isEmpty()) {
+            return;
+        }
+        try {
+            String content = records;
+            if (!Files.exists(logPath)) {
+                content = getLogHeader() + "\n" + records;
+            }
+            Files.write(logPath, content.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new FileWriteException(logPath.toString());
+        }
+        logRecordCount += records.split("\n").length;
+        if (isLoaded && logRecordCount >= COMPACTION_THRESHOLD) {
+            writeFavouriteList();
+        }
+    }
+
+    /**
+     * Applies the records of the log to a list of carpark IDs read from the checkpoint. The log is skipped if it was
+     * started for a different checkpoint, and a last record without a line ending is skipped as an unfinished append.
+     */
+    private void replayLog(ArrayList<String> ids) {
+        logRecordCount = 0;
+        String log;
+        try {
+            if (!Files.exists(logPath)) {
+                return;
+            }
+            log = new String(Files.readAllBytes(logPath), StandardCharsets.UTF_8);
+            if (!log.startsWith(getLogHeader() + "\n")) {
+                return;
+            }
+        } catch (IOException e) {
+            return;
+        }
+        int lineEnd = log.indexOf('\n');
+        for (int start = lineEnd + 1; (lineEnd = log.indexOf('\n', start)) >= 0; start = lineEnd + 1) {
+            String record = log.substring(start, lineEnd).trim();
+            if (record.length() < 2) {
+                continue;
+            }
+            String id = record.substring(1);
+            if (record.charAt(0) == ADD_RECORD && ids.stream().noneMatch(id::equalsIgnoreCase)) {
+                ids.add(id);
+            } else if (record.charAt(0) == REMOVE_RECORD) {
+                ids.removeIf(id::equalsIgnoreCase);
+            }
+            logRecordCount++;
+        }
+    }
+
+    private String getLogHeader() throws IOException {
+        FileWriteQueue.getInstance().awaitWrite(checkpointPath);
+        return LOG_HEADER_PREFIX + Files.getLastModifiedTime(checkpointPath).toMillis() + " "
+                + Files.size(checkpointPath);
+    }
+
+    public boolean isLoaded() {
+        return isLoaded;
     }
 
     public static ArrayList<String> getFavouriteList() {
@@ -1,16 +1,23 @@
 package seedu.files;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
-import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.map.ObjectReader;
+import org.codehaus.jackson.JsonFactory;
+import org.codehaus.jackson.JsonParseException;
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonToken;
 
 import seedu.common.CommonFiles;
 import seedu.data.Carpark;
@@ -19,13 +26,16 @@ import seedu.exception.FileWriteException;
 import seedu.exception.InvalidFormatException;
 import seedu.exception.NoFileFoundException;
 import seedu.exception.ParkingException;
-import seedu.files.parsing.LtaJsonWrapper;
 import seedu.ui.Ui;
 
 /**
  * Deals with reading from files
  */
 public class FileReader {
+    /** Shared by every read, as a {@link JsonFactory} is thread-safe and reuses its buffers across parsers. */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String METADATA_FIELD = "odata.metadata";
+    private static final String VALUE_FIELD = "value";
 
     /**
      * Loads .json file as an ArrayList of {@link Carpark} class
@@ -81,11 +91,170 @@ public class FileReader {
      * @throws IOException if an I/O error occurs reading from the stream
      */
     private static List<Carpark> getCarparks(Path filepath) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        ObjectReader objectReader = objectMapper.reader(LtaJsonWrapper.class);
-        byte[] jsonData = Files.readAllBytes(filepath);
-        LtaJsonWrapper wrapperObject = objectReader.readValue(jsonData);
-        return wrapperObject.getValue();
+        List<Carpark> carparks = new ArrayList<>();
+        readLtaJson(filepath, carparks::add);
+        return carparks;
+    }
+
+    /**
+     * Streams the carparks in a response from the LTA API, handing each to a consumer as soon as its record is read.
+     * Only the record being read is held in memory, so memory use does not grow with the size of the file. As with
+     * the response, fields other than the known ones are rejected, and a field that is null is left unset.
+     *
+     * @param filepath File path of the JSON file, which may be compressed.
+     * @param consumer Consumer of each carpark, in the order of the file.
+     * @throws IOException If the file cannot be read, or is not a valid response.
+     */
+    public static void readLtaJson(Path filepath, Consumer<Carpark> consumer) throws IOException {
+        FileWriteQueue.getInstance().awaitWrite(filepath);
+        try (InputStream jsonData = openJson(filepath); JsonParser parser = JSON_FACTORY.createJsonParser(jsonData)) {
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            boolean hasValue = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (field.equals(VALUE_FIELD)) {
+                    expectToken(parser, token, JsonToken.START_ARRAY);
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        consumer.accept(readCarpark(parser));
+                    }
+                    expectToken(parser, parser.getCurrentToken(), JsonToken.END_ARRAY);
+                    hasValue = true;
+                } else if (field.equals(METADATA_FIELD)) {
+                    parser.skipChildren();
+                } else {
+                    throw new JsonParseException("Unrecognized field \"" + field + "\"", parser.getCurrentLocation());
+                }
+            }
+            expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+            if (!hasValue) {
+                throw new JsonParseException("Missing field \"" + VALUE_FIELD + "\"", parser.getCurrentLocation());
+            }
+        }
+    }
+
+    /**
+     * Reads one carpark record, with the parser on the start of the record. The fields are gathered first and set
+     * afterwards, so that the lot count is always set before the lot type that it is recorded against.
+     *
+     * @param parser Parser on the start of the record, left on its end.
+     * @return Carpark of the record.
+     * @throws IOException If the record is not a valid carpark.
+     */
+    private static Carpark readCarpark(JsonParser parser) throws IOException {
+        String carparkId = null;
+        String area = null;
+        String development = null;
+        String location = null;
+        String availableLots = null;
+        String lotType = null;
+        String agency = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            String text = readScalar(parser);
+            switch (field) {
+            case "CarParkID":
+                carparkId = text;
+                break;
+            case "Area":
+                area = text;
+                break;
+            case "Development":
+                development = text;
+                break;
+            case "Location":
+                location = text;
+                break;
+            case "AvailableLots":
+                availableLots = text;
+                break;
+            case "LotType":
+                lotType = text;
+                break;
+            case "Agency":
+                agency = text;
+                break;
+            default:
+                throw new JsonParseException("Unrecognized field \"" + field + "\"", parser.getCurrentLocation());
+            }
+        }
+        expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        if (carparkId == null) {
+            throw new JsonParseException("Carpark without an ID", parser.getCurrentLocation());
+        }
+
+        Carpark carpark = new Carpark();
+        try {
+            carpark.setCarparkId(carparkId);
+            if (area != null) {
+                carpark.setArea(area);
+            }
+            if (development != null) {
+                carpark.setDevelopment(development);
+            }
+            if (location != null) {
+                carpark.setLocation(location);
+            }
+            if (availableLots != null) {
+                carpark.setAvailableLots(availableLots);
+            }
+            if (lotType != null) {
+                carpark.setLotType(lotType);
+            }
+            if (agency != null) {
+                carpark.setAgency(agency);
+            }
+        } catch (InvalidFormatException e) {
+            throw new JsonParseException(e.getMessage(), parser.getCurrentLocation());
+        }
+        return carpark;
+    }
+
+    /**
+     * Reads the value of a field as text, such as {@code 1882} for a number.
+     *
+     * @param parser Parser on the name of the field.
+     * @return Text of the value, or null if the value is null.
+     * @throws IOException If the value is an object or an array.
+     */
+    private static String readScalar(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == null || !token.isScalarValue()) {
+            throw new JsonParseException("Expected a value for \"" + parser.getCurrentName() + "\"",
+                    parser.getCurrentLocation());
+        }
+        return parser.getText();
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected)
+            throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException("Expected " + expected + " but found " + actual,
+                    parser.getCurrentLocation());
+        }
+    }
+
+    /**
+     * Opens a JSON file for reading, decompressing it as it is read if it is an archived response.
+     *
+     * @param filepath File path of the JSON file, ending with {@link ResponseArchive#COMPRESSED_SUFFIX} if compressed.
+     * @return Stream of the JSON text.
+     * @throws IOException if the file cannot be opened.
+     */
+    private static InputStream openJson(Path filepath) throws IOException {
+        InputStream input = new BufferedInputStream(Files.newInputStream(filepath));
+        if (filepath.getFileName().toString().endsWith(ResponseArchive.COMPRESSED_SUFFIX)) {
+            try {
+                return new GZIPInputStream(input);
+            } catch (IOException e) {
+                input.close();
+                throw e;
+            }
+        }
+        return input;
     }
 
     /**
@@ -100,6 +269,7 @@ public class FileReader {
     public static String readStringFromTxt(String filePath, String directoryPath, boolean createDirectory)
             throws NoFileFoundException, FileWriteException {
         String filepath = Paths.get(directoryPath, filePath).toString();
+        FileWriteQueue.getInstance().awaitWrite(Paths.get(filepath));
         File file = new File(filepath);
         if (!file.exists() && createDirectory) {
             System.out.println(filePath + " file does not exist. Creating one at " + directoryPath);
@@ -126,6 +296,37 @@ public class FileReader {
         return content.toString();
     }
 
+    /**
+     * Loads a {@link CarparkList} object from the binary {@link CarparkSnapshot} in a directory and the deltas saved
+     * after it, through a {@link CarparkDeltaLog}, if there is a snapshot that is at least as new as the text save, and
+     * from the text save otherwise. Edits made by hand to the text save are therefore never hidden by an older
+     * snapshot.
+     * @param snapshotFilePath Snapshot file path.
+     * @param filePath Text save file path.
+     * @param directoryPath Directory path.
+     * @return A properly generated CarparkList object.
+     * @throws FileWriteException If file cannot be written to.
+     * @throws NoFileFoundException If the directory cannot be found.
+     */
+    public static CarparkList loadCarparkList(String snapshotFilePath, String filePath, String directoryPath)
+            throws FileWriteException, NoFileFoundException {
+        Path snapshotPath = Paths.get(directoryPath, snapshotFilePath);
+        Path textPath = Paths.get(directoryPath, filePath);
+        CarparkDeltaLog carparkLog = CarparkDeltaLog.getInstance(Paths.get(directoryPath), snapshotFilePath, filePath);
+        FileWriteQueue.getInstance().awaitWrite(snapshotPath);
+        FileWriteQueue.getInstance().awaitWrite(textPath);
+        try {
+            if (Files.exists(snapshotPath) && (!Files.exists(textPath)
+                    || Files.getLastModifiedTime(snapshotPath).compareTo(Files.getLastModifiedTime(textPath)) >= 0)) {
+                return carparkLog.load();
+            }
+        } catch (IOException | ParkingException e) {
+            Ui.println("Could not load " + snapshotPath + ". Loading from " + textPath + " instead.");
+        }
+        carparkLog.reset();
+        return loadCarparkListFromTxt(filePath, directoryPath);
+    }
+
     /**
      * Loads a {@link CarparkList} object from a given file and directory path.
      * @param filePath File path.
@@ -1,14 +1,19 @@
 package seedu.files;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import seedu.common.CommonFiles;
 import seedu.data.CarparkList;
@@ -16,9 +21,25 @@ import seedu.exception.FileWriteException;
 import seedu.ui.Ui;
 
 /**
- * Class to deal with writing to files.
+ * Class to deal with writing to files. Writes are handed to a {@link FileWriteQueue} and happen in the background, and
+ * files read through {@link FileReader} always reflect the writes queued for them.
  */
 public class FileStorage {
+    /** Time a scheduled carpark list save waits for further changes before it is encoded. */
+    public static final long SAVE_DEBOUNCE_MILLIS = 200;
+    private static final ScheduledExecutorService SAVE_EXECUTOR = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "carpark-list-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static ScheduledFuture<?> scheduledSave;
+    private static CarparkList scheduledCarparkList;
+    private static CarparkList lastSavedCarparkList;
+    private static long lastSavedDataVersion;
+    private static FileWriteException saveFailure;
+    /** Directory the carpark list is saved to, which tests point at a temporary directory. */
+    private static volatile Path carparkListDirectory = Paths.get(CommonFiles.CARPARK_LIST_DIRECTORY);
+
     private final String directoryPath;
     private final String filePath;
     private final File file;
@@ -52,19 +73,43 @@ public class FileStorage {
     }
 
     /**
-     * Writes data to a txt file in plain text.
+     * Queues data to be written to a txt file in plain text. A failed write is reported by the next write to the same
+     * file, or by the next {@link FileStorage#flush()} or {@link FileStorage#flushAll()}.
      *
      * @param data data to be written.
-     * @throws FileWriteException If the file cannot be written to.
+     * @throws FileWriteException If the previous write to the file failed.
      */
     public void writeDataToFile(String data) throws FileWriteException {
+        FileWriteQueue.getInstance().submit(file.toPath(), data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Waits until every write queued so far, including those to this file, is on disk.
+     *
+     * @throws FileWriteException If any queued write failed.
+     */
+    public void flush() throws FileWriteException {
+        FileWriteQueue.getInstance().flush();
+    }
+
+    /**
+     * Runs any scheduled carpark list save at once, and waits until every write queued so far is on disk, such as
+     * before the program exits.
+     *
+     * @throws FileWriteException If any queued write or scheduled save failed.
+     */
+    public static void flushAll() throws FileWriteException {
         try {
-            checkFileExists();
-            FileWriter fileWriter = new FileWriter(filePath);
-            fileWriter.write(data);
-            fileWriter.close();
-        } catch (IOException e) {
-            throw new FileWriteException(filePath);
+            SAVE_EXECUTOR.submit(FileStorage::runScheduledSave).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            assert false : "Scheduled saves report their failures instead of throwing them.";
+        }
+        FileWriteException failure = takeSaveFailure();
+        FileWriteQueue.getInstance().flush();
+        if (failure != null) {
+            throw failure;
         }
     }
 
@@ -81,6 +126,8 @@ public class FileStorage {
         Path backupPath = CommonFiles.LTA_BACKUP_FILE_PATH;
         try {
             InputStream source = url.openStream();
+            // The saved carparks may be loaded before anything else has created the directory.
+            Files.createDirectories(backupPath.toAbsolutePath().getParent());
             Files.copy(source, backupPath, StandardCopyOption.REPLACE_EXISTING);
         } catch (IOException ex) {
             throw new FileWriteException(backupPath.toString());
@@ -89,12 +136,95 @@ public class FileStorage {
     //@@author
 
     /**
-     * Saves a {@link CarparkList} object to a text file.
+     * Saves a {@link CarparkList} object through a {@link CarparkDeltaLog}, which writes only the carparks that changed
+     * since the last save as a delta, and from time to time folds the deltas into a new binary {@link CarparkSnapshot}
+     * and text file.
      * @param carparkList CarparkList object to be saved.
-     * @throws FileWriteException If there is an issue with writing to the file.
+     * @throws FileWriteException If the previous save failed.
      */
     public static void saveCarparkList(CarparkList carparkList) throws FileWriteException {
-        FileStorage fileStorage = new FileStorage(CommonFiles.CARPARK_LIST_DIRECTORY, CommonFiles.CARPARK_LIST_FILE);
-        fileStorage.writeDataToFile(carparkList.getSaveString());
+        CarparkDeltaLog.getInstance(carparkListDirectory, CommonFiles.CARPARK_SNAPSHOT_FILE,
+                CommonFiles.CARPARK_LIST_FILE).save(carparkList);
+    }
+
+    /**
+     * Points carpark list saves at another directory and forgets any earlier save, so that tests neither write the
+     * saves of the user nor depend on what an earlier test saved. Any save still scheduled is dropped.
+     *
+     * @param directory Directory to save the carpark list to.
+     */
+    static void setCarparkListDirectory(Path directory) {
+        synchronized (FileStorage.class) {
+            if (scheduledSave != null) {
+                scheduledSave.cancel(false);
+            }
+            scheduledSave = null;
+            scheduledCarparkList = null;
+        }
+        try {
+            // Waits out a save that is already running before its state is reset.
+            SAVE_EXECUTOR.submit(() -> {
+                carparkListDirectory = directory;
+                lastSavedCarparkList = null;
+                lastSavedDataVersion = 0;
+                takeSaveFailure();
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            assert false : "Resetting the save state does not throw.";
+        }
+    }
+
+    /**
+     * Schedules a {@link CarparkList} object to be saved off the calling thread once it has gone
+     * {@link FileStorage#SAVE_DEBOUNCE_MILLIS} without being scheduled again, so a burst of changes is saved once. The
+     * save is skipped if the list has not changed since it was last saved, and only carparks that changed are encoded
+     * again.
+     * @param carparkList CarparkList object to be saved.
+     * @throws FileWriteException If the previous scheduled save failed.
+     */
+    public static void scheduleCarparkListSave(CarparkList carparkList) throws FileWriteException {
+        synchronized (FileStorage.class) {
+            if (scheduledSave != null) {
+                scheduledSave.cancel(false);
+            }
+            scheduledCarparkList = carparkList;
+            scheduledSave = SAVE_EXECUTOR.schedule(FileStorage::runScheduledSave, SAVE_DEBOUNCE_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        }
+        FileWriteException failure = takeSaveFailure();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static void runScheduledSave() {
+        CarparkList carparkList;
+        synchronized (FileStorage.class) {
+            carparkList = scheduledCarparkList;
+            scheduledCarparkList = null;
+            scheduledSave = null;
+        }
+        if (carparkList == null || carparkList == lastSavedCarparkList
+                && carparkList.getDataVersion() == lastSavedDataVersion) {
+            return;
+        }
+        try {
+            long dataVersion = carparkList.getDataVersion();
+            saveCarparkList(carparkList);
+            lastSavedCarparkList = carparkList;
+            lastSavedDataVersion = dataVersion;
+        } catch (FileWriteException e) {
+            synchronized (FileStorage.class) {
+                saveFailure = e;
+            }
+        }
+    }
+
+    private static synchronized FileWriteException takeSaveFailure() {
+        FileWriteException failure = saveFailure;
+        saveFailure = null;
+        return failure;
     }
 }
@@ -0,0 +1,214 @@
+package seedu.files;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import seedu.exception.FileWriteException;
+
+/**
+ * Writes files on a single background thread, so that commands never wait on the disk. Writes to the same file that
+ * are still waiting are coalesced, so only the latest content of each file is written. Waiting writes are gathered for
+ * {@link FileWriteQueue#FLUSH_INTERVAL_MILLIS} and written together, each to a temporary file that is flushed to disk
+ * and then renamed over the target, so a file is never left half written. Files are written in the order they were
+ * last submitted.
+ *
+ * <p>{@link FileWriteQueue#flush()} is a durability barrier: it returns once everything submitted before it is on disk,
+ * and reports any write that failed. Everything still waiting is also written when the program shuts down.
+ */
+class FileWriteQueue {
+    /** Time writes are gathered for before they are written together. */
+    static final long FLUSH_INTERVAL_MILLIS = 100;
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final FileWriteQueue INSTANCE = new FileWriteQueue();
+
+    private final LinkedHashMap<Path, byte[]> pendingWrites = new LinkedHashMap<>();
+    private final HashSet<Path> writingPaths = new HashSet<>();
+    private final LinkedHashMap<Path, FileWriteException> failedWrites = new LinkedHashMap<>();
+    private long submittedCount = 0;
+    private long writtenCount = 0;
+    private boolean isFlushRequested = false;
+    private Thread writerThread;
+
+    static FileWriteQueue getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Queues content to be written to a file, replacing any content still waiting to be written to it.
+     *
+     * @param filepath File to write.
+     * @param data Content of the file.
+     * @throws FileWriteException If the previous write of the file failed. The new content is queued regardless.
+     */
+    synchronized void submit(Path filepath, byte[] data) throws FileWriteException {
+        Path key = filepath.toAbsolutePath().normalize();
+        pendingWrites.remove(key);
+        pendingWrites.put(key, data);
+        FileWriteException previousFailure = failedWrites.remove(key);
+        submittedCount++;
+        if (writerThread == null) {
+            writerThread = new Thread(this::runWriter, "file-writer");
+            writerThread.setDaemon(true);
+            writerThread.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(this::flushQuietly, "file-writer-shutdown"));
+        }
+        notifyAll();
+        if (previousFailure != null) {
+            throw previousFailure;
+        }
+    }
+
+    /**
+     * Waits until everything submitted so far is written and flushed to disk.
+     *
+     * @throws FileWriteException If any file could not be written, naming the first one.
+     */
+    synchronized void flush() throws FileWriteException {
+        long target = submittedCount;
+        isFlushRequested = true;
+        notifyAll();
+        try {
+            while (writtenCount < target) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!failedWrites.isEmpty()) {
+            FileWriteException failure = failedWrites.values().iterator().next();
+            failedWrites.clear();
+            throw failure;
+        }
+    }
+
+    /**
+     * Waits until a file has no write waiting or in progress, so that reading it gives the latest content submitted.
+     * Returns at once if the file has nothing queued, which is the usual case.
+     *
+     * @param filepath File about to be read.
+     */
+    synchronized void awaitWrite(Path filepath) {
+        Path key = filepath.toAbsolutePath().normalize();
+        if (!pendingWrites.containsKey(key) && !writingPaths.contains(key)) {
+            return;
+        }
+        isFlushRequested = true;
+        notifyAll();
+        try {
+            while (pendingWrites.containsKey(key) || writingPaths.contains(key)) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until a file has no write waiting or in progress, and confirms that its latest write reached the disk, such
+     * as before deleting files that are only safe to drop once it has.
+     *
+     * @param filepath File that was written.
+     * @throws FileWriteException If the latest write of the file failed, or the wait was interrupted. A failure
+     *     reported here is not reported again by a later flush or submit.
+     */
+    synchronized void awaitSuccessfulWrite(Path filepath) throws FileWriteException {
+        Path key = filepath.toAbsolutePath().normalize();
+        awaitWrite(key);
+        if (pendingWrites.containsKey(key) || writingPaths.contains(key)) {
+            throw new FileWriteException(key.toString());
+        }
+        FileWriteException failure = failedWrites.remove(key);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (FileWriteException e) {
+            System.err.println(e.getMessage());
+        }
+    }
+
+    private void runWriter() {
+        while (true) {
+            LinkedHashMap<Path, byte[]> batch;
+            long batchEnd;
+            synchronized (this) {
+                try {
+                    while (pendingWrites.isEmpty()) {
+                        wait();
+                    }
+                    long deadline = System.currentTimeMillis() + FLUSH_INTERVAL_MILLIS;
+                    long remaining = FLUSH_INTERVAL_MILLIS;
+                    while (!isFlushRequested && remaining > 0) {
+                        wait(remaining);
+                        remaining = deadline - System.currentTimeMillis();
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+                batch = new LinkedHashMap<>(pendingWrites);
+                batchEnd = submittedCount;
+                pendingWrites.clear();
+                writingPaths.addAll(batch.keySet());
+                isFlushRequested = false;
+            }
+            LinkedHashMap<Path, FileWriteException> batchFailures = new LinkedHashMap<>();
+            for (Map.Entry<Path, byte[]> write : batch.entrySet()) {
+                try {
+                    writeAtomically(write.getKey(), write.getValue());
+                } catch (IOException | RuntimeException e) {
+                    // The writer must outlive any failed write, or everything waiting on it would wait forever.
+                    batchFailures.put(write.getKey(), new FileWriteException(write.getKey().toString()));
+                }
+            }
+            synchronized (this) {
+                for (Map.Entry<Path, FileWriteException> failure : batchFailures.entrySet()) {
+                    // A newer write of the same file that is already queued supersedes the failure.
+                    if (!pendingWrites.containsKey(failure.getKey())) {
+                        failedWrites.put(failure.getKey(), failure.getValue());
+                    }
+                }
+                writingPaths.clear();
+                writtenCount = batchEnd;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Writes content to a temporary file beside the target, flushes it to disk and renames it over the target.
+     *
+     * @param filepath File to write.
+     * @param data Content of the file.
+     * @throws IOException If the file cannot be written.
+     */
+    static void writeAtomically(Path filepath, byte[] data) throws IOException {
+        Path temporaryPath = filepath.resolveSibling(filepath.getFileName() + TEMPORARY_SUFFIX);
+        Files.createDirectories(filepath.toAbsolutePath().getParent());
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temporaryPath, filepath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryPath, filepath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package seedu.files;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import seedu.exception.InvalidFormatException;
+
+/**
+ * File of fixed-size pages, read through a buffer pool that keeps the most recently used pages in memory and changed
+ * through transactions that are made crash-safe by a redo journal. Changed pages stay in the pool until they are
+ * committed. A commit first writes every changed page to a journal beside the file and flushes it to disk, and only
+ * then writes the pages in place. A journal left behind by a commit that was cut short is replayed when the file is
+ * next opened, and one that was not completely written is discarded, so a commit either happens in full or not at
+ * all.
+ *
+ * <p>Every page ends with a CRC-32 of the rest of the page, checked whenever the page is read from disk. Page 0 holds
+ * the header: magic (int), version (int), page size (int), page count (int), then {@link PageFile#HEADER_SLOTS} ints
+ * for the user of the file. Layout of the journal, with every number big-endian:
+ * <pre>
+ * header:    magic (int), page count after the commit (int), number of pages (int)
+ * page:      page number (int), content of the page
+ * trailer:   CRC-32 of everything before it (int)
+ * </pre>
+ */
+class PageFile implements AutoCloseable {
+    static final int PAGE_SIZE = 4096;
+    /** Space in a page for content, before its checksum. */
+    static final int PAGE_CAPACITY = PAGE_SIZE - Integer.BYTES;
+    /** Number of ints in the header that the user of the file can set. */
+    static final int HEADER_SLOTS = 8;
+    /** Number of unchanged pages kept in the buffer pool. */
+    static final int DEFAULT_POOL_SIZE = 64;
+    private static final int MAGIC = 0x504B5047;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 * Integer.BYTES;
+    private static final int JOURNAL_MAGIC = 0x504B4A4E;
+    private static final int JOURNAL_HEADER_SIZE = 3 * Integer.BYTES;
+    private static final String JOURNAL_SUFFIX = "-journal";
+
+    private final Path filepath;
+    private final Path journalPath;
+    private final FileChannel channel;
+    private final int poolSize;
+    /** Pages in memory, least recently used first. */
+    private final LinkedHashMap<Integer, ByteBuffer> pool = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Integer, ByteBuffer> dirtyPages = new LinkedHashMap<>();
+    private int committedPageCount;
+    private int pageCount;
+    private int readCount = 0;
+
+    private PageFile(Path filepath, int poolSize) throws IOException {
+        this.filepath = filepath;
+        this.journalPath = filepath.resolveSibling(filepath.getFileName() + JOURNAL_SUFFIX);
+        this.poolSize = poolSize;
+        Files.createDirectories(filepath.toAbsolutePath().getParent());
+        channel = FileChannel.open(filepath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Opens a page file, creating it if it does not exist, and recovers any commit that was cut short.
+     *
+     * @param filepath Page file.
+     * @param poolSize Number of unchanged pages to keep in memory.
+     * @return Opened page file.
+     * @throws IOException If the file cannot be read or written.
+     * @throws InvalidFormatException If the file is not a page file of a supported version.
+     */
+    static PageFile open(Path filepath, int poolSize) throws IOException, InvalidFormatException {
+        PageFile pageFile = new PageFile(filepath, poolSize);
+        try {
+            pageFile.recover();
+            pageFile.pageCount = 1;
+            if (pageFile.channel.size() == 0) {
+                pageFile.writePage(0).putInt(0, MAGIC).putInt(4, VERSION).putInt(8, PAGE_SIZE).putInt(12, 1);
+                pageFile.commit();
+            }
+            ByteBuffer header = pageFile.readPage(0);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION || header.getInt(8) != PAGE_SIZE) {
+                throw new InvalidFormatException(filepath + " is not a page file of a supported version.");
+            }
+            pageFile.pageCount = header.getInt(12);
+            pageFile.committedPageCount = pageFile.pageCount;
+            if (pageFile.channel.size() < (long) pageFile.pageCount * PAGE_SIZE) {
+                throw new InvalidFormatException(filepath + " is truncated.");
+            }
+        } catch (IOException | InvalidFormatException e) {
+            pageFile.close();
+            throw e;
+        }
+        return pageFile;
+    }
+
+    /**
+     * Gets a page for reading. The page must not be changed through the buffer returned.
+     *
+     * @param pageNumber Page to read, from 0 to {@link PageFile#getPageCount()} - 1.
+     * @return Content of the page.
+     * @throws IOException If the page cannot be read, or fails its checksum.
+     */
+    ByteBuffer readPage(int pageNumber) throws IOException {
+        assert pageNumber >= 0 && pageNumber < pageCount : "Page number out of range.";
+        ByteBuffer page = dirtyPages.get(pageNumber);
+        if (page == null) {
+            page = pool.get(pageNumber);
+        }
+        if (page == null) {
+            page = ByteBuffer.allocate(PAGE_SIZE);
+            while (page.hasRemaining()) {
+                if (channel.read(page, (long) pageNumber * PAGE_SIZE + page.position()) < 0) {
+                    throw new IOException("Page " + pageNumber + " of " + filepath + " is truncated.");
+                }
+            }
+            readCount++;
+            if (page.getInt(PAGE_CAPACITY) != computeChecksum(page)) {
+                throw new IOException("Page " + pageNumber + " of " + filepath + " is corrupted.");
+            }
+            pool.put(pageNumber, page);
+            evict();
+        }
+        return page;
+    }
+
+    /**
+     * Gets a page for changing, which keeps it in memory until the next {@link PageFile#commit()}.
+     *
+     * @param pageNumber Page to change, from 0 to {@link PageFile#getPageCount()} - 1.
+     * @return Content of the page, to be changed in place.
+     * @throws IOException If the page cannot be read, or fails its checksum.
+     */
+    ByteBuffer writePage(int pageNumber) throws IOException {
+        ByteBuffer page = dirtyPages.get(pageNumber);
+        if (page == null) {
+            page = pageNumber < committedPageCount ? readPage(pageNumber) : ByteBuffer.allocate(PAGE_SIZE);
+            pool.remove(pageNumber);
+            dirtyPages.put(pageNumber, page);
+        }
+        return page;
+    }
+
+    /**
+     * Adds an empty page to the end of the file.
+     *
+     * @return Number of the new page.
+     * @throws IOException If the page cannot be added.
+     */
+    int allocatePage() throws IOException {
+        int pageNumber = pageCount++;
+        // The page may have been dropped by a truncate that is not committed yet, so its old content is not read.
+        pool.remove(pageNumber);
+        dirtyPages.put(pageNumber, ByteBuffer.allocate(PAGE_SIZE));
+        writePage(0).putInt(12, pageCount);
+        return pageNumber;
+    }
+
+    /**
+     * Drops every page after the header, such as before the content is rebuilt from scratch.
+     *
+     * @throws IOException If the header cannot be read.
+     */
+    void truncate() throws IOException {
+        dirtyPages.keySet().removeIf(pageNumber -> pageNumber > 0);
+        pool.keySet().removeIf(pageNumber -> pageNumber > 0);
+        pageCount = 1;
+        writePage(0).putInt(12, pageCount);
+    }
+
+    int getHeaderSlot(int slot) throws IOException {
+        assert slot >= 0 && slot < HEADER_SLOTS : "Header slot out of range.";
+        return readPage(0).getInt(HEADER_SIZE + slot * Integer.BYTES);
+    }
+
+    void setHeaderSlot(int slot, int value) throws IOException {
+        assert slot >= 0 && slot < HEADER_SLOTS : "Header slot out of range.";
+        writePage(0).putInt(HEADER_SIZE + slot * Integer.BYTES, value);
+    }
+
+    int getPageCount() {
+        return pageCount;
+    }
+
+    /** Number of pages read from disk so far, for checking how well the buffer pool works. */
+    int getReadCount() {
+        return readCount;
+    }
+
+    /**
+     * Commits every change since the last commit, through the journal.
+     *
+     * @throws IOException If the changes cannot be written. They stay in memory, so the commit can be tried again.
+     */
+    void commit() throws IOException {
+        if (dirtyPages.isEmpty()) {
+            return;
+        }
+        writeJournal();
+        applyJournal();
+    }
+
+    /**
+     * Writes the changed pages to the journal and flushes it to disk, which is the point where the commit becomes
+     * durable.
+     *
+     * @throws IOException If the journal cannot be written.
+     */
+    void writeJournal() throws IOException {
+        ByteBuffer journal = ByteBuffer.allocate(JOURNAL_HEADER_SIZE + dirtyPages.size() * (Integer.BYTES + PAGE_SIZE)
+                + Integer.BYTES);
+        journal.putInt(JOURNAL_MAGIC).putInt(pageCount).putInt(dirtyPages.size());
+        for (Map.Entry<Integer, ByteBuffer> dirtyPage : dirtyPages.entrySet()) {
+            ByteBuffer page = dirtyPage.getValue();
+            page.putInt(PAGE_CAPACITY, computeChecksum(page));
+            journal.putInt(dirtyPage.getKey()).put(page.duplicate().clear());
+        }
+        CRC32 crc = new CRC32();
+        crc.update(journal.array(), 0, journal.position());
+        journal.putInt((int) crc.getValue());
+        FileWriteQueue.writeAtomically(journalPath, journal.array());
+    }
+
+    /**
+     * Writes the pages in the journal in place and deletes the journal.
+     *
+     * @throws IOException If the pages cannot be written.
+     */
+    private void applyJournal() throws IOException {
+        List<Integer> pageNumbers = new ArrayList<>(dirtyPages.keySet());
+        for (int pageNumber : pageNumbers) {
+            writeToFile(pageNumber, dirtyPages.get(pageNumber));
+        }
+        channel.truncate((long) pageCount * PAGE_SIZE);
+        channel.force(true);
+        Files.deleteIfExists(journalPath);
+        for (int pageNumber : pageNumbers) {
+            pool.put(pageNumber, dirtyPages.remove(pageNumber));
+        }
+        committedPageCount = pageCount;
+        evict();
+    }
+
+    /**
+     * Discards every change since the last commit.
+     */
+    void rollback() {
+        dirtyPages.clear();
+        pool.clear();
+        pageCount = committedPageCount;
+    }
+
+    private void recover() throws IOException {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        ByteBuffer journal = ByteBuffer.wrap(Files.readAllBytes(journalPath));
+        int limit = journal.capacity() - Integer.BYTES;
+        if (limit < JOURNAL_HEADER_SIZE || journal.getInt(0) != JOURNAL_MAGIC
+                || limit != JOURNAL_HEADER_SIZE + journal.getInt(8) * (long) (Integer.BYTES + PAGE_SIZE)) {
+            // The commit never finished writing its journal, so it never happened.
+            Files.delete(journalPath);
+            return;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(journal.array(), 0, limit);
+        if ((int) crc.getValue() != journal.getInt(limit)) {
+            Files.delete(journalPath);
+            return;
+        }
+        pageCount = journal.getInt(4);
+        for (int position = JOURNAL_HEADER_SIZE; position < limit; position += Integer.BYTES + PAGE_SIZE) {
+            int pageNumber = journal.getInt(position);
+            ByteBuffer page = ByteBuffer.wrap(journal.array(), position + Integer.BYTES, PAGE_SIZE).slice();
+            writeToFile(pageNumber, page);
+        }
+        channel.truncate((long) pageCount * PAGE_SIZE);
+        channel.force(true);
+        Files.delete(journalPath);
+    }
+
+    private void writeToFile(int pageNumber, ByteBuffer page) throws IOException {
+        ByteBuffer content = page.duplicate().clear();
+        while (content.hasRemaining()) {
+            channel.write(content, (long) pageNumber * PAGE_SIZE + content.position());
+        }
+    }
+
+    private void evict() {
+        Iterator<Integer> leastRecentlyUsed = pool.keySet().iterator();
+        while (pool.size() > poolSize && leastRecentlyUsed.hasNext()) {
+            leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    private static int computeChecksum(ByteBuffer page) {
+        CRC32 crc = new CRC32();
+        crc.update(page.duplicate().position(0).limit(PAGE_CAPACITY));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Closes the file, discarding any changes that were not committed.
+     *
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        rollback();
+        channel.close();
+    }
+}
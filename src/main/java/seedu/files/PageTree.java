@@ -0,0 +1,281 @@
+package seedu.files;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * B+tree in a {@link PageFile} that maps string keys to small values, kept in key order. Every node is one page, and
+ * the values are all held in the leaves, which are linked in key order so they can be scanned without going back up
+ * the tree. A node is decoded whole when it is changed and encoded back, which is cheap at the size of a page. The
+ * root is kept in a header slot of the page file, and is 0 while the tree is empty.
+ *
+ * <p>Layout of a node, with every number big-endian:
+ * <pre>
+ * leaf:      type 0 (byte), entry count (short), next leaf (int),
+ *            then per entry key length (short), UTF-8 key, value length (short), value
+ * internal:  type 1 (byte), key count (short), first child (int),
+ *            then per key key length (short), UTF-8 key, child holding keys from this key on (int)
+ * </pre>
+ */
+class PageTree {
+    static final int MAX_KEY_BYTES = 255;
+    /** Largest value stored, small enough that a split always leaves both halves within a page. */
+    static final int MAX_VALUE_BYTES = PageFile.PAGE_CAPACITY / 4;
+    private static final byte LEAF = 0;
+    private static final byte INTERNAL = 1;
+    private static final int NODE_HEADER_SIZE = 1 + Short.BYTES + Integer.BYTES;
+
+    private final PageFile pageFile;
+    private final int rootSlot;
+
+    /**
+     * Node decoded from its page.
+     */
+    private static class Node {
+        private final boolean isLeaf;
+        private final List<String> keys = new ArrayList<>();
+        /** Values of a leaf, one per key. */
+        private final List<byte[]> values = new ArrayList<>();
+        /** Children of an internal node, one more than its keys. */
+        private final List<Integer> children = new ArrayList<>();
+        /** Next leaf in key order, or 0 for the last leaf. */
+        private int next = 0;
+
+        Node(boolean isLeaf) {
+            this.isLeaf = isLeaf;
+        }
+
+        static Node decode(ByteBuffer page) {
+            Node node = new Node(page.get(0) == LEAF);
+            int count = page.getShort(1);
+            int position = NODE_HEADER_SIZE;
+            if (node.isLeaf) {
+                node.next = page.getInt(3);
+            } else {
+                node.children.add(page.getInt(3));
+            }
+            for (int i = 0; i < count; i++) {
+                byte[] key = getBytes(page, position);
+                node.keys.add(new String(key, StandardCharsets.UTF_8));
+                position += Short.BYTES + key.length;
+                if (node.isLeaf) {
+                    byte[] value = getBytes(page, position);
+                    node.values.add(value);
+                    position += Short.BYTES + value.length;
+                } else {
+                    node.children.add(page.getInt(position));
+                    position += Integer.BYTES;
+                }
+            }
+            return node;
+        }
+
+        void encode(ByteBuffer page) {
+            ByteBuffer content = page.duplicate().clear();
+            content.put(isLeaf ? LEAF : INTERNAL).putShort((short) keys.size()).putInt(isLeaf ? next : children.get(0));
+            for (int i = 0; i < keys.size(); i++) {
+                byte[] key = keys.get(i).getBytes(StandardCharsets.UTF_8);
+                content.putShort((short) key.length).put(key);
+                if (isLeaf) {
+                    content.putShort((short) values.get(i).length).put(values.get(i));
+                } else {
+                    content.putInt(children.get(i + 1));
+                }
+            }
+        }
+
+        int getEntrySize(int index) {
+            int keySize = Short.BYTES + keys.get(index).getBytes(StandardCharsets.UTF_8).length;
+            return keySize + (isLeaf ? Short.BYTES + values.get(index).length : Integer.BYTES);
+        }
+
+        int getSize() {
+            int size = NODE_HEADER_SIZE;
+            for (int i = 0; i < keys.size(); i++) {
+                size += getEntrySize(i);
+            }
+            return size;
+        }
+
+        /**
+         * Finds the child of an internal node that holds a key.
+         */
+        int findChild(String key) {
+            int index = 0;
+            while (index < keys.size() && keys.get(index).compareTo(key) <= 0) {
+                index++;
+            }
+            return index;
+        }
+
+        private static byte[] getBytes(ByteBuffer page, int position) {
+            byte[] bytes = new byte[page.getShort(position)];
+            page.duplicate().position(position + Short.BYTES).get(bytes);
+            return bytes;
+        }
+    }
+
+    /**
+     * Key and page of a node split off to the right, for its parent to add.
+     */
+    private static class Split {
+        private final String key;
+        private final int pageNumber;
+
+        Split(String key, int pageNumber) {
+            this.key = key;
+            this.pageNumber = pageNumber;
+        }
+    }
+
+    /**
+     * Constructor for the {@link PageTree} class.
+     *
+     * @param pageFile Page file holding the tree.
+     * @param rootSlot Header slot of the page file that holds the root.
+     */
+    PageTree(PageFile pageFile, int rootSlot) {
+        this.pageFile = pageFile;
+        this.rootSlot = rootSlot;
+    }
+
+    /**
+     * Looks up a key, reading only the pages on the path from the root to its leaf.
+     *
+     * @param key Key to look up.
+     * @return Value of the key, or null if the tree does not have it.
+     * @throws IOException If a page cannot be read.
+     */
+    byte[] get(String key) throws IOException {
+        int pageNumber = pageFile.getHeaderSlot(rootSlot);
+        if (pageNumber == 0) {
+            return null;
+        }
+        Node node = Node.decode(pageFile.readPage(pageNumber));
+        while (!node.isLeaf) {
+            node = Node.decode(pageFile.readPage(node.children.get(node.findChild(key))));
+        }
+        int index = node.keys.indexOf(key);
+        return index < 0 ? null : node.values.get(index);
+    }
+
+    /**
+     * Sets the value of a key, adding the key if the tree does not have it. The change is made in the pages of the
+     * page file, and is only on disk once the page file is committed.
+     *
+     * @param key Key to set, of at most {@link PageTree#MAX_KEY_BYTES} bytes in UTF-8.
+     * @param value Value of the key, of at most {@link PageTree#MAX_VALUE_BYTES} bytes.
+     * @throws IOException If a page cannot be read.
+     */
+    void put(String key, byte[] value) throws IOException {
+        assert key.getBytes(StandardCharsets.UTF_8).length <= MAX_KEY_BYTES : "Key too long for the tree.";
+        assert value.length <= MAX_VALUE_BYTES : "Value too large for the tree.";
+        int root = pageFile.getHeaderSlot(rootSlot);
+        if (root == 0) {
+            root = pageFile.allocatePage();
+            new Node(true).encode(pageFile.writePage(root));
+            pageFile.setHeaderSlot(rootSlot, root);
+        }
+        Split split = insert(root, key, value);
+        if (split != null) {
+            Node newRoot = new Node(false);
+            newRoot.children.add(root);
+            newRoot.keys.add(split.key);
+            newRoot.children.add(split.pageNumber);
+            int newRootPage = pageFile.allocatePage();
+            newRoot.encode(pageFile.writePage(newRootPage));
+            pageFile.setHeaderSlot(rootSlot, newRootPage);
+        }
+    }
+
+    private Split insert(int pageNumber, String key, byte[] value) throws IOException {
+        Node node = Node.decode(pageFile.readPage(pageNumber));
+        if (node.isLeaf) {
+            int index = 0;
+            while (index < node.keys.size() && node.keys.get(index).compareTo(key) < 0) {
+                index++;
+            }
+            if (index < node.keys.size() && node.keys.get(index).equals(key)) {
+                node.values.set(index, value);
+            } else {
+                node.keys.add(index, key);
+                node.values.add(index, value);
+            }
+        } else {
+            int childIndex = node.findChild(key);
+            Split childSplit = insert(node.children.get(childIndex), key, value);
+            if (childSplit == null) {
+                return null;
+            }
+            node.keys.add(childIndex, childSplit.key);
+            node.children.add(childIndex + 1, childSplit.pageNumber);
+        }
+        if (node.getSize() <= PageFile.PAGE_CAPACITY) {
+            node.encode(pageFile.writePage(pageNumber));
+            return null;
+        }
+        return split(pageNumber, node);
+    }
+
+    /**
+     * Splits a node that outgrew its page into two of about the same size.
+     */
+    private Split split(int pageNumber, Node node) throws IOException {
+        int half = node.getSize() / 2;
+        int middle = 0;
+        for (int size = NODE_HEADER_SIZE; middle < node.keys.size() - 1 && size < half; middle++) {
+            size += node.getEntrySize(middle);
+        }
+        middle = Math.max(middle, 1);
+        Node right = new Node(node.isLeaf);
+        int rightPage = pageFile.allocatePage();
+        String splitKey = node.keys.get(middle);
+        if (node.isLeaf) {
+            right.keys.addAll(node.keys.subList(middle, node.keys.size()));
+            right.values.addAll(node.values.subList(middle, node.values.size()));
+            node.keys.subList(middle, node.keys.size()).clear();
+            node.values.subList(middle, node.values.size()).clear();
+            right.next = node.next;
+            node.next = rightPage;
+        } else {
+            // The middle key moves up to the parent, and its child starts the right node.
+            right.keys.addAll(node.keys.subList(middle + 1, node.keys.size()));
+            right.children.addAll(node.children.subList(middle + 1, node.children.size()));
+            node.keys.subList(middle, node.keys.size()).clear();
+            node.children.subList(middle + 1, node.children.size()).clear();
+        }
+        node.encode(pageFile.writePage(pageNumber));
+        right.encode(pageFile.writePage(rightPage));
+        return new Split(splitKey, rightPage);
+    }
+
+    /**
+     * Goes through every key and its value in key order, along the linked leaves.
+     *
+     * @param action Action on each key and value.
+     * @throws IOException If a page cannot be read.
+     */
+    void forEach(BiConsumer<String, byte[]> action) throws IOException {
+        int pageNumber = pageFile.getHeaderSlot(rootSlot);
+        if (pageNumber == 0) {
+            return;
+        }
+        Node node = Node.decode(pageFile.readPage(pageNumber));
+        while (!node.isLeaf) {
+            node = Node.decode(pageFile.readPage(node.children.get(0)));
+        }
+        while (true) {
+            for (int i = 0; i < node.keys.size(); i++) {
+                action.accept(node.keys.get(i), node.values.get(i));
+            }
+            if (node.next == 0) {
+                return;
+            }
+            node = Node.decode(pageFile.readPage(node.next));
+        }
+    }
+}
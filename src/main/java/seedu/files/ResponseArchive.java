@@ -0,0 +1,117 @@
+package seedu.files;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.exception.FileWriteException;
+
+/**
+ * Archive of raw responses from the LTA API, each kept as its own timestamped file compressed with deflate in the gzip
+ * format, such as {@code ltaResponse-20221024-160609-000.json.gz}. The newest responses are kept up to
+ * {@link ResponseArchive#MAX_ARCHIVED_RESPONSES}, and older ones are deleted as new ones are archived. Archived
+ * responses are read back through {@link FileReader#loadLtaJson(Path, Path)}, which decompresses them as it parses.
+ */
+public class ResponseArchive {
+    /** Number of responses kept in the archive. */
+    public static final int MAX_ARCHIVED_RESPONSES = 24;
+    public static final String COMPRESSED_SUFFIX = ".gz";
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final Path directory;
+    private final String prefix;
+    private final String suffix;
+    /** Latest archived response, which may still be queued to be written. */
+    private Path latestPath;
+
+    /**
+     * Constructor for the {@link ResponseArchive} class.
+     *
+     * @param directory Directory of the archive, created when the first response is archived.
+     * @param file File name of a response, such as {@code ltaResponse.json}, which archived file names are based on.
+     */
+    public ResponseArchive(Path directory, String file) {
+        this.directory = directory;
+        int extensionStart = file.lastIndexOf('.');
+        this.prefix = (extensionStart < 0 ? file : file.substring(0, extensionStart)) + "-";
+        this.suffix = (extensionStart < 0 ? "" : file.substring(extensionStart)) + COMPRESSED_SUFFIX;
+    }
+
+    /**
+     * Compresses a response and queues it to be written to the archive, then deletes the oldest archived responses
+     * beyond {@link ResponseArchive#MAX_ARCHIVED_RESPONSES}.
+     *
+     * @param response Raw response.
+     * @return Path of the archived response.
+     * @throws FileWriteException If the response cannot be compressed or old responses cannot be deleted.
+     */
+    public Path archive(String response) throws FileWriteException {
+        LocalDateTime timestamp = LocalDateTime.now();
+        Path archivedPath = directory.resolve(prefix + timestamp.format(TIMESTAMP_FORMATTER) + suffix);
+        // Responses archived within the same millisecond are spread out so that their names still sort in order.
+        while (latestPath != null && archivedPath.compareTo(latestPath) <= 0 || Files.exists(archivedPath)) {
+            timestamp = timestamp.plusNanos(1_000_000);
+            archivedPath = directory.resolve(prefix + timestamp.format(TIMESTAMP_FORMATTER) + suffix);
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(response.length() / 8);
+        try (GZIPOutputStream output = new GZIPOutputStream(compressed)) {
+            output.write(response.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new FileWriteException(archivedPath.toString());
+        }
+        FileWriteQueue.getInstance().submit(archivedPath, compressed.toByteArray());
+        latestPath = archivedPath;
+
+        List<Path> archivedPaths = getArchivedPaths();
+        for (Path oldPath : archivedPaths.subList(Math.min(MAX_ARCHIVED_RESPONSES, archivedPaths.size()),
+                archivedPaths.size())) {
+            try {
+                Files.deleteIfExists(oldPath);
+            } catch (IOException e) {
+                throw new FileWriteException(oldPath.toString());
+            }
+        }
+        return archivedPath;
+    }
+
+    /**
+     * Gets the archived responses, including one still queued to be written, newest first.
+     *
+     * @return List of paths of archived responses.
+     */
+    public List<Path> getArchivedPaths() {
+        List<Path> archivedPaths = new ArrayList<>();
+        if (Files.isDirectory(directory)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, prefix + "*" + suffix)) {
+                stream.forEach(archivedPaths::add);
+            } catch (IOException e) {
+                // An unreadable archive is treated as empty.
+            }
+        }
+        if (latestPath != null && !archivedPaths.contains(latestPath)) {
+            archivedPaths.add(latestPath);
+        }
+        // Timestamps in the file names sort in time order.
+        archivedPaths.sort(Collections.reverseOrder());
+        return archivedPaths;
+    }
+
+    /**
+     * Gets the newest archived response.
+     *
+     * @return Path of the newest archived response, or null if the archive is empty.
+     */
+    public Path getLatestPath() {
+        List<Path> archivedPaths = getArchivedPaths();
+        return archivedPaths.isEmpty() ? null : archivedPaths.get(0);
+    }
+}
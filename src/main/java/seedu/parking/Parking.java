@@ -4,15 +4,22 @@ import static seedu.common.CommonFiles.API_JSON_DIRECTORY;
 import static seedu.common.CommonFiles.API_KEY_FILE;
 import static seedu.common.CommonFiles.CARPARK_LIST_DIRECTORY;
 import static seedu.common.CommonFiles.CARPARK_LIST_FILE;
+import static seedu.common.CommonFiles.CARPARK_SNAPSHOT_FILE;
 import static seedu.common.CommonFiles.FAVOURITE_DIRECTORY;
 import static seedu.common.CommonFiles.FAVOURITE_FILE;
 import static seedu.common.CommonFiles.LTA_JSON_FILE;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 import seedu.api.Api;
+import seedu.commands.AuthCommand;
 import seedu.commands.Command;
 import seedu.commands.CommandResult;
 import seedu.commands.CommandStatus;
 import seedu.commands.ExitCommand;
+import seedu.commands.SuggestCommand;
+import seedu.commands.UpdateCommand;
 import seedu.common.CommonFiles;
 import seedu.data.CarparkList;
 import seedu.exception.FileWriteException;
@@ -35,20 +42,45 @@ public class Parking {
     private Api api;
     private CarparkList carparkList;
     private Favourite favourite;
+    private final PhaseTimer phaseTimer = new PhaseTimer();
+    /** Messages from background loading, shown between commands so they do not break into the prompt. */
+    private final ConcurrentLinkedQueue<String> backgroundMessages = new ConcurrentLinkedQueue<>();
+    /** Carparks fetched from the API in the background, or null once they have been merged in. */
+    private CompletableFuture<CarparkList> refresh;
+    /** Favourites loading in the background, or null while they wait for carparks to be checked against. */
+    private CompletableFuture<Void> favouriteLoad;
 
+    /**
+     * Creates the program, which sets up its carparks and favourites when it is run.
+     */
+    public Parking() {
+    }
+
+    /**
+     * Creates the program with its carparks and favourites already set up, so that loading the favourites can be
+     * tested without the user interface or the API.
+     *
+     * @param carparkList Carparks loaded so far.
+     * @param favourite Favourites, not loaded yet.
+     */
+    Parking(CarparkList carparkList, Favourite favourite) {
+        this.carparkList = carparkList;
+        this.favourite = favourite;
+    }
 
     public static void main(String[] args) {
         new Parking().run();
     }
 
     /**
-     * Runs the program until termination.
+     * Runs the program until termination. The saved carparks are loaded first so the prompt is ready at once, while
+     * the API is fetched and the favourites are loaded in the background. Fresh data from the API is merged in between
+     * commands once it is ready.
      */
     public void run() {
         start();
-        loadApi();
         loadJson();
-        loadFavourite(carparkList);
+        startBackgroundLoading();
         runCommandLoopUntilExitCommand();
         exit();
     }
@@ -63,51 +95,144 @@ public class Parking {
         ui.greetUser();
     }
 
+    /**
+     * Starts fetching from the API and loading the favourites in the background.
+     */
+    private void startBackgroundLoading() {
+        refresh = CompletableFuture.supplyAsync(this::loadApi);
+        startFavouriteLoading();
+    }
+
+    /**
+     * Starts loading the favourites in the background, checked against the saved carparks. If there are no saved
+     * carparks, they wait until the carparks fetched from the API are merged in instead, since checking them against
+     * an empty list would remove every one of them from favourite.txt.
+     */
+    void startFavouriteLoading() {
+        if (!carparkList.getCarparks().isEmpty()) {
+            favouriteLoad = CompletableFuture.runAsync(this::loadFavourite);
+        }
+    }
+
+    /**
+     * Loads the favourites on this thread if they were waiting for carparks to be checked against, and there now are
+     * some.
+     */
+    void loadWaitingFavourites() {
+        if (favouriteLoad == null && !carparkList.getCarparks().isEmpty()) {
+            loadFavourite();
+            favouriteLoad = CompletableFuture.completedFuture(null);
+        }
+    }
+
     /**
      * Loads the data from favouriteList.txt into program.
      */
-    private void loadFavourite(CarparkList carparkList) {
+    private void loadFavourite() {
+        assert !carparkList.getCarparks().isEmpty() : "Favourites must not be checked against an empty list.";
         try {
-            favourite.updateFavouriteList(carparkList);
-            favourite.writeFavouriteList();
+            String note = phaseTimer.time("Loaded favourites", () -> favourite.updateFavouriteList(carparkList));
+            if (note != null) {
+                backgroundMessages.add("@|red " + note + "|@");
+            }
         } catch (ParkingException e) {
-            Ui.printError(e);
+            backgroundMessages.add(e.getMessage());
         }
     }
 
     /**
-     * Loads the api and fetches the data from api.
+     * Loads the api, fetches the data from api and reads it into a new carpark list, to be merged in later.
+     *
+     * @return Carpark list from the API, or null if none could be read.
      */
-    private void loadApi() {
+    private CarparkList loadApi() {
         try {
-            api.loadApiKey(API_KEY_FILE, API_JSON_DIRECTORY, true);
-            api.syncFetchData();
-            Ui.printGreen("Fetching data from API successful!", true);
+            phaseTimer.time("Fetched data from API", () -> {
+                api.loadApiKey(API_KEY_FILE, API_JSON_DIRECTORY, true);
+                api.syncFetchData();
+                return null;
+            });
+            backgroundMessages.add("@|green Fetching data from API successful!|@");
         } catch (ParkingException e) {
-            Ui.println(e.getMessage());
+            backgroundMessages.add(e.getMessage());
+        }
+        try {
+            return phaseTimer.time("Read data from API", () -> new CarparkList(api.getResponsePath(),
+                    CommonFiles.LTA_BACKUP_FILE_PATH));
+        } catch (ParkingException e) {
+            backgroundMessages.add(e.getMessage());
+            return null;
         }
     }
 
     /**
-     * Loads the JSON file and writes the data from the api into the json file.
+     * Loads the saved carparks from the last run, or starts with no carparks if none can be loaded.
      */
     private void loadJson() {
         ui.showLoadingDataMessage();
         try {
-            carparkList = FileReader.loadCarparkListFromTxt(CARPARK_LIST_FILE, CARPARK_LIST_DIRECTORY);
-            CarparkList newCarparkList = new CarparkList(CommonFiles.LTA_FILE_PATH, CommonFiles.LTA_BACKUP_FILE_PATH);
-            carparkList.update(newCarparkList);
-            FileStorage.saveCarparkList(carparkList);
+            carparkList = phaseTimer.time("Loaded saved carparks", () -> FileReader.loadCarparkList(
+                    CARPARK_SNAPSHOT_FILE, CARPARK_LIST_FILE, CARPARK_LIST_DIRECTORY));
             ui.showLoadingDataSuccess();
         } catch (ParkingException e) {
             Ui.printError(e);
+            // Start empty, so the carparks fetched in the background are merged into a usable list.
+            carparkList = new CarparkList();
         }
+        showBackgroundMessages();
     }
 
     /**
-     * Prints the exit message and exits the program.
+     * Merges in the carparks fetched from the API if they are ready, or waits for them if the command needs the API
+     * itself, or the favourites are waiting for them. Favourites are always waited for, since they finish long before
+     * a command is typed. Messages and timings from the background are then shown.
+     *
+     * @param command Command about to be executed.
+     */
+    private void applyBackgroundLoading(Command command) {
+        if (favouriteLoad != null) {
+            favouriteLoad.join();
+        }
+        boolean needsApi = command instanceof UpdateCommand || command instanceof AuthCommand
+                || favouriteLoad == null;
+        if (refresh != null && (refresh.isDone() || needsApi)) {
+            CarparkList newCarparkList = refresh.join();
+            refresh = null;
+            if (newCarparkList != null) {
+                try {
+                    phaseTimer.time("Merged data from API", () -> {
+                        carparkList.update(newCarparkList);
+                        FileStorage.scheduleCarparkListSave(carparkList);
+                        return null;
+                    });
+                    ui.showLoadingDataSuccess();
+                } catch (ParkingException e) {
+                    Ui.printError(e);
+                }
+            }
+        }
+        loadWaitingFavourites();
+        showBackgroundMessages();
+    }
+
+    private void showBackgroundMessages() {
+        for (String message = backgroundMessages.poll(); message != null; message = backgroundMessages.poll()) {
+            Ui.printRenderedString(message, true);
+        }
+        for (String report : phaseTimer.takeReports()) {
+            Ui.printRenderedString(report, true);
+        }
+    }
+
+    /**
+     * Waits for queued file writes, prints the exit message and exits the program.
      */
     private void exit() {
+        try {
+            FileStorage.flushAll();
+        } catch (FileWriteException e) {
+            Ui.printError(e);
+        }
         ui.showByeMessage();
         System.exit(0);
     }
@@ -119,8 +244,10 @@ public class Parking {
     private void runCommandLoopUntilExitCommand() {
         Command command;
         do {
-            String input = ui.getCommand();
+            String input = ui.getCommand(prefix -> carparkList.getSuggestionTrie().suggest(prefix,
+                    SuggestCommand.DEFAULT_COUNT));
             command = new Parser().parseCommand(input, api, carparkList, favourite);
+            applyBackgroundLoading(command);
             CommandResult result = executeCommand(command);
             ui.printResult(result);
         } while (!ExitCommand.isExit(command));
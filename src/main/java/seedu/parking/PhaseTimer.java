@@ -0,0 +1,56 @@
+package seedu.parking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import seedu.exception.ParkingException;
+
+/**
+ * Times the phases of start up, which may run on background threads, and keeps a report of each until the main thread
+ * is ready to show them between commands.
+ */
+class PhaseTimer {
+    private final ConcurrentLinkedQueue<String> reports = new ConcurrentLinkedQueue<>();
+
+    /**
+     * A phase of start up.
+     *
+     * @param <T> Result of the phase.
+     */
+    interface Phase<T> {
+        T run() throws ParkingException;
+    }
+
+    /**
+     * Runs a phase and reports how long it took, whether or not it succeeded.
+     *
+     * @param name Name of the phase, for the report.
+     * @param phase Phase to run.
+     * @param <T> Result of the phase.
+     * @return Result of the phase.
+     * @throws ParkingException If the phase fails.
+     */
+    <T> T time(String name, Phase<T> phase) throws ParkingException {
+        long start = System.nanoTime();
+        try {
+            return phase.run();
+        } finally {
+            reports.add(String.format("@|faint -->|@ %s in @|yellow %d|@ ms", name,
+                    (System.nanoTime() - start) / 1_000_000));
+        }
+    }
+
+    /**
+     * Takes the reports of the phases finished since the last call, in the order they finished.
+     *
+     * @return List of reports.
+     */
+    List<String> takeReports() {
+        List<String> taken = new ArrayList<>();
+        for (String report = reports.poll(); report != null; report = reports.poll()) {
+            taken.add(report);
+        }
+        return taken;
+    }
+}
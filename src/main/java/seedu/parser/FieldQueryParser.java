@@ -0,0 +1,161 @@
+package seedu.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.data.FieldQuery;
+import seedu.data.LotType;
+import seedu.exception.InvalidQueryException;
+
+/**
+ * Parses a field query for the filter command into a {@link FieldQuery}. A query is made of terms such as
+ * {@code area:marina}, {@code id:a1*} or {@code lots.c>=20}, combined with {@code and}, {@code or}, {@code not} and
+ * brackets. Terms next to each other without an operator are combined with {@code and}, and {@code and} binds more
+ * tightly than {@code or}.
+ */
+public class FieldQueryParser {
+    private static final Pattern FIELD_TERM_FORMAT = Pattern.compile("(?<field>[a-z]+):(?<value>[^*]+)(?<prefix>\\*?)");
+    private static final Pattern LOTS_TERM_FORMAT = Pattern.compile("lots\\.(?<lotType>[a-z])(?<operator>>=|<=|>|<|=)"
+            + "(?<lots>\\d+)");
+
+    private final List<String> tokens = new ArrayList<>();
+    private int position = 0;
+
+    /**
+     * Constructor for the {@link FieldQueryParser} class. Splits a query into words and brackets.
+     *
+     * @param query Case-folded query to parse.
+     */
+    public FieldQueryParser(String query) {
+        for (String word : query.replace("(", " ( ").replace(")", " ) ").trim().split("\\s+")) {
+            if (!word.isEmpty()) {
+                tokens.add(word);
+            }
+        }
+    }
+
+    /**
+     * Parses the query.
+     *
+     * @return Parsed {@link FieldQuery}.
+     * @throws InvalidQueryException If the query is empty, has unbalanced brackets or has an invalid term.
+     */
+    public FieldQuery parse() throws InvalidQueryException {
+        if (tokens.isEmpty()) {
+            throw new InvalidQueryException("The query is empty.");
+        }
+        FieldQuery fieldQuery = parseOr();
+        if (position < tokens.size()) {
+            throw new InvalidQueryException(String.format("Unexpected '%s' in query.", tokens.get(position)));
+        }
+        return fieldQuery;
+    }
+
+    private String peek() {
+        return position < tokens.size() ? tokens.get(position) : null;
+    }
+
+    private FieldQuery parseOr() throws InvalidQueryException {
+        List<FieldQuery> children = new ArrayList<>();
+        children.add(parseAnd());
+        while ("or".equals(peek())) {
+            position++;
+            children.add(parseAnd());
+        }
+        return FieldQuery.or(children);
+    }
+
+    private FieldQuery parseAnd() throws InvalidQueryException {
+        List<FieldQuery> children = new ArrayList<>();
+        children.add(parseNot());
+        while (peek() != null && !peek().equals("or") && !peek().equals(")")) {
+            if (peek().equals("and")) {
+                position++;
+            }
+            children.add(parseNot());
+        }
+        return FieldQuery.and(children);
+    }
+
+    private FieldQuery parseNot() throws InvalidQueryException {
+        if ("not".equals(peek())) {
+            position++;
+            return FieldQuery.not(parseNot());
+        }
+        return parseTerm();
+    }
+
+    private FieldQuery parseTerm() throws InvalidQueryException {
+        String token = peek();
+        if (token == null) {
+            throw new InvalidQueryException("The query ends before a term was given.");
+        }
+        position++;
+        if (token.equals("(")) {
+            FieldQuery fieldQuery = parseOr();
+            if (!")".equals(peek())) {
+                throw new InvalidQueryException("A bracket in the query is not closed.");
+            }
+            position++;
+            return fieldQuery;
+        }
+        Matcher lotsMatcher = LOTS_TERM_FORMAT.matcher(token);
+        if (lotsMatcher.matches()) {
+            return parseLotsTerm(lotsMatcher);
+        }
+        Matcher fieldMatcher = FIELD_TERM_FORMAT.matcher(token);
+        if (!fieldMatcher.matches()) {
+            throw new InvalidQueryException(String.format("'%s' is not a valid term.", token));
+        }
+        return FieldQuery.field(parseField(fieldMatcher.group("field")), fieldMatcher.group("value"),
+                !fieldMatcher.group("prefix").isEmpty());
+    }
+
+    private FieldQuery parseLotsTerm(Matcher lotsMatcher) throws InvalidQueryException {
+        LotType lotType = Parser.parseLotType(lotsMatcher.group("lotType"));
+        if (lotType == null) {
+            throw new InvalidQueryException(String.format("'%s' is not a valid lot type.",
+                    lotsMatcher.group("lotType")));
+        }
+        int lots;
+        try {
+            lots = Integer.parseInt(lotsMatcher.group("lots"));
+        } catch (NumberFormatException e) {
+            throw new InvalidQueryException(String.format("'%s' is too large.", lotsMatcher.group("lots")));
+        }
+        switch (lotsMatcher.group("operator")) {
+        case ">=":
+            return FieldQuery.lots(lotType, lots, Integer.MAX_VALUE);
+        case ">":
+            // No carpark has more than the largest int lots, and adding one would wrap around to match them all.
+            return lots == Integer.MAX_VALUE ? FieldQuery.noLots(lotType)
+                    : FieldQuery.lots(lotType, lots + 1, Integer.MAX_VALUE);
+        case "<=":
+            return FieldQuery.lots(lotType, 0, lots);
+        case "<":
+            return lots == 0 ? FieldQuery.noLots(lotType) : FieldQuery.lots(lotType, 0, lots - 1);
+        default:
+            return FieldQuery.lots(lotType, lots, lots);
+        }
+    }
+
+    private FieldQuery.Field parseField(String field) throws InvalidQueryException {
+        switch (field) {
+        case "dev":
+            //Fallthrough
+        case "development":
+            return FieldQuery.Field.DEVELOPMENT;
+        case "area":
+            return FieldQuery.Field.AREA;
+        case "id":
+            return FieldQuery.Field.ID;
+        case "agency":
+            return FieldQuery.Field.AGENCY;
+        default:
+            throw new InvalidQueryException(String.format("'%s' is not a valid field. Valid fields are dev, area, "
+                    + "id and agency.", field));
+        }
+    }
+}
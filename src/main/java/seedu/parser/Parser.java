@@ -1,5 +1,7 @@
 package seedu.parser;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -11,19 +13,32 @@ import seedu.commands.FavouriteCommand;
 import seedu.commands.FilterAddressCommand;
 import seedu.commands.FilterCarparkIdCommand;
 import seedu.commands.FilterCommand;
+import seedu.commands.FilterFuzzyCommand;
+import seedu.commands.FilterLotsCommand;
+import seedu.commands.FilterPatternCommand;
+import seedu.commands.FilterQueryCommand;
+import seedu.commands.FilterSoundsCommand;
 import seedu.commands.FindCommand;
 import seedu.commands.HelpCommand;
 import seedu.commands.InvalidCommand;
 import seedu.commands.ListCommand;
+import seedu.commands.StatsCommand;
+import seedu.commands.SuggestCommand;
+import seedu.commands.TopCommand;
 import seedu.commands.UnfavouriteCommand;
 import seedu.commands.UpdateCommand;
 import seedu.common.CommonData;
 import seedu.data.CarparkList;
+import seedu.data.DevelopmentGramIndex;
+import seedu.data.LotType;
+import seedu.data.SuggestionTrie;
 import seedu.exception.DashedArgumentsNotInFrontException;
+import seedu.exception.InvalidQueryException;
 import seedu.exception.UnneededArgumentsException;
 import seedu.files.Favourite;
 import seedu.parser.search.Arguments;
 import seedu.parser.search.Sentence;
+import seedu.parser.search.Word;
 
 /**
  * Class to deal with parsing commands.
@@ -94,6 +109,18 @@ public class Parser {
             //Fallthrough
         case FilterCommand.COMMAND_WORD_SHORT:
             return prepareFilter(argsList, arguments);
+        case TopCommand.COMMAND_WORD:
+            //Fallthrough
+        case TopCommand.COMMAND_WORD_SHORT:
+            return prepareTop(argsList);
+        case SuggestCommand.COMMAND_WORD:
+            //Fallthrough
+        case SuggestCommand.COMMAND_WORD_SHORT:
+            return prepareSuggest(argsList);
+        case StatsCommand.COMMAND_WORD:
+            //Fallthrough
+        case StatsCommand.COMMAND_WORD_SHORT:
+            return prepareStats(argsList);
         case UpdateCommand.COMMAND_WORD:
             //Fallthrough
         case UpdateCommand.COMMAND_WORD_SHORT:
@@ -217,6 +244,10 @@ public class Parser {
         String dashedCommand;
         Sentence actualArgument = argsList.getArguments();
 
+        if (argsList.getValuedArg("min") != null) {
+            return prepareFilterLots(argsList);
+        }
+
         //If there exists a dashed argument
         if (argsList.getDashedArgsCount() == 1) {
             dashedCommand = argsList.getDashedArgs().get(0);
@@ -233,6 +264,36 @@ public class Parser {
                     return new InvalidCommand(EMPTY_RESPONSE_HEADER + CommonData.FILTER_ADDRESS_FORMAT);
                 }
                 return prepareFilterAddress(actualArgument);
+            case "fuz":
+                //Fallthrough
+            case "fuzzy":
+                if (actualArgument.getWordCount() == 0) {
+                    return new InvalidCommand(EMPTY_RESPONSE_HEADER + CommonData.FILTER_FUZZY_FORMAT);
+                }
+                return new FilterFuzzyCommand(carparkList, actualArgument);
+            case "pat":
+                //Fallthrough
+            case "pattern":
+                if (actualArgument.getWordCount() == 0) {
+                    return new InvalidCommand(EMPTY_RESPONSE_HEADER + CommonData.FILTER_PATTERN_FORMAT);
+                }
+                return prepareFilterPattern(actualArgument);
+            case "snd":
+                //Fallthrough
+            case "sounds":
+                if (actualArgument.getWordCount() == 0) {
+                    return new InvalidCommand(EMPTY_RESPONSE_HEADER + CommonData.FILTER_SOUNDS_FORMAT);
+                }
+                return new FilterSoundsCommand(carparkList, actualArgument);
+            case "min":
+                return new InvalidCommand(EMPTY_RESPONSE_HEADER + CommonData.FILTER_MIN_FORMAT);
+            case "q":
+                //Fallthrough
+            case "query":
+                if (actualArgument.getWordCount() == 0) {
+                    return new InvalidCommand(EMPTY_RESPONSE_HEADER + CommonData.FILTER_QUERY_FORMAT);
+                }
+                return prepareFilterQuery(actualArgument);
             default:
                 return new InvalidCommand(String.format("Invalid dashed argument.\n", 1)
                         + CommonData.FILTER_ADDRESS_FORMAT + "\n" + CommonData.FILTER_ID_FORMAT);
@@ -246,6 +307,16 @@ public class Parser {
                     + CommonData.FILTER_ID_FORMAT);
         }
 
+        //If only the most relevant carparks are wanted
+        if (argsList.getValuedArg("k") != null) {
+            int count = parseNonNegativeInteger(argsList.getValuedArg("k"));
+            if (actualArgument.getWordCount() == 0 || count <= 0) {
+                return new InvalidCommand("Invalid query or count. Valid format:\n"
+                        + CommonData.FILTER_RANKED_FORMAT);
+            }
+            return new FilterCommand(carparkList, actualArgument, count);
+        }
+
         //If there is no argument
         if (arguments.isBlank()) {
             return new InvalidCommand(EMPTY_RESPONSE_HEADER + CommonData.FILTER_FORMAT);
@@ -255,6 +326,61 @@ public class Parser {
         }
     }
 
+    /**
+     * To prepare the lot type and threshold to be taken in for Filter Lots Command, given as {@code -min C:50}.
+     *
+     * @param argsList arguments given by the user after the command word
+     * @return command to be carried out
+     */
+    private Command prepareFilterLots(Arguments argsList) {
+        if (argsList.getDashedArgsCount() != 0 || argsList.getNonDashedArgumentCount() != 0
+                || argsList.getValuedArgsCount() != 1) {
+            return new InvalidCommand(String.format(TOO_MANY_DASHED_ARGS_HEADER, 1) + CommonData.FILTER_MIN_FORMAT);
+        }
+        String[] threshold = argsList.getValuedArg("min").split(":");
+        LotType lotType = threshold.length == 2 ? parseLotType(threshold[0]) : null;
+        int minimumLots = threshold.length == 2 ? parseNonNegativeInteger(threshold[1]) : -1;
+        if (lotType == null || minimumLots < 0) {
+            return new InvalidCommand("Invalid lot threshold. Valid format:\n" + CommonData.FILTER_MIN_FORMAT);
+        }
+        return new FilterLotsCommand(carparkList, lotType, minimumLots);
+    }
+
+    /**
+     * To prepare the field query to be taken in for Filter Query Command.
+     *
+     * @param searchQuery arguments given by the user after the dashed argument
+     * @return command to be carried out
+     */
+    private Command prepareFilterQuery(Sentence searchQuery) {
+        try {
+            return new FilterQueryCommand(carparkList, new FieldQueryParser(searchQuery.toString()).parse());
+        } catch (InvalidQueryException e) {
+            return new InvalidCommand(e.getMessage() + " Valid format:\n" + CommonData.FILTER_QUERY_FORMAT);
+        }
+    }
+
+    /**
+     * To prepare the wildcard pattern to be taken in for Filter Pattern Command.
+     *
+     * @param searchQuery pattern given by the user, split into words
+     * @return command to be carried out
+     */
+    private Command prepareFilterPattern(Sentence searchQuery) {
+        List<String> words = new ArrayList<>();
+        for (Word word : searchQuery.getWords()) {
+            if (!word.getText().isEmpty()) {
+                words.add(word.getText());
+            }
+        }
+        String pattern = String.join(" ", words);
+        if (DevelopmentGramIndex.getRequiredGrams(pattern).isEmpty()) {
+            return new InvalidCommand("Pattern needs 3 characters in a row, or 2 at the start or end of a word. "
+                    + "Valid format:\n" + CommonData.FILTER_PATTERN_FORMAT);
+        }
+        return new FilterPatternCommand(carparkList, pattern);
+    }
+
     /**
      * To prepare the arguments to be taken in for Search Command.
      *
@@ -275,6 +401,111 @@ public class Parser {
         return new FilterCarparkIdCommand(carparkList, searchQuery);
     }
 
+    /**
+     * To prepare the lot type and count to be taken in for Top Command, given as {@code -type M -k 20}.
+     *
+     * @param argsList arguments given by the user after the command word
+     * @return command to be carried out
+     */
+    private Command prepareTop(Arguments argsList) {
+        String lotTypeString = argsList.getValuedArg("type");
+        if (lotTypeString == null) {
+            return new InvalidCommand(EMPTY_RESPONSE_HEADER + CommonData.TOP_FORMAT);
+        }
+        if (argsList.getDashedArgsCount() != 0 || argsList.getNonDashedArgumentCount() != 0
+                || argsList.getValuedArg("min") != null) {
+            return new InvalidCommand(String.format(TOO_MANY_DASHED_ARGS_HEADER, 2) + CommonData.TOP_FORMAT);
+        }
+        LotType lotType = parseLotType(lotTypeString);
+        String countString = argsList.getValuedArg("k");
+        int count = countString == null ? TopCommand.DEFAULT_COUNT : parseNonNegativeInteger(countString);
+        if (lotType == null || count <= 0) {
+            return new InvalidCommand("Invalid lot type or count. Valid format:\n" + CommonData.TOP_FORMAT);
+        }
+        return new TopCommand(carparkList, lotType, count);
+    }
+
+    /**
+     * To prepare the prefix and count to be taken in for Suggest Command, given as {@code orch -k 5}.
+     *
+     * @param argsList arguments given by the user after the command word
+     * @return command to be carried out
+     */
+    private Command prepareSuggest(Arguments argsList) {
+        if (argsList.getNonDashedArgumentCount() == 0) {
+            return new InvalidCommand(EMPTY_RESPONSE_HEADER + CommonData.SUGGEST_FORMAT);
+        }
+        String countString = argsList.getValuedArg("k");
+        int count = countString == null ? SuggestCommand.DEFAULT_COUNT : parseNonNegativeInteger(countString);
+        if (argsList.getNonDashedArgumentCount() != 1 || argsList.getDashedArgsCount() != 0 || count <= 0
+                || count > SuggestionTrie.MAX_SUGGESTIONS) {
+            return new InvalidCommand("Invalid prefix or count. Valid format:\n" + CommonData.SUGGEST_FORMAT);
+        }
+        String prefix = argsList.getArguments().getWords().get(0).getText();
+        return new SuggestCommand(carparkList, prefix, count);
+    }
+
+    /**
+     * Parses a lot type given by the user as a single letter, matching the letters used by the API.
+     *
+     * @param lotTypeString letter given by the user
+     * @return the matching {@link LotType}, or null if the letter is not recognised
+     */
+    static LotType parseLotType(String lotTypeString) {
+        switch (lotTypeString.trim().toLowerCase()) {
+        case "c":
+            return LotType.CAR;
+        case "y":
+            //Fallthrough
+        case "m":
+            return LotType.MOTORCYCLE;
+        case "h":
+            return LotType.HEAVY_VEHICLE;
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Parses a non-negative integer given by the user.
+     *
+     * @param input string to parse
+     * @return the parsed integer, or -1 if the string is not a non-negative integer
+     */
+    private int parseNonNegativeInteger(String input) {
+        try {
+            return Math.max(Integer.parseInt(input.trim()), -1);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * To prepare the grouping to be taken in for Stats Command.
+     *
+     * @param argsList arguments given by the user after the command word
+     * @return command to be carried out
+     */
+    private Command prepareStats(Arguments argsList) {
+        if (argsList.getDashedArgsCount() != 1 || argsList.getNonDashedArgumentCount() != 0) {
+            return new InvalidCommand(String.format(TOO_MANY_DASHED_ARGS_HEADER, 1) + CommonData.STATS_FORMAT);
+        }
+        String dashedCommand = argsList.getDashedArgs().get(0);
+        switch (dashedCommand) {
+        case "area":
+            return new StatsCommand(carparkList.getAreaRollup());
+        case "agency":
+            return new StatsCommand(carparkList.getAgencyRollup());
+        case "cache":
+            return new StatsCommand(carparkList.getQueryCache());
+        case "phonetic":
+            return new StatsCommand(carparkList.getPhoneticIndex());
+        default:
+            return new InvalidCommand(String.format(INVALID_DASHED_ARGUMENT, dashedCommand)
+                    + CommonData.STATS_FORMAT);
+        }
+    }
+
     /**
      * To check that user does not input in any parameters for UpdateCommand.
      *
@@ -1,7 +1,9 @@
 package seedu.parser.search;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 
 import seedu.exception.DashedArgumentsNotInFrontException;
 
@@ -9,7 +11,10 @@ import seedu.exception.DashedArgumentsNotInFrontException;
  * A representation of command arguments for use with the {@link seedu.parser.Parser Parser} class.
  */
 public class Arguments {
+    /** Dashed arguments that take the following word as their value, and may appear anywhere. */
+    private static final Set<String> VALUED_ARGS = Set.of("k", "type", "min");
     private final ArrayList<String> dashedArgs = new ArrayList<>();
+    private final HashMap<String, String> valuedArgs = new HashMap<>();
     private Sentence arguments;
 
     /**
@@ -22,12 +27,16 @@ public class Arguments {
         List<String> allArgs = new ArrayList<>(List.of(argString.split(" ", 0)));
         boolean dashes = true;
         ArrayList<String> noDashArgs = new ArrayList<>();
-        for (String arg : allArgs) {
+        arguments = new Sentence();
+        for (int i = 0; i < allArgs.size(); i++) {
+            String arg = allArgs.get(i);
             if (arg.isEmpty()) {
                 arguments = new Sentence();
                 break;
             }
-            if (arg.startsWith("-")) {
+            if (isValuedArg(arg) && i + 1 < allArgs.size()) {
+                valuedArgs.put(arg.substring(1), allArgs.get(++i).trim());
+            } else if (arg.startsWith("-")) {
                 if (!dashes) {
                     throw new DashedArgumentsNotInFrontException();
                 }
@@ -40,10 +49,28 @@ public class Arguments {
         }
     }
 
+    private static boolean isValuedArg(String arg) {
+        return arg.startsWith("-") && VALUED_ARGS.contains(arg.substring(1));
+    }
+
     public ArrayList<String> getDashedArgs() {
         return dashedArgs;
     }
 
+    /**
+     * Gets the value given to a valued dashed argument, such as {@code 20} in {@code -k 20}.
+     *
+     * @param name Name of the dashed argument without the dash.
+     * @return The value, or null if the argument was not given.
+     */
+    public String getValuedArg(String name) {
+        return valuedArgs.get(name);
+    }
+
+    public int getValuedArgsCount() {
+        return valuedArgs.size();
+    }
+
     public Sentence getArguments() {
         return arguments;
     }
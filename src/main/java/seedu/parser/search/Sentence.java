@@ -1,6 +1,7 @@
 package seedu.parser.search;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -50,10 +51,20 @@ public class Sentence {
 
     @Override
     public String toString() {
+        return getHighlightedString(new BitSet());
+    }
+
+    /**
+     * Gets the sentence formatted for the terminal, with some of its words bolded.
+     *
+     * @param highlightedWords Positions of the words to bold.
+     * @return Formatted string.
+     */
+    public String getHighlightedString(BitSet highlightedWords) {
         StringBuilder outputString = new StringBuilder();
         int ind = 0;
         for (Word word : words) {
-            outputString.append(word.getAnsiFormatString());
+            outputString.append(word.getAnsiFormatString(highlightedWords.get(ind)));
             outputString.append(delimiters.get(ind++));
         }
         return outputString.toString().trim();
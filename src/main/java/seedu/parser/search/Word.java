@@ -1,12 +1,11 @@
 package seedu.parser.search;
 
 /**
- * Represents a single word in a {@link Sentence}.
+ * Represents a single word in a {@link Sentence}. Words never change once created, so a {@link Sentence} can be
+ * shared between searches and rendered with different highlights by each.
  */
 public class Word {
     private final String text;
-    /** Flag to determine if word should be bolded or not in outputted string. */
-    private boolean isBold = false;
 
     /**
      * Constructor.
@@ -15,26 +14,19 @@ public class Word {
         text = word.trim();
     }
 
-    /**
-     * Function to set {@link Word#isBold} flag.
-     *
-     * @param bool the value to set the isBold flag to.
-     */
-    public void makeBold(boolean bool) {
-        isBold = bool;
-    }
-
     @Override
     public String toString() {
-        if (isBold) {
-            return "`" + text + "`";
-        } else {
-            return text;
-        }
+        return text;
     }
 
-    public String getAnsiFormatString() {
-        if (isBold) {
+    /**
+     * Gets the word formatted for the terminal.
+     *
+     * @param isHighlighted If true, the word is bolded to show it matched a search.
+     * @return Formatted string.
+     */
+    public String getAnsiFormatString(boolean isHighlighted) {
+        if (isHighlighted) {
             return String.format("@|bold,cyan %s|@", text);
         } else {
             return text;
@@ -44,8 +36,4 @@ public class Word {
     public String getText() {
         return text;
     }
-
-    public boolean isBold() {
-        return isBold;
-    }
 }
@@ -4,7 +4,9 @@ import static org.fusesource.jansi.Ansi.Color.GREEN;
 import static org.fusesource.jansi.Ansi.Color.RED;
 import static org.fusesource.jansi.Ansi.ansi;
 
+import java.util.List;
 import java.util.Scanner;
+import java.util.function.Function;
 
 import org.fusesource.jansi.Ansi;
 import org.fusesource.jansi.AnsiConsole;
@@ -117,6 +119,60 @@ public class Ui {
         return getLine();
     }
 
+    /**
+     * Asks user to enter a command and returns user input, completing the last word when the input ends with a tab.
+     * The terminal only hands over whole lines, so a completion is asked for with Tab then Enter. The completions are
+     * listed, and the input is shown again with the last word completed as far as the completions agree, for the
+     * user to carry on typing.
+     *
+     * @param completer Function that gives the completions of a word, most likely first.
+     * @return User input.
+     */
+    public String getCommand(Function<String, List<String>> completer) {
+        String input = getCommand();
+        while (input.endsWith("\t")) {
+            String line = input.substring(0, input.length() - 1);
+            String lastWord = line.substring(line.lastIndexOf(' ') + 1);
+            List<String> completions = lastWord.isEmpty() ? List.of() : completer.apply(lastWord);
+            if (completions.size() > 1) {
+                println(String.join("  ", completions));
+            }
+            String completedLine = completeLastWord(line, completions);
+            print("Enter a command: " + completedLine);
+            input = completedLine + getLine();
+        }
+        return input;
+    }
+
+    /**
+     * Completes the last word of a line as far as all completions of it agree, and adds a space if there is only one.
+     *
+     * @param line Line to complete.
+     * @param completions Completions of the last word.
+     * @return Completed line.
+     */
+    public static String completeLastWord(String line, List<String> completions) {
+        if (completions.isEmpty()) {
+            return line;
+        }
+        String lastWord = line.substring(line.lastIndexOf(' ') + 1);
+        String commonPrefix = completions.get(0);
+        for (String completion : completions) {
+            int length = 0;
+            while (length < commonPrefix.length() && length < completion.length()
+                    && Character.toLowerCase(commonPrefix.charAt(length))
+                    == Character.toLowerCase(completion.charAt(length))) {
+                length++;
+            }
+            commonPrefix = commonPrefix.substring(0, length);
+        }
+        if (commonPrefix.length() < lastWord.length()) {
+            return line;
+        }
+        String completedLine = line.substring(0, line.length() - lastWord.length()) + commonPrefix.toLowerCase();
+        return completions.size() == 1 ? completedLine + " " : completedLine;
+    }
+
     /**
      * Prints ASCII art of a car and parKING logo.
      */
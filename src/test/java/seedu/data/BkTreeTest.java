@@ -0,0 +1,88 @@
+package seedu.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.exception.DuplicateCarparkIdException;
+import seedu.exception.InvalidFormatException;
+import seedu.parser.search.Sentence;
+
+public class BkTreeTest {
+    private final String validSaveString =
+            "1 || Marina || Suntec City || 1.29375 103.85718 || 2822 || 2822 0 0 || false || LTA || 03-11-2022 "
+                    + "00:56:14 \n2 || Marina || Marina Square || 1.29115 103.85728 || 1801 || 1801 0 0 || false || "
+                    + "LTA || 03-11-2022 00:56:14 \n7 || Orchard || Orchard Point || 1.30135 103.84061 || 187 || 187"
+                    + " 0 0 || false || LTA || 03-11-2022 00:47:22 \n8 || Orchard || Orchid Hotel || 1.30135 103"
+                    + ".84061 || 187 || 187 0 0 || false || LTA || 03-11-2022 00:47:22 \n";
+
+    @Test
+    void editDistanceTest() {
+        Assertions.assertEquals(2, BkTree.getEditDistance("orhcard", "orchard", 5));
+        Assertions.assertEquals(1, BkTree.getEditDistance("suntek", "suntec", 5));
+        Assertions.assertEquals(3, BkTree.getEditDistance("kitten", "sitting", 5));
+        Assertions.assertEquals(2, BkTree.getEditDistance("kitten", "sitting", 1));
+    }
+
+    @Test
+    void searchTest() {
+        BkTree bkTree = new BkTree();
+        for (String word : new String[] {"orchard", "orchid", "marina", "square", "orchard"}) {
+            bkTree.add(word);
+        }
+        Assertions.assertEquals(4, bkTree.size());
+        List<BkTree.Match> matches = bkTree.search("orhcard", 2);
+        Assertions.assertEquals(1, matches.size());
+        Assertions.assertEquals("orchard", matches.get(0).word);
+        Assertions.assertEquals(2, bkTree.search("orchad", 2).size());
+    }
+
+    @Test
+    void searchMatchesScanTest() {
+        BkTree bkTree = new BkTree();
+        List<String> words = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 500; i++) {
+            StringBuilder word = new StringBuilder();
+            for (int j = 2 + random.nextInt(8); j > 0; j--) {
+                word.append((char) ('a' + random.nextInt(4)));
+            }
+            words.add(word.toString());
+            bkTree.add(word.toString());
+        }
+        for (String query : new String[] {"abcd", "dd", "aabbccdd", "cab"}) {
+            for (int maxDistance = 0; maxDistance <= 2; maxDistance++) {
+                TreeSet<String> expected = new TreeSet<>();
+                for (String word : words) {
+                    if (BkTree.getEditDistance(word, query, Integer.MAX_VALUE) <= maxDistance) {
+                        expected.add(word);
+                    }
+                }
+                TreeSet<String> found = new TreeSet<>();
+                for (BkTree.Match match : bkTree.search(query, maxDistance)) {
+                    Assertions.assertEquals(BkTree.getEditDistance(match.word, query, Integer.MAX_VALUE),
+                            match.distance);
+                    found.add(match.word);
+                }
+                Assertions.assertEquals(expected, found);
+            }
+        }
+    }
+
+    @Test
+    void fuzzyFilterRankedTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        List<Carpark> result = carparkList.filterByFuzzyStrings(new Sentence("orchrd")).getCarparks();
+        Assertions.assertEquals(2, result.size());
+        Assertions.assertEquals("7", result.get(0).getCarparkId());
+        Assertions.assertEquals("8", result.get(1).getCarparkId());
+        Assertions.assertEquals("1", carparkList.filterByFuzzyStrings(new Sentence("Suntek")).getCarparks().get(0)
+                .getCarparkId());
+        Assertions.assertEquals(0, carparkList.filterByFuzzyStrings(new Sentence("orchrd square")).getCarparks()
+                .size());
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.data;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.exception.DuplicateCarparkIdException;
+import seedu.exception.InvalidFormatException;
+import seedu.parser.search.Sentence;
+
+public class CarparkFilteredListTest {
+    private final String validSaveString =
+            "1 || Marina || Suntec City || 1.29375 103.85718 || 2822 || 2822 0 0 || false || LTA || 03-11-2022 "
+                    + "00:56:14 \n3 || Marina || Raffles City || 1.29382 103.85319 || 896 || 896 0 0 || false || "
+                    + "LTA || 03-11-2022 00:47:22 \n";
+
+    @Test
+    void highlightsStayWithResultTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        CarparkFilteredList suntecResult = carparkList.filterByAllStrings(new Sentence("sun"));
+        CarparkFilteredList cityResult = carparkList.filterByAllStrings(new Sentence("city"));
+        Assertions.assertEquals("CarparkID @|yellow,bold 1|@ at @|bold,cyan Suntec|@ City\n"
+                + "@|faint -->|@ @|yellow 2822|@ available lots total", suntecResult.getSearchListString());
+        Assertions.assertEquals("CarparkID @|yellow,bold 1|@ at Suntec @|bold,cyan City|@\n"
+                + "@|faint -->|@ @|yellow 2822|@ available lots total\n"
+                + "CarparkID @|yellow,bold 3|@ at Raffles @|bold,cyan City|@\n"
+                + "@|faint -->|@ @|yellow 896|@ available lots total", cityResult.getSearchListString());
+    }
+
+    @Test
+    void carparkUnchangedTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        carparkList.filterByFuzzyStrings(new Sentence("suntex"));
+        Assertions.assertEquals("CarparkID @|yellow,bold 1|@ at Suntec City\n"
+                + "@|faint -->|@ @|yellow 2822|@ available lots total",
+                carparkList.getCarparks().get(0).getListViewString());
+    }
+}
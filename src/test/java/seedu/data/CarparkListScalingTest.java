@@ -0,0 +1,226 @@
+package seedu.data;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import seedu.exception.DuplicateCarparkIdException;
+import seedu.exception.FileWriteException;
+import seedu.exception.InvalidFormatException;
+import seedu.exception.NoFileFoundException;
+import seedu.files.CarparkSnapshot;
+import seedu.parser.FieldQueryParser;
+import seedu.parser.search.Sentence;
+import seedu.testutil.CarparkDataGenerator;
+
+/**
+ * Measures how {@link CarparkList} operations scale with the number of carparks, on synthetic data from
+ * {@link CarparkDataGenerator}. The regular test run only checks sizes, which do not depend on the machine. The timed
+ * test is tagged {@code scaling} and runs only through {@code ./gradlew scalingTest}, with sizes read from the
+ * {@code scaling.sizes} system property as a comma separated list (e.g. {@code -Dscaling.sizes=10000,100000,1000000}).
+ * Each operation is timed at every size, and fails if its time grows clearly faster than linearly. The timings, the
+ * heap used by the loaded list and the growth exponents are published as report entries of the test, and also
+ * written to the file named by the {@code scaling.report} system property, which the Gradle task sets under
+ * {@code build/reports}.
+ */
+public class CarparkListScalingTest {
+    private static final String DEFAULT_SIZES = "2000,20000";
+    /** Largest allowed growth exponent of time against size; 1 is linear and 2 is quadratic. */
+    private static final double MAX_GROWTH_EXPONENT = 1.6;
+    /** Largest allowed change in snapshot bytes per carpark between sizes. */
+    private static final double MAX_SIZE_PER_CARPARK_RATIO = 1.1;
+    /** Timings below this are too noisy to compare. */
+    private static final long MIN_COMPARABLE_NANOS = 20_000_000L;
+    private static final String[] OPERATION_NAMES = {"save load", "json load", "snapshot load", "filter", "filter -id",
+        "fuzzy", "sounds", "pattern", "ranked", "query", "update", "save"};
+
+    private List<Integer> getSizes() {
+        List<Integer> sizes = new ArrayList<>();
+        for (String size : System.getProperty("scaling.sizes", DEFAULT_SIZES).split(",")) {
+            if (!size.isBlank()) {
+                sizes.add(Integer.parseInt(size.trim()));
+            }
+        }
+        return sizes;
+    }
+
+    /** Report entries published so far, in order, to be written to the report file. */
+    private final Map<String, String> reportEntries = new LinkedHashMap<>();
+
+    private void publish(TestReporter reporter, String key, String value) {
+        reporter.publishEntry(key, value);
+        reportEntries.put(key, value);
+    }
+
+    private void writeReport() throws IOException {
+        String reportFile = System.getProperty("scaling.report");
+        if (reportFile == null) {
+            return;
+        }
+        StringBuilder report = new StringBuilder();
+        for (Map.Entry<String, String> entry : reportEntries.entrySet()) {
+            report.append(entry.getKey()).append(": ").append(entry.getValue()).append("\n");
+        }
+        Path reportPath = Path.of(reportFile);
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        Files.writeString(reportPath, report.toString());
+    }
+
+    private long getUsedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private interface Operation {
+        void run() throws Exception;
+    }
+
+    private long time(Operation operation) throws Exception {
+        long start = System.nanoTime();
+        operation.run();
+        return System.nanoTime() - start;
+    }
+
+    private void checkGrowth(TestReporter reporter, String name, int smallSize, long smallNanos, int largeSize,
+            long largeNanos) {
+        if (smallNanos < MIN_COMPARABLE_NANOS && largeNanos < MIN_COMPARABLE_NANOS) {
+            return;
+        }
+        double exponent = Math.log((double) Math.max(largeNanos, 1) / Math.max(smallNanos, MIN_COMPARABLE_NANOS))
+                / Math.log((double) largeSize / smallSize);
+        publish(reporter, String.format("%s growth from %,d to %,d carparks", name, smallSize, largeSize),
+                String.format("%.2f", exponent));
+        Assertions.assertTrue(exponent < MAX_GROWTH_EXPONENT, String.format("%s grows super-linearly: exponent "
+                + "%.2f from %s to %s carparks", name, exponent, smallSize, largeSize));
+    }
+
+    /**
+     * Times each operation at a size, in the order of {@code OPERATION_NAMES}, followed by the bytes of heap used by
+     * the list loaded from the save string.
+     */
+    private long[] measure(int size, Path directory) throws Exception {
+        CarparkDataGenerator generator = new CarparkDataGenerator(size, 1);
+        CarparkDataGenerator refreshGenerator = new CarparkDataGenerator(size, 2);
+        String saveString = generator.getSaveString(size);
+        String refreshSaveString = refreshGenerator.getSaveString(size);
+        Path jsonPath = directory.resolve("ltaResponse" + size + ".json");
+        generator.writeLtaJson(jsonPath, size);
+
+        long memoryBefore = getUsedMemory();
+        CarparkList[] loaded = new CarparkList[1];
+        long saveLoadNanos = time(() -> loaded[0] = new CarparkList(saveString));
+        long memoryUsed = getUsedMemory() - memoryBefore;
+        CarparkList carparkList = loaded[0];
+        Assertions.assertEquals(size, carparkList.getCarparks().size());
+
+        long jsonLoadNanos = time(() -> new CarparkList(jsonPath, jsonPath));
+        Path snapshotPath = directory.resolve("carparkList" + size + ".bin");
+        CarparkSnapshot.write(snapshotPath, carparkList.getCarparks());
+        long snapshotLoadNanos = time(() -> new CarparkList(CarparkSnapshot.open(snapshotPath)));
+        long filterNanos = time(() -> carparkList.filterByAllStrings(new Sentence("blk tamp")));
+        long filterIdNanos = time(() -> carparkList.filterByCarparkId(new Sentence("a1")));
+        long fuzzyNanos = time(() -> carparkList.filterByFuzzyStrings(new Sentence("tampnies")));
+        long soundsNanos = time(() -> carparkList.filterBySound(new Sentence("tampenis")));
+        long patternNanos = time(() -> carparkList.filterByPattern("*pla?a*"));
+        long rankedNanos = time(() -> carparkList.filterByRelevance(new Sentence("tampines plaza a1"), 10));
+        long queryNanos = time(() -> carparkList.filterByQuery(new FieldQueryParser("dev:tamp and not agency:ura and "
+                + "(lots.c>=100 or id:a*)").parse()));
+        long updateNanos = time(() -> carparkList.update(new CarparkList(refreshSaveString)));
+        long saveNanos = time(carparkList::getSaveString);
+
+        return new long[] {saveLoadNanos, jsonLoadNanos, snapshotLoadNanos, filterNanos, filterIdNanos, fuzzyNanos,
+            soundsNanos, patternNanos, rankedNanos, queryNanos, updateNanos, saveNanos, memoryUsed};
+    }
+
+    private void report(TestReporter reporter, int size, long[] measurements) {
+        StringBuilder summary = new StringBuilder();
+        for (int i = 0; i < OPERATION_NAMES.length; i++) {
+            summary.append(String.format("%s %d ms, ", OPERATION_NAMES[i], measurements[i] / 1_000_000));
+        }
+        summary.append(String.format("heap used %,d KB", measurements[OPERATION_NAMES.length] / 1024));
+        publish(reporter, String.format("%,d carparks", size), summary.toString());
+    }
+
+    @Test
+    void generatorDeterministicTest() {
+        Assertions.assertEquals(new CarparkDataGenerator(7, 1).getSaveString(100),
+                new CarparkDataGenerator(7, 1).getSaveString(100));
+        Assertions.assertEquals(new CarparkDataGenerator(7, 1).generate(100).get(42).development,
+                new CarparkDataGenerator(7, 2).generate(100).get(42).development);
+    }
+
+    @Test
+    void generatedDataLoadsTest() throws IOException, DuplicateCarparkIdException, InvalidFormatException,
+            NoFileFoundException, FileWriteException {
+        CarparkDataGenerator generator = new CarparkDataGenerator(3, 1);
+        CarparkList fromSave = new CarparkList(generator.getSaveString(500));
+        Assertions.assertEquals(500, fromSave.getCarparks().size());
+
+        Path directory = Files.createTempDirectory("parking");
+        Path jsonPath = directory.resolve("ltaResponse.json");
+        generator.writeLtaJson(jsonPath, 500);
+        CarparkList fromJson = new CarparkList(jsonPath, jsonPath);
+        Assertions.assertEquals(500, fromJson.getCarparks().size());
+        Files.delete(jsonPath);
+        Files.delete(directory);
+    }
+
+    @Test
+    void snapshotSizeLinearTest() throws IOException, DuplicateCarparkIdException, InvalidFormatException,
+            FileWriteException {
+        Path directory = Files.createTempDirectory("parking");
+        double[] bytesPerCarpark = new double[2];
+        int[] sizes = {2000, 20000};
+        for (int i = 0; i < sizes.length; i++) {
+            Path snapshotPath = directory.resolve("carparkList" + sizes[i] + ".bin");
+            CarparkList carparkList = new CarparkList(new CarparkDataGenerator(7, 1).getSaveString(sizes[i]));
+            CarparkSnapshot.write(snapshotPath, carparkList.getCarparks());
+            bytesPerCarpark[i] = (double) Files.size(snapshotPath) / sizes[i];
+            Files.delete(snapshotPath);
+        }
+        Files.delete(directory);
+        Assertions.assertTrue(bytesPerCarpark[1] < bytesPerCarpark[0] * MAX_SIZE_PER_CARPARK_RATIO,
+                String.format("Snapshot grows super-linearly: %.1f then %.1f bytes per carpark", bytesPerCarpark[0],
+                        bytesPerCarpark[1]));
+    }
+
+    @Test
+    @Tag("scaling")
+    void scalingTest(TestReporter reporter) throws Exception {
+        List<Integer> sizes = getSizes();
+        Path directory = Files.createTempDirectory("parking");
+        // Warm up the JIT so the smallest size is not dominated by interpretation.
+        measure(Math.min(1000, sizes.get(0)), directory);
+        List<long[]> measurements = new ArrayList<>();
+        for (int size : sizes) {
+            measurements.add(measure(size, directory));
+            report(reporter, size, measurements.get(measurements.size() - 1));
+        }
+        try {
+            for (int i = 1; i < sizes.size(); i++) {
+                for (int j = 0; j < OPERATION_NAMES.length; j++) {
+                    checkGrowth(reporter, OPERATION_NAMES[j], sizes.get(i - 1), measurements.get(i - 1)[j],
+                            sizes.get(i), measurements.get(i)[j]);
+                }
+            }
+        } finally {
+            // The report is written even when an operation grows too fast, since that is when it is needed.
+            writeReport();
+        }
+        for (File file : directory.toFile().listFiles()) {
+            file.delete();
+        }
+        Files.delete(directory);
+    }
+}
@@ -81,4 +81,14 @@ public class CarparkListTest {
         Assertions.assertEquals(2200, oldCarparkUpdated.getAvailableLots());
         Assertions.assertEquals(1801, oldCarparkNotUpdated.getAvailableLots());
     }
+
+    @Test
+    void emptyListUpdateTest() throws DuplicateCarparkIdException, InvalidFormatException, NoCarparkFoundException {
+        CarparkList carparkList = new CarparkList();
+        Assertions.assertTrue(carparkList.getCarparks().isEmpty());
+        carparkList.update(new CarparkList(validNewSaveString));
+        Assertions.assertEquals(3, carparkList.getCarparks().size());
+        Assertions.assertEquals("Orchard Point", carparkList.findCarpark("7").getDevelopment());
+        Assertions.assertEquals(2, carparkList.getAreaRollup().getCarparkCount("Marina"));
+    }
 }
@@ -0,0 +1,55 @@
+package seedu.data;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.exception.DuplicateCarparkIdException;
+import seedu.exception.InvalidFormatException;
+
+public class CarparkRollupTest {
+    private final String validSaveString =
+            "1 || Marina || Suntec City || 1.29375 103.85718 || 2822 || 2822 10 0 || false || LTA || 03-11-2022 "
+                    + "00:56:14 \n2 || Marina || Marina Square || 1.29115 103.85728 || 1801 || 1801 0 0 || false || "
+                    + "LTA || 03-11-2022 00:56:14 \nA1 || || BLK 1 TAMPINES ST 11 || 1.29382 103.85319 || 96 || 90 "
+                    + "0 6 || false || HDB || 03-11-2022 00:47:22 \n";
+    private final String validNewSaveString = "2 || Marina || Marina Square || 1.29115 103.85728 || 1700 || 1700"
+            + " 0 0 || false || LTA || 03-11-2022 00:56:14 \n7 || Orchard || Orchard Point || 1.30135 103"
+            + ".84061 || 187 || 187 0 0 || false || LTA || 03-11-2022 00:47:22 ";
+
+    @Test
+    void rollupOnLoadTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        CarparkRollup areaRollup = carparkList.getAreaRollup();
+        Assertions.assertEquals(2, areaRollup.getCarparkCount("Marina"));
+        Assertions.assertEquals(4623, areaRollup.getTotalLots("Marina", LotType.CAR));
+        Assertions.assertEquals(10, areaRollup.getTotalLots("Marina", LotType.MOTORCYCLE));
+        Assertions.assertEquals(1, areaRollup.getCarparkCount("(none)"));
+        Assertions.assertEquals(6, carparkList.getAgencyRollup().getTotalLots("HDB", LotType.HEAVY_VEHICLE));
+    }
+
+    @Test
+    void rollupUpdateTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        carparkList.update(new CarparkList(validNewSaveString));
+        CarparkRollup areaRollup = carparkList.getAreaRollup();
+        Assertions.assertEquals(2, areaRollup.getCarparkCount("Marina"));
+        Assertions.assertEquals(4522, areaRollup.getTotalLots("Marina", LotType.CAR));
+        Assertions.assertEquals(187, areaRollup.getTotalLots("Orchard", LotType.CAR));
+        Assertions.assertEquals(3, carparkList.getAgencyRollup().getCarparkCount("LTA"));
+        Assertions.assertEquals(0, areaRollup.getCarparkCount("Jurong"));
+    }
+
+    @Test
+    void rollupStringTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        Assertions.assertEquals("Available lots by agency:\n"
+                + "@|yellow,bold HDB|@ (1 carparks)\n"
+                + "@|faint -->|@ Cars: @|yellow 90|@\n"
+                + "@|faint -->|@ Motorcycles: @|yellow 0|@\n"
+                + "@|faint -->|@ Heavy Vehicles: @|yellow 6|@\n"
+                + "@|yellow,bold LTA|@ (2 carparks)\n"
+                + "@|faint -->|@ Cars: @|yellow 4623|@\n"
+                + "@|faint -->|@ Motorcycles: @|yellow 10|@\n"
+                + "@|faint -->|@ Heavy Vehicles: @|yellow 0|@", carparkList.getAgencyRollup().getRollupString());
+    }
+}
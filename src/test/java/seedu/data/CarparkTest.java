@@ -98,6 +98,16 @@ public class CarparkTest {
                 DEFAULT_CARPARK_STRING, carpark.getSaveString());
     }
 
+    @Test
+    void carparkSaveStringChangesTest() throws InvalidFormatException {
+        Carpark carpark = Carpark.parseCarpark(DEFAULT_CARPARK_STRING);
+        Assertions.assertSame(carpark.getSaveString(), carpark.getSaveString());
+        carpark.setFavourite(true);
+        Assertions.assertTrue(carpark.getSaveString().contains("|| true ||"));
+        carpark.setAllAvailableLots("10 2 0");
+        Assertions.assertTrue(carpark.getSaveString().contains("|| 12 || 10 2 0 ||"));
+    }
+
     @Test
     void carparkSetAvailableLotsTest() throws InvalidFormatException {
         Carpark carpark = Carpark.parseCarpark(DEFAULT_CARPARK_STRING);
@@ -0,0 +1,52 @@
+package seedu.data;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.exception.DuplicateCarparkIdException;
+import seedu.exception.InvalidFormatException;
+
+public class DevelopmentGramIndexTest {
+    private final String validSaveString =
+            "7 || Orchard || Orchard Point || 1.30135 103.84061 || 187 || 187 0 0 || false || LTA || 03-11-2022 "
+                    + "00:47:22 \n30 || Orchard || Orchard Central || 1.30082 103.83919 || 250 || 250 0 0 || false ||"
+                    + " LTA || 03-11-2022 00:47:22 \n2 || Marina || Marina Square || 1.29115 103.85728 || 1801 || 1801"
+                    + " 0 0 || false || LTA || 03-11-2022 00:56:14 \n16 || Orchard || Plaza Singapura || 1.30033 "
+                    + "103.84500 || 400 || 400 0 0 || false || LTA || 03-11-2022 00:47:22 \n";
+    private final String validNewSaveString = "20 || Orchard || Tanglin Plaza || 1.30500 103.82400 || 90 || 90 0 0"
+            + " || false || LTA || 03-11-2022 00:47:22 ";
+
+    @Test
+    void requiredGramsTest() {
+        Assertions.assertEquals(List.of(" or", "orc", "rch", "rd "), DevelopmentGramIndex.getRequiredGrams("orch*rd"));
+        Assertions.assertEquals(List.of("pla", "laz", "aza"), DevelopmentGramIndex.getRequiredGrams("*plaza*"));
+        Assertions.assertEquals(List.of(), DevelopmentGramIndex.getRequiredGrams("*a*"));
+    }
+
+    @Test
+    void infixPatternTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        Assertions.assertEquals(1, carparkList.filterByPattern("*plaza*").getCarparks().size());
+        Assertions.assertEquals(2, carparkList.filterByPattern("orch*rd").getCarparks().size());
+        Assertions.assertEquals(2, carparkList.filterByPattern("*ard*").getCarparks().size());
+        Assertions.assertEquals(1, carparkList.filterByPattern("orchard c*").getCarparks().size());
+        Assertions.assertEquals(1, carparkList.filterByPattern("*ent?al").getCarparks().size());
+    }
+
+    @Test
+    void wholeWordsTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        Assertions.assertEquals(0, carparkList.filterByPattern("orch").getCarparks().size());
+        Assertions.assertEquals(0, carparkList.filterByPattern("rchard*").getCarparks().size());
+        Assertions.assertEquals(2, carparkList.filterByPattern("orchard").getCarparks().size());
+    }
+
+    @Test
+    void updateAddsGramsTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        carparkList.update(new CarparkList(validNewSaveString));
+        Assertions.assertEquals(2, carparkList.filterByPattern("*plaza*").getCarparks().size());
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.data;
+
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.exception.DuplicateCarparkIdException;
+import seedu.exception.InvalidFormatException;
+import seedu.exception.InvalidQueryException;
+import seedu.parser.FieldQueryParser;
+import seedu.testutil.CarparkDataGenerator;
+
+public class FieldQueryTest {
+    private final String validSaveString =
+            "1 || Marina || Suntec City || 1.29375 103.85718 || 2822 || 2822 0 0 || false || LTA || 03-11-2022 "
+                    + "00:56:14 \n2 || Marina || Marina Square || 1.29115 103.85728 || 10 || 10 0 0 || false || "
+                    + "LTA || 03-11-2022 00:56:14 \nA10 || Marina || Orchard Link || 1.29382 103.85319 || 30 || 25 5 0"
+                    + " || false || URA || 03-11-2022 00:47:22 \nA12 || Marina || Orchard Bay || 1.29382 103.85319 "
+                    + "|| 30 || 30 0 0 || false || HDB || 03-11-2022 00:47:22 \n7 || Orchard || Orchard City Point "
+                    + "|| 1.30135 103.84061 || 187 || 187 0 0 || false || LTA || 03-11-2022 00:47:22 \n";
+
+    private String getIds(String query) throws DuplicateCarparkIdException, InvalidFormatException,
+            InvalidQueryException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        StringBuilder ids = new StringBuilder();
+        for (Carpark carpark : carparkList.filterByQuery(new FieldQueryParser(query).parse()).getCarparks()) {
+            ids.append(carpark.getCarparkId()).append(" ");
+        }
+        return ids.toString().trim();
+    }
+
+    @Test
+    void singleFieldTest() throws Exception {
+        Assertions.assertEquals("1 2 A10 A12", getIds("area:marina"));
+        Assertions.assertEquals("7 A10 A12", getIds("dev:orch"));
+        Assertions.assertEquals("A10 A12", getIds("id:a1*"));
+        Assertions.assertEquals("", getIds("id:a1"));
+        Assertions.assertEquals("A10", getIds("agency:ura"));
+    }
+
+    @Test
+    void combinedQueryTest() throws Exception {
+        Assertions.assertEquals("A12", getIds("area:marina and (dev:orchard or id:a1*) and not agency:ura "
+                + "and lots.c>=20"));
+        Assertions.assertEquals("1 A10 A12", getIds("area:marina not lots.c<20"));
+        Assertions.assertEquals("2 7", getIds("lots.c=10 or area:orchard"));
+        Assertions.assertEquals("1 2", getIds("not dev:orchard"));
+        Assertions.assertEquals("A10", getIds("lots.m>0"));
+    }
+
+    @Test
+    void lotsBoundsTest() throws Exception {
+        Assertions.assertEquals("", getIds("lots.c>2147483647"));
+        Assertions.assertEquals("", getIds("lots.c<0"));
+        Assertions.assertEquals("1 2 7 A10 A12", getIds("not lots.c<0"));
+        Assertions.assertEquals("1 2 7 A10 A12", getIds("lots.c<=2147483647"));
+        Assertions.assertEquals("1", getIds("lots.c>2147483646 or lots.c>1000"));
+    }
+
+    @Test
+    void precedenceTest() throws Exception {
+        Assertions.assertEquals("7 A10 A12", getIds("agency:ura or dev:orchard and not agency:ura"));
+        Assertions.assertEquals("7 A12", getIds("(agency:ura or dev:orchard) and not agency:ura"));
+    }
+
+    @Test
+    void planMatchesScanTest() throws Exception {
+        CarparkList carparkList = new CarparkList(new CarparkDataGenerator(5, 1).getSaveString(3000));
+        String[] queries = {"dev:tamp and not agency:ura and (lots.c>=100 or id:a*)", "id:b1* and lots.c<500",
+            "area:marina or agency:lta and not lots.c>1000", "not (dev:blk or agency:ura)"};
+        for (String query : queries) {
+            FieldQuery fieldQuery = new FieldQueryParser(query).parse();
+            TreeSet<String> expected = new TreeSet<>();
+            for (Carpark carpark : carparkList.getCarparks()) {
+                if (fieldQuery.matches(carparkList, carpark)) {
+                    expected.add(carpark.getCarparkId());
+                }
+            }
+            TreeSet<String> actual = new TreeSet<>();
+            for (Carpark carpark : carparkList.filterByQuery(fieldQuery).getCarparks()) {
+                actual.add(carpark.getCarparkId());
+            }
+            Assertions.assertEquals(expected, actual, query);
+        }
+    }
+
+    @Test
+    void normalisedFormTest() throws InvalidQueryException {
+        Assertions.assertEquals(new FieldQueryParser("area:marina and ( id:a1* or dev:orc )").parse().toString(),
+                new FieldQueryParser("area:marina (id:a1* or dev:orc)").parse().toString());
+    }
+
+    @Test
+    void invalidQueryTest() {
+        Assertions.assertThrows(InvalidQueryException.class, () -> new FieldQueryParser("(area:marina").parse());
+        Assertions.assertThrows(InvalidQueryException.class, () -> new FieldQueryParser("area:marina)").parse());
+        Assertions.assertThrows(InvalidQueryException.class, () -> new FieldQueryParser("colour:red").parse());
+        Assertions.assertThrows(InvalidQueryException.class, () -> new FieldQueryParser("lots.x>=5").parse());
+        Assertions.assertThrows(InvalidQueryException.class, () -> new FieldQueryParser("area:marina and").parse());
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.data;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.exception.DuplicateCarparkIdException;
+import seedu.exception.InvalidFormatException;
+import seedu.parser.search.Sentence;
+
+public class IdGramIndexTest {
+    private final String validSaveString =
+            "SK12 || || BLK 1 SENGKANG EAST || 1.29375 103.85718 || 20 || 20 0 0 || false || HDB || 03-11-2022 "
+                    + "00:56:14 \nSK123 || || BLK 2 SENGKANG EAST || 1.29115 103.85728 || 10 || 10 0 0 || false || "
+                    + "HDB || 03-11-2022 00:56:14 \nBSK1234M || || BLK 3 BISHAN ST 11 || 1.29382 103.85319 || 9 || "
+                    + "9 0 0 || false || HDB || 03-11-2022 00:47:22 \nA7 || || BLK 4 ANG MO KIO || 1.29382 103.85319 "
+                    + "|| 9 || 9 0 0 || false || HDB || 03-11-2022 00:47:22 \n";
+
+    private int countMatches(CarparkList carparkList, String query) {
+        return carparkList.filterByCarparkId(new Sentence(query)).getCarparks().size();
+    }
+
+    @Test
+    void shortQueryTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        Assertions.assertEquals(3, countMatches(carparkList, "1"));
+        Assertions.assertEquals(3, countMatches(carparkList, "sk"));
+        Assertions.assertEquals(3, countMatches(carparkList, "K12"));
+        Assertions.assertEquals(1, countMatches(carparkList, "a7"));
+        Assertions.assertEquals(0, countMatches(carparkList, "z"));
+    }
+
+    @Test
+    void longQueryVerifiedTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        Assertions.assertEquals(2, countMatches(carparkList, "sk123"));
+        Assertions.assertEquals(1, countMatches(carparkList, "234m"));
+        Assertions.assertEquals(0, countMatches(carparkList, "sk124"));
+    }
+
+    @Test
+    void anyWordTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        Assertions.assertEquals(2, countMatches(carparkList, "a7 bsk"));
+    }
+}
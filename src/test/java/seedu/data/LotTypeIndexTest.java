@@ -0,0 +1,118 @@
+package seedu.data;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.exception.DuplicateCarparkIdException;
+import seedu.exception.FileWriteException;
+import seedu.exception.InvalidFormatException;
+import seedu.exception.NoFileFoundException;
+
+public class LotTypeIndexTest {
+    private final String validSaveString =
+            "1 || Marina || Suntec City || 1.29375 103.85718 || 2832 || 2822 10 0 || false || LTA || 03-11-2022 "
+                    + "00:56:14 \n2 || Marina || Marina Square || 1.29115 103.85728 || 1821 || 1801 20 0 || false || "
+                    + "LTA || 03-11-2022 00:56:14 \nA1 || || BLK 1 TAMPINES ST 11 || 1.29382 103.85319 || 101 || 90 "
+                    + "5 6 || false || HDB || 03-11-2022 00:47:22 \n";
+    private final String validNewSaveString = "2 || Marina || Marina Square || 1.29115 103.85728 || 1700 || 1700"
+            + " 0 0 || false || LTA || 03-11-2022 00:56:14 \n7 || Orchard || Orchard Point || 1.30135 103"
+            + ".84061 || 217 || 187 30 0 || false || LTA || 03-11-2022 00:47:22 ";
+
+    @TempDir
+    Path temporaryDirectory;
+
+    private CarparkList loadLtaJson(String name, String... records) throws IOException, NoFileFoundException,
+            FileWriteException {
+        StringBuilder json = new StringBuilder("{\"odata.metadata\":\"x\",\"value\":[");
+        for (int i = 0; i < records.length; i++) {
+            String[] fields = records[i].split(" ");
+            json.append(i == 0 ? "" : ",").append("{\"CarParkID\":\"").append(fields[0])
+                    .append("\",\"Area\":\"Marina\",\"Development\":\"Carpark ").append(fields[0])
+                    .append("\",\"Location\":\"1.29375 103.85718\",\"AvailableLots\":").append(fields[2])
+                    .append(",\"LotType\":\"").append(fields[1]).append("\",\"Agency\":\"LTA\"}");
+        }
+        Path filepath = temporaryDirectory.resolve(name);
+        Files.writeString(filepath, json.append("]}").toString());
+        return new CarparkList(filepath, filepath);
+    }
+
+    private void assertMatchesScan(CarparkList carparkList) {
+        for (LotType lotType : new LotType[]{LotType.CAR, LotType.MOTORCYCLE, LotType.HEAVY_VEHICLE}) {
+            List<Carpark> scanned = new ArrayList<>(carparkList.getCarparks());
+            scanned.sort(Comparator.comparing((Carpark carpark) -> carpark.getAllAvailableLots()
+                    .getOrDefault(lotType, 0)).reversed());
+            LotTypeIndex lotTypeIndex = carparkList.getLotTypeIndex();
+            List<Carpark> top = lotTypeIndex.getTopCarparks(lotType, 2);
+            for (int i = 0; i < top.size(); i++) {
+                Assertions.assertEquals((int) scanned.get(i).getAllAvailableLots().getOrDefault(lotType, 0),
+                        (int) top.get(i).getAllAvailableLots().getOrDefault(lotType, 0));
+            }
+            for (int threshold : new int[]{1, 20, 100}) {
+                List<Carpark> expected = new ArrayList<>();
+                for (Carpark carpark : scanned) {
+                    if (carpark.getAllAvailableLots().getOrDefault(lotType, 0) >= threshold) {
+                        expected.add(carpark);
+                    }
+                }
+                List<Carpark> found = lotTypeIndex.getCarparksWithAtLeast(lotType, threshold);
+                Assertions.assertEquals(expected.size(), found.size());
+                Assertions.assertTrue(found.containsAll(expected));
+            }
+        }
+    }
+
+    private String getIds(List<Carpark> carparks) {
+        StringBuilder ids = new StringBuilder();
+        for (Carpark carpark : carparks) {
+            ids.append(carpark.getCarparkId()).append(" ");
+        }
+        return ids.toString().trim();
+    }
+
+    @Test
+    void topCarparksTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        LotTypeIndex lotTypeIndex = carparkList.getLotTypeIndex();
+        Assertions.assertEquals("2 1", getIds(lotTypeIndex.getTopCarparks(LotType.MOTORCYCLE, 2)));
+        Assertions.assertEquals("1 2 A1", getIds(lotTypeIndex.getTopCarparks(LotType.CAR, 10)));
+    }
+
+    @Test
+    void carparksWithAtLeastTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        LotTypeIndex lotTypeIndex = carparkList.getLotTypeIndex();
+        Assertions.assertEquals("1 2", getIds(lotTypeIndex.getCarparksWithAtLeast(LotType.CAR, 1801)));
+        Assertions.assertEquals("A1", getIds(lotTypeIndex.getCarparksWithAtLeast(LotType.HEAVY_VEHICLE, 1)));
+        Assertions.assertEquals("", getIds(lotTypeIndex.getCarparksWithAtLeast(LotType.HEAVY_VEHICLE, 7)));
+    }
+
+    @Test
+    void indexUpdateTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        carparkList.update(new CarparkList(validNewSaveString));
+        LotTypeIndex lotTypeIndex = carparkList.getLotTypeIndex();
+        Assertions.assertEquals("7 1 A1", getIds(lotTypeIndex.getTopCarparks(LotType.MOTORCYCLE, 3)));
+        Assertions.assertEquals("1 2", getIds(lotTypeIndex.getCarparksWithAtLeast(LotType.CAR, 1700)));
+    }
+
+    @Test
+    void repeatedJsonUpdateTest() throws IOException, NoFileFoundException, FileWriteException {
+        CarparkList carparkList = loadLtaJson("base.json", "1 C 100", "1 Y 20", "2 C 50", "2 Y 5", "2 H 1");
+        carparkList.update(loadLtaJson("first.json", "1 C 90", "1 Y 25", "3 C 10", "3 Y 30"));
+        assertMatchesScan(carparkList);
+        carparkList.update(loadLtaJson("second.json", "1 C 80", "1 Y 25", "2 C 50", "2 Y 5", "2 H 1",
+                "3 C 40", "3 Y 30"));
+        assertMatchesScan(carparkList);
+        Assertions.assertEquals(80, (int) carparkList.getLotTypeIndex().getTopCarparks(LotType.CAR, 1).get(0)
+                .getAllAvailableLots().get(LotType.CAR));
+        Assertions.assertEquals(170, carparkList.getAreaRollup().getTotalLots("Marina", LotType.CAR));
+    }
+}
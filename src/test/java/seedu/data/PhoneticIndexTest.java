@@ -0,0 +1,54 @@
+package seedu.data;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.exception.DuplicateCarparkIdException;
+import seedu.exception.InvalidFormatException;
+import seedu.parser.search.Sentence;
+
+public class PhoneticIndexTest {
+    private final String validSaveString =
+            "7 || Orchard || Orchard Point || 1.30135 103.84061 || 187 || 187 0 0 || false || LTA || 03-11-2022 "
+                    + "00:47:22 \n30 || Orchard || Orchard Central || 1.30082 103.83919 || 250 || 250 0 0 || false ||"
+                    + " LTA || 03-11-2022 00:47:22 \nT1 ||  || BLK 1 TAMPINES ST 11 || 1.35000 103.94000 || 80 || 80 "
+                    + "0 0 || false || HDB || 03-11-2022 00:47:22 \n";
+    private final String validNewSaveString = "J1 ||  || BLK 2 JURONG WEST ST 91 || 1.34000 103.70000 || 60 || 60 0"
+            + " 0 || false || HDB || 03-11-2022 00:47:22 ";
+
+    @Test
+    void similarSpellingsShareKeyTest() {
+        Assertions.assertEquals(PhoneticIndex.getKey("tampines"), PhoneticIndex.getKey("tampenis"));
+        Assertions.assertEquals(PhoneticIndex.getKey("orchard"), PhoneticIndex.getKey("orcherd"));
+        Assertions.assertEquals(PhoneticIndex.getKey("jurong"), PhoneticIndex.getKey("jurung"));
+        Assertions.assertNotEquals(PhoneticIndex.getKey("orchard"), PhoneticIndex.getKey("central"));
+        Assertions.assertEquals("#11", PhoneticIndex.getKey("11"));
+    }
+
+    @Test
+    void filterBySoundTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        Assertions.assertEquals(2, carparkList.filterBySound(new Sentence("orcherd")).getCarparks().size());
+        Assertions.assertEquals(1, carparkList.filterBySound(new Sentence("orcherd sentral")).getCarparks().size());
+        Assertions.assertEquals(1, carparkList.filterBySound(new Sentence("tampenis 11")).getCarparks().size());
+        Assertions.assertEquals(0, carparkList.filterBySound(new Sentence("tampenis 12")).getCarparks().size());
+    }
+
+    @Test
+    void updateAddsKeysTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        Assertions.assertEquals(0, carparkList.filterBySound(new Sentence("jurung")).getCarparks().size());
+        carparkList.update(new CarparkList(validNewSaveString));
+        Assertions.assertEquals(1, carparkList.filterBySound(new Sentence("jurung")).getCarparks().size());
+    }
+
+    @Test
+    void memoryFootprintTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        long footprint = carparkList.getPhoneticIndex().getMemoryFootprint();
+        Assertions.assertTrue(footprint > 0);
+        carparkList.update(new CarparkList(validNewSaveString));
+        Assertions.assertTrue(carparkList.getPhoneticIndex().getMemoryFootprint() > footprint);
+        Assertions.assertTrue(carparkList.getPhoneticIndex().getStatsString().contains("4|@ carparks"));
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.data;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.exception.DuplicateCarparkIdException;
+import seedu.exception.InvalidFormatException;
+import seedu.parser.search.Sentence;
+
+public class QueryCacheTest {
+    private final String validSaveString =
+            "1 || Marina || Suntec City || 1.29375 103.85718 || 2822 || 2822 0 0 || false || LTA || 03-11-2022 "
+                    + "00:56:14 \n3 || Marina || Raffles City || 1.29382 103.85319 || 896 || 896 0 0 || false || "
+                    + "LTA || 03-11-2022 00:47:22 \n";
+    private final String validNewSaveString = "7 || Orchard || Orchard City Point || 1.30135 103.84061 || 187 || 187"
+            + " 0 0 || false || LTA || 03-11-2022 00:47:22 ";
+    private final String validChangedSaveString = "1 || Marina || Suntec City || 1.29375 103.85718 || 2000 || 2000 0"
+            + " 0 || false || LTA || 03-11-2022 00:56:14 \n";
+
+    @Test
+    void leastRecentlyUsedEvictionTest() {
+        QueryCache queryCache = new QueryCache(2);
+        queryCache.put("a", 0, new int[] {1});
+        queryCache.put("b", 0, new int[] {2});
+        Assertions.assertArrayEquals(new int[] {1}, queryCache.get("a", 0));
+        queryCache.put("c", 0, new int[] {3});
+        Assertions.assertNull(queryCache.get("b", 0));
+        Assertions.assertArrayEquals(new int[] {1}, queryCache.get("a", 0));
+        Assertions.assertEquals(1, queryCache.getEvictionCount());
+        Assertions.assertEquals(2, queryCache.getHitCount());
+        Assertions.assertEquals(1, queryCache.getMissCount());
+    }
+
+    @Test
+    void staleVersionTest() {
+        QueryCache queryCache = new QueryCache(2);
+        queryCache.put("a", 0, new int[] {1});
+        Assertions.assertNull(queryCache.get("a", 1));
+        Assertions.assertEquals(0, queryCache.getSize());
+    }
+
+    @Test
+    void repeatedFilterHitTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        carparkList.filterByAllStrings(new Sentence("city suntec"));
+        CarparkFilteredList result = carparkList.filterByAllStrings(new Sentence("SUNTEC city"));
+        Assertions.assertEquals(1, result.getCarparks().size());
+        Assertions.assertEquals(1, carparkList.getQueryCache().getHitCount());
+        carparkList.filterByFuzzyStrings(new Sentence("city suntec"));
+        Assertions.assertEquals(1, carparkList.getQueryCache().getHitCount());
+    }
+
+    @Test
+    void updateInvalidatesTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        Assertions.assertEquals(2, carparkList.filterByAllStrings(new Sentence("city")).getCarparks().size());
+        carparkList.update(new CarparkList(validNewSaveString));
+        Assertions.assertEquals(3, carparkList.filterByAllStrings(new Sentence("city")).getCarparks().size());
+        Assertions.assertEquals(0, carparkList.getQueryCache().getHitCount());
+    }
+
+    @Test
+    void unchangedUpdateKeepsCacheTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        long dataVersion = carparkList.getDataVersion();
+        carparkList.update(new CarparkList(validSaveString));
+        Assertions.assertEquals(dataVersion, carparkList.getDataVersion());
+        carparkList.update(new CarparkList(validChangedSaveString));
+        Assertions.assertEquals(dataVersion + 1, carparkList.getDataVersion());
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.data;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.exception.DuplicateCarparkIdException;
+import seedu.exception.InvalidFormatException;
+import seedu.parser.search.Sentence;
+
+public class RelevanceRankerTest {
+    private final String validSaveString =
+            "1 || Marina || Suntec City || 1.29375 103.85718 || 2822 || 2822 0 0 || false || LTA || 03-11-2022 "
+                    + "00:56:14 \n2 || Marina || Marina Square || 1.29115 103.85728 || 1801 || 1801 0 0 || false || "
+                    + "LTA || 03-11-2022 00:56:14 \n3 || Marina || Raffles City || 1.29382 103.85319 || 896 || 896 0 0"
+                    + " || false || LTA || 03-11-2022 00:47:22 \n7 || Orchard || Orchard City Point || 1.30135 "
+                    + "103.84061 || 187 || 187 0 0 || false || LTA || 03-11-2022 00:47:22 \n30 || Orchard || Orchard "
+                    + "Central || 1.30082 103.83919 || 250 || 250 0 0 || false || LTA || 03-11-2022 00:47:22 \n";
+
+    private String getIds(CarparkFilteredList result) {
+        StringBuilder ids = new StringBuilder();
+        for (Carpark carpark : result.getCarparks()) {
+            ids.append(carpark.getCarparkId()).append(" ");
+        }
+        return ids.toString().trim();
+    }
+
+    @Test
+    void anyWordMatchesTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        Assertions.assertEquals(4, carparkList.filterByRelevance(new Sentence("city central"), 10).getCarparks()
+                .size());
+    }
+
+    @Test
+    void moreWordsRankHigherTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        Assertions.assertEquals("7", getIds(carparkList.filterByRelevance(new Sentence("orchard city"), 1)));
+    }
+
+    @Test
+    void exactBeatsPrefixTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        CarparkFilteredList result = carparkList.filterByRelevance(new Sentence("marina"), 5);
+        // The development word beats the area, which every Marina carpark shares.
+        Assertions.assertEquals("2", result.getCarparks().get(0).getCarparkId());
+        Assertions.assertEquals(3, result.getCarparks().size());
+    }
+
+    @Test
+    void carparkIdTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        Assertions.assertEquals("30 3", getIds(carparkList.filterByRelevance(new Sentence("30 raffles"), 2)));
+    }
+
+    @Test
+    void countTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        Assertions.assertEquals(2, carparkList.filterByRelevance(new Sentence("city"), 2).getCarparks().size());
+        Assertions.assertEquals(0, carparkList.filterByRelevance(new Sentence("jurong"), 2).getCarparks().size());
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.data;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.exception.DuplicateCarparkIdException;
+import seedu.exception.InvalidFormatException;
+import seedu.parser.search.Sentence;
+
+public class SearchSessionTest {
+    private final String validSaveString =
+            "1 || Marina || Suntec City || 1.29375 103.85718 || 2822 || 2822 0 0 || false || LTA || 03-11-2022 "
+                    + "00:56:14 \n3 || Marina || Raffles City || 1.29382 103.85319 || 896 || 896 0 0 || false || "
+                    + "LTA || 03-11-2022 00:47:22 \n7 || Orchard || Orchard City Point || 1.30135 103.84061 || 187 "
+                    + "|| 187 0 0 || false || LTA || 03-11-2022 00:47:22 \n30 || Orchard || Orchard Central || "
+                    + "1.30082 103.83919 || 250 || 250 0 0 || false || LTA || 03-11-2022 00:47:22 \n";
+    private final String validNewSaveString = "8 || Orchard || Orchard Cityscape || 1.30135 103.84061 || 187 || 187"
+            + " 0 0 || false || LTA || 03-11-2022 00:47:22 ";
+
+    @Test
+    void refinedQueryNarrowsTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        Assertions.assertEquals(2, carparkList.filterByAllStrings(new Sentence("orch")).getCarparks().size());
+        Assertions.assertEquals(1, carparkList.filterByAllStrings(new Sentence("orchard ci")).getCarparks().size());
+        Assertions.assertEquals(1, carparkList.filterByAllStrings(new Sentence("orchard city")).getCarparks().size());
+        Assertions.assertEquals(2, carparkList.getSearchSession().getNarrowedCount());
+    }
+
+    @Test
+    void unrelatedQueryTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        Assertions.assertEquals(2, carparkList.filterByAllStrings(new Sentence("orch")).getCarparks().size());
+        Assertions.assertEquals(3, carparkList.filterByAllStrings(new Sentence("city")).getCarparks().size());
+        Assertions.assertEquals(4, carparkList.filterByAllStrings(new Sentence("c")).getCarparks().size());
+        Assertions.assertEquals(0, carparkList.getSearchSession().getNarrowedCount());
+    }
+
+    @Test
+    void updateInvalidatesTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        Assertions.assertEquals(2, carparkList.filterByAllStrings(new Sentence("orch")).getCarparks().size());
+        carparkList.update(new CarparkList(validNewSaveString));
+        Assertions.assertEquals(2, carparkList.filterByAllStrings(new Sentence("orchard cit")).getCarparks().size());
+        Assertions.assertEquals(0, carparkList.getSearchSession().getNarrowedCount());
+    }
+}
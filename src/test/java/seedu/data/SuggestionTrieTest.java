@@ -0,0 +1,65 @@
+package seedu.data;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.exception.DuplicateCarparkIdException;
+import seedu.exception.InvalidFormatException;
+
+public class SuggestionTrieTest {
+    private final String validSaveString =
+            "1 || Marina || Suntec City || 1.29375 103.85718 || 2822 || 2822 0 0 || false || LTA || 03-11-2022 "
+                    + "00:56:14 \n3 || Marina || Raffles City || 1.29382 103.85319 || 896 || 896 0 0 || false || "
+                    + "LTA || 03-11-2022 00:47:22 \n7 || Orchard || Orchard City Point || 1.30135 103.84061 || 187 "
+                    + "|| 187 0 0 || false || LTA || 03-11-2022 00:47:22 \n30 || Orchard || Orchard Central || "
+                    + "1.30082 103.83919 || 250 || 250 0 0 || false || LTA || 03-11-2022 00:47:22 \n";
+    private final String validNewSaveString = "8 || Orchard || Orchard Cityscape || 1.30135 103.84061 || 187 || 187"
+            + " 0 0 || false || LTA || 03-11-2022 00:47:22 ";
+
+    @Test
+    void mostFrequentFirstTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        SuggestionTrie suggestionTrie = new CarparkList(validSaveString).getSuggestionTrie();
+        Assertions.assertEquals(List.of("City", "Central"), suggestionTrie.suggest("c", 5));
+        Assertions.assertEquals(List.of("City"), suggestionTrie.suggest("c", 1));
+        Assertions.assertEquals(3, suggestionTrie.getFrequency("city"));
+    }
+
+    @Test
+    void carparkIdTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        SuggestionTrie suggestionTrie = new CarparkList(validSaveString).getSuggestionTrie();
+        Assertions.assertEquals(List.of("3", "30"), suggestionTrie.suggest("3", 5));
+    }
+
+    @Test
+    void caseInsensitiveTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        SuggestionTrie suggestionTrie = new CarparkList(validSaveString).getSuggestionTrie();
+        Assertions.assertEquals(List.of("Orchard"), suggestionTrie.suggest("ORCH", 5));
+        Assertions.assertEquals(List.of(), suggestionTrie.suggest("xyz", 5));
+    }
+
+    @Test
+    void updateAddsWordsTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        carparkList.update(new CarparkList(validNewSaveString));
+        SuggestionTrie suggestionTrie = carparkList.getSuggestionTrie();
+        Assertions.assertEquals(List.of("City", "Cityscape"), suggestionTrie.suggest("cit", 5));
+        Assertions.assertEquals(3, suggestionTrie.getFrequency("orchard"));
+    }
+
+    @Test
+    void manyWordsTest() throws InvalidFormatException {
+        SuggestionTrie suggestionTrie = new SuggestionTrie();
+        for (int i = 0; i < 30; i++) {
+            for (int j = 0; j <= i; j++) {
+                suggestionTrie.addCarpark(Carpark.parseCarpark(String.format("%s || Marina || Word%s || "
+                        + "1.29375 103.85718 || 10 || 10 0 0 || false || LTA || 03-11-2022 00:56:14", i * 100 + j, i)));
+            }
+        }
+        List<String> suggestions = suggestionTrie.suggest("word", SuggestionTrie.MAX_SUGGESTIONS);
+        Assertions.assertEquals(SuggestionTrie.MAX_SUGGESTIONS, suggestions.size());
+        Assertions.assertEquals("Word29", suggestions.get(0));
+        Assertions.assertEquals("Word20", suggestions.get(9));
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.data;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.common.CommonData;
+import seedu.exception.DuplicateCarparkIdException;
+import seedu.exception.InvalidFormatException;
+import seedu.parser.search.Sentence;
+
+public class SynonymTableTest {
+    private final String validSaveString =
+            "C28M ||  || BLK 208 CLEMENTI AVE 6 || 1.31454 103.76523 || 233 || 233 0 0 || false || HDB || "
+                    + "03-11-2022 00:56:14 \nC5 ||  || Block 358 Clementi Avenue 2 || 1.31497 103.76520 || 173 || "
+                    + "173 0 0 || false || HDB || 03-11-2022 00:56:14 \nB1 ||  || BLK 1 BEDOK ROAD || 1.32474 "
+                    + "103.93117 || 80 || 80 0 0 || false || HDB || 03-11-2022 00:56:14 \n";
+
+    @Test
+    void expandTest() {
+        SynonymTable synonymTable = new SynonymTable(CommonData.ADDRESS_SYNONYMS);
+        Assertions.assertEquals(List.of("blk", "208", "ave", "block", "avenue"),
+                synonymTable.expand(List.of("blk", "208", "ave")));
+        Assertions.assertEquals(List.of("block", "blk"), synonymTable.expand(List.of("block", "blk")));
+        Assertions.assertEquals(List.of(), synonymTable.getSynonyms("clementi"));
+    }
+
+    @Test
+    void abbreviationMatchesFullWordTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        Assertions.assertEquals(2, carparkList.filterByAllStrings(new Sentence("blk clementi ave")).getCarparks()
+                .size());
+        Assertions.assertEquals(2, carparkList.filterByAllStrings(new Sentence("block clementi avenue"))
+                .getCarparks().size());
+        Assertions.assertEquals(1, carparkList.filterByAllStrings(new Sentence("bedok rd")).getCarparks().size());
+        Assertions.assertEquals(0, carparkList.filterByAllStrings(new Sentence("bedok st")).getCarparks().size());
+    }
+
+    @Test
+    void synonymHighlightedTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        String result = carparkList.filterByAllStrings(new Sentence("block 208")).getSearchListString();
+        Assertions.assertTrue(result.contains("@|bold,cyan BLK|@"), result);
+    }
+}
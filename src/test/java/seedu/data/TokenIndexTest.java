@@ -0,0 +1,43 @@
+package seedu.data;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.exception.DuplicateCarparkIdException;
+import seedu.exception.InvalidFormatException;
+import seedu.parser.search.Sentence;
+
+public class TokenIndexTest {
+    private final String validSaveString =
+            "1 || Marina || Suntec City || 1.29375 103.85718 || 2822 || 2822 0 0 || false || LTA || 03-11-2022 "
+                    + "00:56:14 \n2 || Marina || Marina Square || 1.29115 103.85728 || 1801 || 1801 0 0 || false || "
+                    + "LTA || 03-11-2022 00:56:14 \n3 || Marina || Raffles City || 1.29382 103.85319 || 896 || 896 0 0"
+                    + " || false || LTA || 03-11-2022 00:47:22 \n";
+    private final String validNewSaveString = "7 || Orchard || Orchard City Point || 1.30135 103.84061 || 187 || 187"
+            + " 0 0 || false || LTA || 03-11-2022 00:47:22 ";
+
+    @Test
+    void prefixRangeTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        Assertions.assertEquals(2, carparkList.filterByAllStrings(new Sentence("cit")).getCarparks().size());
+        Assertions.assertEquals(1, carparkList.filterByAllStrings(new Sentence("MAR squ")).getCarparks().size());
+        Assertions.assertEquals(0, carparkList.filterByAllStrings(new Sentence("marina city")).getCarparks().size());
+        Assertions.assertEquals(0, carparkList.filterByAllStrings(new Sentence("ity")).getCarparks().size());
+    }
+
+    @Test
+    void incrementalAddTest() throws DuplicateCarparkIdException, InvalidFormatException {
+        CarparkList carparkList = new CarparkList(validSaveString);
+        carparkList.update(new CarparkList(validNewSaveString));
+        CarparkFilteredList result = carparkList.filterByAllStrings(new Sentence("city"));
+        Assertions.assertEquals(3, result.getCarparks().size());
+        Assertions.assertEquals("7", carparkList.filterByAllStrings(new Sentence("orch po")).getCarparks().get(0)
+                .getCarparkId());
+    }
+
+    @Test
+    void postingListIntersectTest() {
+        Assertions.assertArrayEquals(new int[] {3, 9}, PostingList.intersect(new int[] {1, 3, 5, 9},
+                new int[] {2, 3, 9, 11}));
+    }
+}
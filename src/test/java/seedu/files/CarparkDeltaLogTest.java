@@ -0,0 +1,240 @@
+package seedu.files;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.data.CarparkList;
+import seedu.data.LotType;
+import seedu.exception.DuplicateCarparkIdException;
+import seedu.exception.FileWriteException;
+import seedu.exception.InvalidFormatException;
+import seedu.exception.NoCarparkFoundException;
+import seedu.exception.NoFileFoundException;
+
+public class CarparkDeltaLogTest {
+    private final String validSaveString =
+            "1 || Marina || Suntec City || 1.29375 103.85718 || 2822 || 2800 20 2 || false || LTA || 03-11-2022 "
+                    + "00:56:14 \nA12 ||  || BLK 1 TAMPINES ST 11 || 1.35000 103.94000 || 80 || 80 0 0 || false || "
+                    + "HDB || 03-11-2022 00:47:22 \n3 || Marina || Raffles City || 1.29382 103.85319 || 896 || 896 0 0"
+                    + " || false || LTA || 03-11-2022 00:47:22 \n";
+
+    private CarparkList loadFrom(Path directory) throws FileWriteException, NoFileFoundException {
+        return FileReader.loadCarparkList("carparkList.bin", "carparkList.txt", directory.toString());
+    }
+
+    private CarparkList getRefresh(String carparkId, int lots) throws InvalidFormatException,
+            DuplicateCarparkIdException {
+        String refreshString = validSaveString.replace("2822 || 2800", "1 || 1").replace("80 || 80", "1 || 1")
+                .replace("896 || 896", "1 || 1");
+        for (String line : refreshString.split("\n")) {
+            if (line.startsWith(carparkId + " ")) {
+                return new CarparkList(line.replace("1 || 1 ", lots + " || " + lots + " "));
+            }
+        }
+        throw new AssertionError("No carpark " + carparkId);
+    }
+
+    private CarparkList getNewCarpark(String carparkId, int lots) throws InvalidFormatException,
+            DuplicateCarparkIdException {
+        return new CarparkList(carparkId + " || Marina || New Carpark " + carparkId + " || 1.29000 103.85000 || "
+                + lots + " || " + lots + " 0 0 || false || LTA || 03-11-2022 00:56:14 ");
+    }
+
+    private void deleteDirectory(Path directory) throws IOException {
+        for (File file : directory.toFile().listFiles()) {
+            file.delete();
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    void lotsUpdatedInPlaceTest() throws IOException, InvalidFormatException, DuplicateCarparkIdException,
+            FileWriteException, NoFileFoundException, NoCarparkFoundException {
+        Path directory = Files.createTempDirectory("parking");
+        CarparkDeltaLog log = CarparkDeltaLog.getInstance(directory, "carparkList.bin", "carparkList.txt");
+        log.save(new CarparkList(validSaveString));
+        FileWriteQueue.getInstance().flush();
+        CarparkList carparkList = loadFrom(directory);
+        long baseModified = Files.getLastModifiedTime(directory.resolve("carparkList.bin")).toMillis();
+
+        carparkList.update(getRefresh("1", 1234));
+        log.save(carparkList);
+        Assertions.assertTrue(Files.exists(log.getLotsPath()));
+        Assertions.assertFalse(Files.exists(log.getChangesPath()));
+        Assertions.assertEquals(AvailabilityFile.HEADER_SIZE + AvailabilityFile.RECORD_SIZE,
+                Files.size(log.getLotsPath()));
+        carparkList.update(getRefresh("A12", 81));
+        carparkList.update(getRefresh("3", 897));
+        log.save(carparkList);
+        carparkList.update(getRefresh("1", 1235));
+        log.save(carparkList);
+        FileWriteQueue.getInstance().flush();
+        Assertions.assertEquals(AvailabilityFile.HEADER_SIZE + 3 * AvailabilityFile.RECORD_SIZE,
+                Files.size(log.getLotsPath()));
+        Assertions.assertFalse(Files.exists(log.getChangesPath()));
+        Assertions.assertEquals(baseModified,
+                Files.getLastModifiedTime(directory.resolve("carparkList.bin")).toMillis());
+        Assertions.assertEquals(1235, (int) log.findCarpark("1").getAllAvailableLots().get(LotType.CAR));
+
+        CarparkList loaded = loadFrom(directory);
+        Assertions.assertEquals(1235, (int) loaded.findCarpark("1").getAllAvailableLots().get(LotType.CAR));
+        Assertions.assertEquals(81, (int) loaded.findCarpark("A12").getAllAvailableLots().get(LotType.CAR));
+        Assertions.assertEquals(897, (int) loaded.findCarpark("3").getAllAvailableLots().get(LotType.CAR));
+        Assertions.assertEquals("Suntec City", loaded.findCarpark("1").getDevelopment());
+        Assertions.assertEquals(carparkList.findCarpark("1").getLastUpdated().withNano(0),
+                loaded.findCarpark("1").getLastUpdated());
+        Assertions.assertTrue(Files.readString(directory.resolve("carparkList.txt")).contains("2800"));
+        deleteDirectory(directory);
+    }
+
+    @Test
+    void tornLotsRecordIgnoredTest() throws IOException, InvalidFormatException, DuplicateCarparkIdException,
+            FileWriteException, NoFileFoundException, NoCarparkFoundException {
+        Path directory = Files.createTempDirectory("parking");
+        CarparkDeltaLog log = CarparkDeltaLog.getInstance(directory, "carparkList.bin", "carparkList.txt");
+        log.save(new CarparkList(validSaveString));
+        FileWriteQueue.getInstance().flush();
+        CarparkList carparkList = loadFrom(directory);
+        carparkList.update(getRefresh("1", 1000));
+        carparkList.update(getRefresh("A12", 1001));
+        log.save(carparkList);
+
+        byte[] content = Files.readAllBytes(log.getLotsPath());
+        content[AvailabilityFile.HEADER_SIZE + 2] ^= 1;
+        Files.write(log.getLotsPath(), content);
+        CarparkList loaded = loadFrom(directory);
+        Assertions.assertEquals(2800, (int) loaded.findCarpark("1").getAllAvailableLots().get(LotType.CAR));
+        Assertions.assertEquals(1001, (int) loaded.findCarpark("A12").getAllAvailableLots().get(LotType.CAR));
+        deleteDirectory(directory);
+    }
+
+    @Test
+    void changesUpdatedInPlaceTest() throws IOException, InvalidFormatException, DuplicateCarparkIdException,
+            FileWriteException, NoFileFoundException, NoCarparkFoundException {
+        Path directory = Files.createTempDirectory("parking");
+        CarparkDeltaLog log = CarparkDeltaLog.getInstance(directory, "carparkList.bin", "carparkList.txt");
+        log.save(new CarparkList(validSaveString));
+        FileWriteQueue.getInstance().flush();
+        Assertions.assertTrue(Files.exists(directory.resolve("carparkList.bin")));
+        Assertions.assertFalse(Files.exists(log.getChangesPath()));
+
+        CarparkList carparkList = loadFrom(directory);
+        log.save(carparkList);
+        Assertions.assertFalse(Files.exists(log.getChangesPath()));
+
+        carparkList.update(getNewCarpark("B1", 1234));
+        log.save(carparkList);
+        long changesSize = Files.size(log.getChangesPath());
+        carparkList.update(getNewCarpark("B1", 1235));
+        log.save(carparkList);
+        Assertions.assertEquals(changesSize, Files.size(log.getChangesPath()));
+        Assertions.assertFalse(Files.exists(log.getLotsPath()));
+        Assertions.assertEquals(1235, (int) log.findCarpark("b1").getAllAvailableLots().get(LotType.CAR));
+        Assertions.assertEquals(80, (int) log.findCarpark("a12").getAllAvailableLots().get(LotType.CAR));
+        Assertions.assertNull(log.findCarpark("B2"));
+
+        CarparkList loaded = loadFrom(directory);
+        Assertions.assertEquals(1235, (int) loaded.findCarpark("B1").getAllAvailableLots().get(LotType.CAR));
+        Assertions.assertEquals(80, (int) loaded.findCarpark("A12").getAllAvailableLots().get(LotType.CAR));
+        Assertions.assertEquals(4, loaded.getCarparks().size());
+        Assertions.assertFalse(Files.readString(directory.resolve("carparkList.txt")).contains("B1"));
+        deleteDirectory(directory);
+    }
+
+    @Test
+    void corruptedChangesIgnoredTest() throws IOException, InvalidFormatException, DuplicateCarparkIdException,
+            FileWriteException, NoFileFoundException, NoCarparkFoundException {
+        Path directory = Files.createTempDirectory("parking");
+        CarparkDeltaLog log = CarparkDeltaLog.getInstance(directory, "carparkList.bin", "carparkList.txt");
+        log.save(new CarparkList(validSaveString));
+        FileWriteQueue.getInstance().flush();
+        CarparkList carparkList = loadFrom(directory);
+        carparkList.update(getNewCarpark("B1", 1000));
+        carparkList.update(getRefresh("1", 1001));
+        log.save(carparkList);
+
+        byte[] content = Files.readAllBytes(log.getChangesPath());
+        content[content.length - PageFile.PAGE_SIZE + 10] ^= 1;
+        Files.write(log.getChangesPath(), content);
+        CarparkList loaded = loadFrom(directory);
+        Assertions.assertEquals(3, loaded.getCarparks().size());
+        Assertions.assertEquals(1001, (int) loaded.findCarpark("1").getAllAvailableLots().get(LotType.CAR));
+        Assertions.assertFalse(Files.exists(log.getChangesPath()));
+        deleteDirectory(directory);
+    }
+
+    @Test
+    void changesCompactedTest() throws IOException, InvalidFormatException, DuplicateCarparkIdException,
+            FileWriteException, NoFileFoundException, NoCarparkFoundException {
+        Path directory = Files.createTempDirectory("parking");
+        CarparkDeltaLog log = CarparkDeltaLog.getInstance(directory, "carparkList.bin", "carparkList.txt");
+        log.save(new CarparkList(validSaveString));
+        FileWriteQueue.getInstance().flush();
+        CarparkList carparkList = loadFrom(directory);
+        carparkList.update(getRefresh("1", 1001));
+        carparkList.update(getNewCarpark("B1", 1002));
+        log.save(carparkList);
+        Assertions.assertTrue(Files.exists(log.getChangesPath()));
+        Assertions.assertTrue(Files.exists(log.getLotsPath()));
+        carparkList.update(getNewCarpark("B2", 1003));
+        log.save(carparkList);
+        FileWriteQueue.getInstance().flush();
+        Assertions.assertFalse(Files.exists(log.getChangesPath()));
+        Assertions.assertFalse(Files.exists(log.getLotsPath()));
+        Assertions.assertFalse(Files.readString(directory.resolve("carparkList.txt")).contains("2800"));
+        carparkList.update(getRefresh("3", 1004));
+        carparkList.update(getNewCarpark("B2", 1005));
+        log.save(carparkList);
+        Assertions.assertFalse(Files.exists(log.getChangesPath()));
+        Assertions.assertTrue(Files.exists(log.getLotsPath()));
+
+        CarparkList loaded = loadFrom(directory);
+        Assertions.assertEquals(1001, (int) loaded.findCarpark("1").getAllAvailableLots().get(LotType.CAR));
+        Assertions.assertEquals(1002, (int) loaded.findCarpark("B1").getAllAvailableLots().get(LotType.CAR));
+        Assertions.assertEquals(1004, (int) loaded.findCarpark("3").getAllAvailableLots().get(LotType.CAR));
+        Assertions.assertEquals(1005, (int) loaded.findCarpark("B2").getAllAvailableLots().get(LotType.CAR));
+        deleteDirectory(directory);
+    }
+
+    @Test
+    void failedBaseWriteKeepsChangesTest() throws IOException, InvalidFormatException, DuplicateCarparkIdException,
+            FileWriteException, NoFileFoundException, NoCarparkFoundException {
+        Path directory = Files.createTempDirectory("parking");
+        CarparkDeltaLog log = CarparkDeltaLog.getInstance(directory, "carparkList.bin", "carparkList.txt");
+        log.save(new CarparkList(validSaveString));
+        FileWriteQueue.getInstance().flush();
+        CarparkList carparkList = loadFrom(directory);
+        carparkList.update(getRefresh("1", 1001));
+        carparkList.update(getNewCarpark("B1", 1002));
+        log.save(carparkList);
+        Assertions.assertTrue(Files.exists(log.getChangesPath()));
+        Assertions.assertTrue(Files.exists(log.getLotsPath()));
+
+        // A directory in the way of the temporary file makes the write of the new base fail.
+        Path blocker = Files.createDirectory(directory.resolve("carparkList.bin.tmp"));
+        Files.writeString(blocker.resolve("blocker"), "");
+        log.reset();
+        Assertions.assertThrows(FileWriteException.class, () -> log.save(carparkList));
+        Assertions.assertTrue(Files.exists(log.getChangesPath()));
+        Assertions.assertTrue(Files.exists(log.getLotsPath()));
+        CarparkList loaded = log.load();
+        Assertions.assertEquals(1001, (int) loaded.findCarpark("1").getAllAvailableLots().get(LotType.CAR));
+        Assertions.assertEquals(1002, (int) loaded.findCarpark("B1").getAllAvailableLots().get(LotType.CAR));
+
+        deleteDirectory(blocker);
+        log.reset();
+        log.save(carparkList);
+        FileWriteQueue.getInstance().flush();
+        Assertions.assertFalse(Files.exists(log.getChangesPath()));
+        Assertions.assertFalse(Files.exists(log.getLotsPath()));
+        loaded = log.load();
+        Assertions.assertEquals(1001, (int) loaded.findCarpark("1").getAllAvailableLots().get(LotType.CAR));
+        Assertions.assertEquals(1002, (int) loaded.findCarpark("B1").getAllAvailableLots().get(LotType.CAR));
+        deleteDirectory(directory);
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.files;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.data.Carpark;
+import seedu.data.CarparkList;
+import seedu.data.LotType;
+import seedu.exception.DuplicateCarparkIdException;
+import seedu.exception.FileWriteException;
+import seedu.exception.InvalidFormatException;
+import seedu.exception.NoCarparkFoundException;
+import seedu.exception.NoFileFoundException;
+import seedu.parser.search.Sentence;
+
+public class CarparkSnapshotTest {
+    private final String validSaveString =
+            "1 || Marina || Suntec City || 1.29375 103.85718 || 2822 || 2800 20 2 || false || LTA || 03-11-2022 "
+                    + "00:56:14 \nA12 ||  || BLK 1 TAMPINES ST 11 || 1.35000 103.94000 || 80 || 80 0 0 || false || "
+                    + "HDB || 03-11-2022 00:47:22 \n3 || Marina || Raffles City || 1.29382 103.85319 || 896 || 896 0 0"
+                    + " || false || LTA || 03-11-2022 00:47:22 \n";
+
+    @Test
+    void roundTripTest() throws IOException, InvalidFormatException, DuplicateCarparkIdException,
+            FileWriteException, NoCarparkFoundException {
+        Path directory = Files.createTempDirectory("parking");
+        Path snapshotPath = directory.resolve("carparkList.bin");
+        CarparkList carparkList = new CarparkList(validSaveString);
+        CarparkSnapshot.write(snapshotPath, carparkList.getCarparks());
+
+        CarparkSnapshot snapshot = CarparkSnapshot.open(snapshotPath);
+        Assertions.assertEquals(3, snapshot.getRecordCount());
+        CarparkList loaded = new CarparkList(snapshot);
+        Assertions.assertEquals(carparkList.getSaveString(), loaded.getSaveString());
+        Assertions.assertEquals(20, (int) loaded.findCarpark("1").getAllAvailableLots().get(LotType.MOTORCYCLE));
+        Assertions.assertEquals(2, loaded.filterByAllStrings(new Sentence("city")).getCarparks()
+                .size());
+        Files.delete(snapshotPath);
+        Files.delete(directory);
+    }
+
+    @Test
+    void findByIdTest() throws IOException, InvalidFormatException, DuplicateCarparkIdException,
+            FileWriteException {
+        Path directory = Files.createTempDirectory("parking");
+        Path snapshotPath = directory.resolve("carparkList.bin");
+        CarparkSnapshot.write(snapshotPath, new CarparkList(validSaveString).getCarparks());
+
+        CarparkSnapshot snapshot = CarparkSnapshot.open(snapshotPath);
+        Carpark carpark = snapshot.findCarpark("a12");
+        Assertions.assertEquals("A12", carpark.getCarparkId());
+        Assertions.assertEquals("BLK 1 TAMPINES ST 11", carpark.getDevelopment());
+        Assertions.assertNull(snapshot.findCarpark("B1"));
+        Files.delete(snapshotPath);
+        Files.delete(directory);
+    }
+
+    @Test
+    void invalidSnapshotTest() throws IOException {
+        Path directory = Files.createTempDirectory("parking");
+        Path snapshotPath = directory.resolve("carparkList.bin");
+        Files.write(snapshotPath, validSaveString.getBytes());
+        Assertions.assertThrows(InvalidFormatException.class, () -> CarparkSnapshot.open(snapshotPath));
+        Files.delete(snapshotPath);
+        Files.delete(directory);
+    }
+
+    @Test
+    void newerTextSaveWinsTest() throws IOException, InvalidFormatException, DuplicateCarparkIdException,
+            FileWriteException, NoFileFoundException, NoCarparkFoundException {
+        Path directory = Files.createTempDirectory("parking");
+        CarparkSnapshot.write(directory.resolve("carparkList.bin"), new CarparkList(validSaveString).getCarparks());
+        Files.write(directory.resolve("carparkList.txt"), validSaveString.replace("2822 || 2800", "2823 || 2801")
+                .getBytes());
+        Files.setLastModifiedTime(directory.resolve("carparkList.bin"), FileTime.fromMillis(0));
+        CarparkList loaded = FileReader.loadCarparkList("carparkList.bin", "carparkList.txt", directory.toString());
+        Assertions.assertEquals(2801, (int) loaded.findCarpark("1").getAllAvailableLots().get(LotType.CAR));
+        Files.delete(directory.resolve("carparkList.bin"));
+        Files.delete(directory.resolve("carparkList.txt"));
+        Files.delete(directory);
+    }
+}
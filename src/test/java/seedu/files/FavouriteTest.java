@@ -1,8 +1,15 @@
 package seedu.files;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -81,4 +88,81 @@ public class FavouriteTest {
                 + "@|faint -->|@ @|yellow 1003|@ available lots total\n",
                 favourite.getFavouriteListString(carparkList));
     }
+
+    @Test
+    void testLogReplay() throws IOException, FileWriteException, NoFileFoundException {
+        CarparkList carparkList = new CarparkList(validPathAndFile, validBackupPathAndFile);
+        Path directory = Files.createTempDirectory("parking");
+        Favourite favourite = new Favourite(directory.toString(), "favourite.txt");
+        favourite.updateFavouriteList(carparkList);
+        favourite.addFavourites(Arrays.asList("1", "2", "3"));
+        favourite.removeFavourites(Arrays.asList("2"));
+        Assertions.assertEquals("", Files.readString(directory.resolve("favourite.txt")));
+        Assertions.assertTrue(Files.exists(directory.resolve("favourite.txt.log")));
+
+        Favourite reloaded = new Favourite(directory.toString(), "favourite.txt");
+        reloaded.updateFavouriteList(carparkList);
+        Assertions.assertEquals(Arrays.asList("1", "3"), Favourite.getFavouriteList());
+        // Loading folds the log into the checkpoint.
+        Assertions.assertEquals("1\n3\n", Files.readString(directory.resolve("favourite.txt")));
+        Assertions.assertFalse(Files.exists(directory.resolve("favourite.txt.log")));
+        Files.delete(directory.resolve("favourite.txt"));
+        Files.delete(directory);
+    }
+
+    @Test
+    void testUnfinishedRecordSkipped() throws IOException, FileWriteException, NoFileFoundException {
+        CarparkList carparkList = new CarparkList(validPathAndFile, validBackupPathAndFile);
+        Path directory = Files.createTempDirectory("parking");
+        Favourite favourite = new Favourite(directory.toString(), "favourite.txt");
+        favourite.updateFavouriteList(carparkList);
+        favourite.addFavourites(Arrays.asList("1"));
+        Files.write(directory.resolve("favourite.txt.log"), "+2".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        new Favourite(directory.toString(), "favourite.txt").updateFavouriteList(carparkList);
+        Assertions.assertEquals(Arrays.asList("1"), Favourite.getFavouriteList());
+        Files.delete(directory.resolve("favourite.txt"));
+        Files.delete(directory);
+    }
+
+    @Test
+    void testLogOfOlderCheckpointDiscarded() throws IOException, FileWriteException, NoFileFoundException {
+        CarparkList carparkList = new CarparkList(validPathAndFile, validBackupPathAndFile);
+        Path directory = Files.createTempDirectory("parking");
+        Path checkpointPath = directory.resolve("favourite.txt");
+        Favourite favourite = new Favourite(directory.toString(), "favourite.txt");
+        favourite.updateFavouriteList(carparkList);
+        favourite.addFavourites(Arrays.asList("1"));
+        // The checkpoint is edited by hand after the log was started.
+        Files.writeString(checkpointPath, "2\n");
+        Files.setLastModifiedTime(checkpointPath, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+        new Favourite(directory.toString(), "favourite.txt").updateFavouriteList(carparkList);
+        Assertions.assertEquals(Arrays.asList("2"), Favourite.getFavouriteList());
+        Assertions.assertFalse(Files.exists(directory.resolve("favourite.txt.log")));
+        Files.delete(checkpointPath);
+        Files.delete(directory);
+    }
+
+    @Test
+    void testCompaction() throws IOException, FileWriteException, NoFileFoundException {
+        CarparkList carparkList = new CarparkList(validPathAndFile, validBackupPathAndFile);
+        Path directory = Files.createTempDirectory("parking");
+        Favourite favourite = new Favourite(directory.toString(), "favourite.txt");
+        favourite.updateFavouriteList(carparkList);
+        List<String> ids = Arrays.asList("1", "2");
+        for (int i = 0; i < Favourite.COMPACTION_THRESHOLD / 2; i++) {
+            favourite.addFavourites(ids);
+            favourite.removeFavourites(ids);
+        }
+        favourite.addFavourites(ids);
+        Assertions.assertEquals("", Files.readString(directory.resolve("favourite.txt")));
+        Assertions.assertEquals(2, Files.readString(directory.resolve("favourite.txt.log")).split("\n").length - 1);
+
+        new Favourite(directory.toString(), "favourite.txt").updateFavouriteList(carparkList);
+        Assertions.assertEquals(ids, Favourite.getFavouriteList());
+        Files.delete(directory.resolve("favourite.txt"));
+        Files.delete(directory);
+    }
 }
@@ -1,14 +1,17 @@
 package seedu.files;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import seedu.data.Carpark;
+import seedu.data.LotType;
 import seedu.exception.FileWriteException;
 import seedu.exception.NoFileFoundException;
 
@@ -62,4 +65,36 @@ public class FileReaderTest {
         Assertions.assertEquals("", FileReader.readStringFromTxt("empty.txt",
                 testFileDirectory, false));
     }
+
+    @Test
+    void streamedFieldOrderTest() throws IOException {
+        Path jsonPath = Files.createTempFile("ltaResponse", ".json");
+        Files.writeString(jsonPath, "{\"value\":[{\"LotType\":\"Y\",\"Agency\":null,\"AvailableLots\":12,"
+                + "\"Development\":\"Suntec City\",\"CarParkID\":\"1\"},{\"CarParkID\":\"2\",\"Area\":\"Marina\","
+                + "\"Development\":\"Marina Square\",\"Location\":\"1.29115 103.85728\",\"AvailableLots\":1003,"
+                + "\"LotType\":\"C\",\"Agency\":\"LTA\"}],\"odata.metadata\":\"metadata\"}");
+        List<Carpark> carparks = new ArrayList<>();
+        FileReader.readLtaJson(jsonPath, carparks::add);
+        Files.delete(jsonPath);
+
+        Assertions.assertEquals(2, carparks.size());
+        Assertions.assertEquals("CarparkID 1 at Suntec City: 12 lots available", carparks.get(0).toString());
+        Assertions.assertEquals(LotType.MOTORCYCLE, carparks.get(0).getLotType());
+        Assertions.assertEquals(12, (int) carparks.get(0).getAllAvailableLots().get(LotType.MOTORCYCLE));
+        Assertions.assertNull(carparks.get(0).getAgency());
+        Assertions.assertEquals("Marina", carparks.get(1).getArea());
+    }
+
+    @Test
+    void streamedInvalidRecordTest() throws IOException {
+        Path jsonPath = Files.createTempFile("ltaResponse", ".json");
+        Files.writeString(jsonPath, "{\"value\":[{\"CarParkID\":\"1\",\"Development\":\"Suntec City\","
+                + "\"Floors\":3}]}");
+        Assertions.assertThrows(IOException.class, () -> FileReader.readLtaJson(jsonPath, carpark -> { }));
+        Files.writeString(jsonPath, "{\"value\":[{\"CarParkID\":\"1 2\",\"Development\":\"Suntec City\"}]}");
+        Assertions.assertThrows(IOException.class, () -> FileReader.readLtaJson(jsonPath, carpark -> { }));
+        Files.writeString(jsonPath, "{\"value\":[{\"CarParkID\":\"1\",\"Development\":\"Suntec City\"}");
+        Assertions.assertThrows(IOException.class, () -> FileReader.readLtaJson(jsonPath, carpark -> { }));
+        Files.delete(jsonPath);
+    }
 }
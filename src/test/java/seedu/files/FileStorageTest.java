@@ -3,13 +3,21 @@ package seedu.files;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Scanner;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import seedu.common.CommonFiles;
+import seedu.data.CarparkList;
 import seedu.exception.FileWriteException;
+import seedu.exception.NoFileFoundException;
 
 public class FileStorageTest {
     private final String testFileDirectoryCreate = "./src/test/java/seedu/testfiles_create";
@@ -18,6 +26,19 @@ public class FileStorageTest {
     private final String testFileDirectory = "./src/test/java/seedu/testfiles";
     private final String testFileWriteDest = "empty.txt";
 
+    @TempDir
+    Path temporaryDirectory;
+
+    @BeforeEach
+    public void useTemporaryCarparkListDirectory() {
+        FileStorage.setCarparkListDirectory(temporaryDirectory);
+    }
+
+    @AfterEach
+    public void restoreCarparkListDirectory() {
+        FileStorage.setCarparkListDirectory(Paths.get(CommonFiles.CARPARK_LIST_DIRECTORY));
+    }
+
     @Test
     public void validFileCreation() {
         FileStorage storage = new FileStorage(testFileDirectoryCreate, testFilePathCreate);
@@ -32,6 +53,7 @@ public class FileStorageTest {
     public void validDataWrite() throws IOException, FileWriteException {
         FileStorage storage = new FileStorage(testFileDirectory, testFileWriteDest);
         storage.writeDataToFile("I am currently writing this data to the file.");
+        storage.flush();
         File file = new File(Paths.get(testFileDirectory, testFileWriteDest).toString());
         Scanner scanner = new Scanner(file);
         if (!scanner.hasNext()) {
@@ -43,4 +65,66 @@ public class FileStorageTest {
         fw.write("");
         fw.close();
     }
+
+    @Test
+    public void coalescedWritesKeepLatest() throws IOException, FileWriteException {
+        Path directory = Files.createTempDirectory("parking");
+        FileStorage storage = new FileStorage(directory.toString(), "burst.txt");
+        for (int i = 0; i < 100; i++) {
+            storage.writeDataToFile("write " + i);
+        }
+        storage.flush();
+        Assertions.assertEquals("write 99", Files.readString(directory.resolve("burst.txt")));
+        Assertions.assertFalse(Files.exists(directory.resolve("burst.txt.tmp")));
+        Files.delete(directory.resolve("burst.txt"));
+        Files.delete(directory);
+    }
+
+    @Test
+    public void readSeesQueuedWrite() throws IOException, FileWriteException, NoFileFoundException {
+        Path directory = Files.createTempDirectory("parking");
+        FileStorage storage = new FileStorage(directory.toString(), "queued.txt");
+        storage.writeDataToFile("first\n");
+        storage.writeDataToFile("second\n");
+        Assertions.assertEquals("second\n", FileReader.readStringFromTxt("queued.txt", directory.toString(), false));
+        Files.delete(directory.resolve("queued.txt"));
+        Files.delete(directory);
+    }
+
+    @Test
+    public void failedWriteReportedByFlush() throws IOException, FileWriteException {
+        Path directory = Files.createTempDirectory("parking");
+        FileStorage storage = new FileStorage(directory.toString(), "blocked.txt");
+        // A directory in place of the temporary file makes the write fail.
+        Files.createDirectory(directory.resolve("blocked.txt.tmp"));
+        storage.writeDataToFile("data");
+        Assertions.assertThrows(FileWriteException.class, storage::flush);
+        Files.delete(directory.resolve("blocked.txt.tmp"));
+        Files.delete(directory.resolve("blocked.txt"));
+        Files.delete(directory);
+    }
+
+    @Test
+    public void writerSurvivesUnexpectedFailure() throws IOException, FileWriteException {
+        Path filepath = temporaryDirectory.resolve("broken.txt");
+        // Content that cannot be written fails inside the writer with a runtime exception.
+        FileWriteQueue.getInstance().submit(filepath, null);
+        Assertions.assertThrows(FileWriteException.class, () -> FileWriteQueue.getInstance().flush());
+        FileStorage storage = new FileStorage(temporaryDirectory.toString(), "after.txt");
+        storage.writeDataToFile("still written");
+        storage.flush();
+        Assertions.assertEquals("still written", Files.readString(temporaryDirectory.resolve("after.txt")));
+    }
+
+    @Test
+    public void scheduledSaveWrittenByFlushAll() throws IOException, FileWriteException, NoFileFoundException {
+        Path jsonPath = Paths.get(testFileDirectory, "ltaResponse.json");
+        CarparkList carparkList = new CarparkList(jsonPath, jsonPath);
+        FileStorage.scheduleCarparkListSave(carparkList);
+        FileStorage.scheduleCarparkListSave(carparkList);
+        FileStorage.flushAll();
+        Assertions.assertEquals(carparkList.getSaveString(), Files.readString(
+                temporaryDirectory.resolve(CommonFiles.CARPARK_LIST_FILE)));
+        Assertions.assertTrue(Files.exists(temporaryDirectory.resolve(CommonFiles.CARPARK_SNAPSHOT_FILE)));
+    }
 }
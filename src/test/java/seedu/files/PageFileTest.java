@@ -0,0 +1,102 @@
+package seedu.files;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.exception.InvalidFormatException;
+
+public class PageFileTest {
+    private Path getJournalPath(Path filepath) {
+        return filepath.resolveSibling(filepath.getFileName() + "-journal");
+    }
+
+    private void deleteFiles(Path filepath) throws IOException {
+        Files.deleteIfExists(filepath);
+        Files.deleteIfExists(getJournalPath(filepath));
+        Files.delete(filepath.getParent());
+    }
+
+    private PageFile openWithPage(Path filepath, int value) throws IOException, InvalidFormatException {
+        PageFile pageFile = PageFile.open(filepath, PageFile.DEFAULT_POOL_SIZE);
+        int pageNumber = pageFile.allocatePage();
+        pageFile.writePage(pageNumber).putInt(0, value);
+        pageFile.setHeaderSlot(0, value);
+        return pageFile;
+    }
+
+    @Test
+    void commitAndRollbackTest() throws IOException, InvalidFormatException {
+        Path filepath = Files.createTempDirectory("parking").resolve("pages.db");
+        try (PageFile pageFile = openWithPage(filepath, 42)) {
+            pageFile.commit();
+            pageFile.writePage(1).putInt(0, 43);
+            pageFile.allocatePage();
+            pageFile.rollback();
+            Assertions.assertEquals(42, pageFile.readPage(1).getInt(0));
+            Assertions.assertEquals(2, pageFile.getPageCount());
+        }
+        try (PageFile pageFile = PageFile.open(filepath, PageFile.DEFAULT_POOL_SIZE)) {
+            Assertions.assertEquals(42, pageFile.readPage(1).getInt(0));
+            Assertions.assertEquals(42, pageFile.getHeaderSlot(0));
+            Assertions.assertEquals(2 * PageFile.PAGE_SIZE, Files.size(filepath));
+        }
+        Assertions.assertFalse(Files.exists(getJournalPath(filepath)));
+        deleteFiles(filepath);
+    }
+
+    @Test
+    void journalReplayedTest() throws IOException, InvalidFormatException {
+        Path filepath = Files.createTempDirectory("parking").resolve("pages.db");
+        // A commit cut short after its journal is on disk still happens.
+        try (PageFile pageFile = openWithPage(filepath, 42)) {
+            pageFile.writeJournal();
+        }
+        Assertions.assertTrue(Files.exists(getJournalPath(filepath)));
+        try (PageFile pageFile = PageFile.open(filepath, PageFile.DEFAULT_POOL_SIZE)) {
+            Assertions.assertEquals(2, pageFile.getPageCount());
+            Assertions.assertEquals(42, pageFile.readPage(1).getInt(0));
+        }
+        Assertions.assertFalse(Files.exists(getJournalPath(filepath)));
+        deleteFiles(filepath);
+    }
+
+    @Test
+    void incompleteJournalDiscardedTest() throws IOException, InvalidFormatException {
+        Path filepath = Files.createTempDirectory("parking").resolve("pages.db");
+        try (PageFile pageFile = openWithPage(filepath, 42)) {
+            pageFile.commit();
+        }
+        try (PageFile pageFile = PageFile.open(filepath, PageFile.DEFAULT_POOL_SIZE)) {
+            pageFile.writePage(1).putInt(0, 43);
+            pageFile.writeJournal();
+        }
+        Path journalPath = getJournalPath(filepath);
+        byte[] journal = Files.readAllBytes(journalPath);
+        Files.write(journalPath, Arrays.copyOf(journal, journal.length - 1));
+        try (PageFile pageFile = PageFile.open(filepath, PageFile.DEFAULT_POOL_SIZE)) {
+            Assertions.assertEquals(42, pageFile.readPage(1).getInt(0));
+        }
+        Assertions.assertFalse(Files.exists(journalPath));
+        deleteFiles(filepath);
+    }
+
+    @Test
+    void corruptedPageDetectedTest() throws IOException, InvalidFormatException {
+        Path filepath = Files.createTempDirectory("parking").resolve("pages.db");
+        try (PageFile pageFile = openWithPage(filepath, 42)) {
+            pageFile.commit();
+        }
+        byte[] content = Files.readAllBytes(filepath);
+        content[PageFile.PAGE_SIZE + 1] ^= 1;
+        Files.write(filepath, content);
+        try (PageFile pageFile = PageFile.open(filepath, PageFile.DEFAULT_POOL_SIZE)) {
+            Assertions.assertThrows(IOException.class, () -> pageFile.readPage(1));
+        }
+        deleteFiles(filepath);
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.files;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.exception.InvalidFormatException;
+
+public class PageTreeTest {
+    private static final int KEY_COUNT = 3000;
+
+    private List<String> getShuffledKeys() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys.add(String.format("key%05d", i));
+        }
+        Collections.shuffle(keys, new Random(7));
+        return keys;
+    }
+
+    private byte[] getValue(String key, int version) {
+        return (key + " version " + version + " " + "x".repeat(key.hashCode() & 63)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void deleteFiles(Path filepath) throws IOException {
+        Files.deleteIfExists(filepath);
+        Files.delete(filepath.getParent());
+    }
+
+    @Test
+    void putAndGetTest() throws IOException, InvalidFormatException {
+        Path filepath = Files.createTempDirectory("parking").resolve("tree.db");
+        List<String> keys = getShuffledKeys();
+        try (PageFile pageFile = PageFile.open(filepath, 4)) {
+            PageTree tree = new PageTree(pageFile, 0);
+            Assertions.assertNull(tree.get("key00001"));
+            for (String key : keys) {
+                tree.put(key, getValue(key, 1));
+            }
+            pageFile.commit();
+            Assertions.assertTrue(pageFile.getPageCount() > 10);
+        }
+
+        try (PageFile pageFile = PageFile.open(filepath, 4)) {
+            PageTree tree = new PageTree(pageFile, 0);
+            for (String key : keys.subList(0, 100)) {
+                Assertions.assertArrayEquals(getValue(key, 1), tree.get(key));
+            }
+            Assertions.assertNull(tree.get("key99999"));
+            List<String> scannedKeys = new ArrayList<>();
+            tree.forEach((key, value) -> scannedKeys.add(key));
+            List<String> sortedKeys = new ArrayList<>(keys);
+            Collections.sort(sortedKeys);
+            Assertions.assertEquals(sortedKeys, scannedKeys);
+        }
+        deleteFiles(filepath);
+    }
+
+    @Test
+    void updateInPlaceTest() throws IOException, InvalidFormatException {
+        Path filepath = Files.createTempDirectory("parking").resolve("tree.db");
+        List<String> keys = getShuffledKeys();
+        int pageCount;
+        try (PageFile pageFile = PageFile.open(filepath, PageFile.DEFAULT_POOL_SIZE)) {
+            PageTree tree = new PageTree(pageFile, 0);
+            for (String key : keys) {
+                tree.put(key, getValue(key, 1));
+            }
+            pageFile.commit();
+            pageCount = pageFile.getPageCount();
+            for (String key : keys) {
+                tree.put(key, getValue(key, 2));
+            }
+            pageFile.commit();
+            Assertions.assertEquals(pageCount, pageFile.getPageCount());
+        }
+        try (PageFile pageFile = PageFile.open(filepath, pageCount)) {
+            PageTree tree = new PageTree(pageFile, 0);
+            for (String key : keys) {
+                Assertions.assertArrayEquals(getValue(key, 2), tree.get(key));
+            }
+            // With room for every page in the buffer pool, each page is read from disk at most once.
+            Assertions.assertTrue(pageFile.getReadCount() <= pageCount);
+        }
+        deleteFiles(filepath);
+    }
+}
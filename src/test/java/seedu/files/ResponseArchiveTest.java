@@ -0,0 +1,64 @@
+package seedu.files;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.data.CarparkList;
+import seedu.exception.FileWriteException;
+import seedu.exception.NoCarparkFoundException;
+import seedu.exception.NoFileFoundException;
+
+public class ResponseArchiveTest {
+    private final Path validPathAndFile = Paths.get("./src/test/java/seedu/testfiles", "ltaResponse.json");
+
+    private void deleteDirectory(Path directory) throws IOException {
+        for (File file : directory.toFile().listFiles()) {
+            file.delete();
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    void archivedResponseLoadsTest() throws IOException, FileWriteException, NoFileFoundException,
+            NoCarparkFoundException {
+        Path directory = Files.createTempDirectory("parking");
+        ResponseArchive archive = new ResponseArchive(directory, "ltaResponse.json");
+        String response = Files.readString(validPathAndFile);
+        Path archivedPath = archive.archive(response);
+        Assertions.assertTrue(archivedPath.getFileName().toString().matches("ltaResponse-\\d{8}-\\d{6}-\\d{3}"
+                + "\\.json\\.gz"));
+        Assertions.assertEquals(archivedPath, archive.getLatestPath());
+
+        CarparkList fromArchive = new CarparkList(archivedPath, archivedPath);
+        CarparkList fromJson = new CarparkList(validPathAndFile, validPathAndFile);
+        Assertions.assertEquals(fromJson.getCarparks().size(), fromArchive.getCarparks().size());
+        Assertions.assertEquals(1882, fromArchive.findCarpark("1").getAvailableLots());
+        Assertions.assertTrue(Files.size(archivedPath) < Files.size(validPathAndFile));
+        deleteDirectory(directory);
+    }
+
+    @Test
+    void retentionTest() throws IOException, FileWriteException {
+        Path directory = Files.createTempDirectory("parking");
+        ResponseArchive archive = new ResponseArchive(directory, "ltaResponse.json");
+        Path firstPath = archive.archive("{\"value\":[]}");
+        Path lastPath = null;
+        for (int i = 0; i < ResponseArchive.MAX_ARCHIVED_RESPONSES + 2; i++) {
+            FileStorage.flushAll();
+            lastPath = archive.archive("{\"value\":[]}");
+        }
+        FileStorage.flushAll();
+        List<Path> archivedPaths = archive.getArchivedPaths();
+        Assertions.assertEquals(ResponseArchive.MAX_ARCHIVED_RESPONSES, archivedPaths.size());
+        Assertions.assertEquals(lastPath, archivedPaths.get(0));
+        Assertions.assertFalse(Files.exists(firstPath));
+        deleteDirectory(directory);
+    }
+}
@@ -1,12 +1,54 @@
 package seedu.parking;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.data.CarparkList;
+import seedu.exception.DuplicateCarparkIdException;
+import seedu.exception.InvalidFormatException;
+import seedu.files.Favourite;
 
 class ParkingTest {
+    private final String fetchedSaveString =
+            "1 || Marina || Suntec City || 1.29375 103.85718 || 2822 || 2800 20 2 || false || LTA || 03-11-2022 "
+                    + "00:56:14 \n3 || Marina || Raffles City || 1.29382 103.85319 || 896 || 896 0 0 || false || "
+                    + "LTA || 03-11-2022 00:47:22 \n";
+
+    @TempDir
+    Path directory;
+
     @Test
     public void sampleTest() {
         assertTrue(true);
     }
+
+    @Test
+    public void favouritesKeptWithNoSavedCarparksTest() throws IOException, InvalidFormatException,
+            DuplicateCarparkIdException {
+        Path favouritePath = directory.resolve("favourite.txt");
+        Files.writeString(favouritePath, "1\n3\n");
+        CarparkList carparkList = new CarparkList();
+        Favourite favourite = new Favourite(directory.toString(), "favourite.txt");
+        Parking parking = new Parking(carparkList, favourite);
+
+        parking.startFavouriteLoading();
+        parking.loadWaitingFavourites();
+        assertFalse(favourite.isLoaded());
+        assertEquals("1\n3\n", Files.readString(favouritePath));
+
+        carparkList.update(new CarparkList(fetchedSaveString));
+        parking.loadWaitingFavourites();
+        assertTrue(favourite.isLoaded());
+        assertEquals(List.of("1", "3"), Favourite.getFavouriteList());
+        assertEquals("1\n3\n", Files.readString(favouritePath));
+    }
 }
@@ -0,0 +1,32 @@
+package seedu.parking;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.exception.FileWriteException;
+import seedu.exception.ParkingException;
+
+public class PhaseTimerTest {
+    @Test
+    void reportsEachPhaseOnceTest() throws ParkingException {
+        PhaseTimer phaseTimer = new PhaseTimer();
+        Assertions.assertEquals("result", phaseTimer.time("First phase", () -> "result"));
+        phaseTimer.time("Second phase", () -> null);
+        List<String> reports = phaseTimer.takeReports();
+        Assertions.assertEquals(2, reports.size());
+        Assertions.assertTrue(reports.get(0).matches("@\\|faint -->\\|@ First phase in @\\|yellow \\d+\\|@ ms"));
+        Assertions.assertTrue(reports.get(1).contains("Second phase"));
+        Assertions.assertTrue(phaseTimer.takeReports().isEmpty());
+    }
+
+    @Test
+    void reportsFailedPhaseTest() {
+        PhaseTimer phaseTimer = new PhaseTimer();
+        Assertions.assertThrows(ParkingException.class, () -> phaseTimer.time("Failing phase", () -> {
+            throw new FileWriteException("file");
+        }));
+        Assertions.assertEquals(1, phaseTimer.takeReports().size());
+    }
+}
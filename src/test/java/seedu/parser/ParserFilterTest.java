@@ -64,4 +64,29 @@ public class ParserFilterTest {
                 + "`filter -address QUERY` or `fil -add QUERY` \t: Filter carparks based on its Carpark address.\n"
                 + "`filter -id QUERY` or `fil -id QUERY` \t: Filter carparks based on its Carpark Id.", result);
     }
+
+    @Test
+    void testFilterPattern() throws FileWriteException, NoCarparkFoundException, InvalidCommandException,
+            NoFileFoundException {
+        String input = "filter -pattern *c?ty";
+        CarparkList carparkList = new CarparkList(validPathAndFile, validBackupPathAndFile);
+        Command command = new Parser().parseCommand(input, null, carparkList, null);
+        String result = command.execute().showToUser;
+        Assertions.assertEquals("CarparkID @|yellow,bold 1|@ at Suntec @|bold,cyan City|@\n"
+                + "@|faint -->|@ @|yellow 1882|@ available lots total\n"
+                + "CarparkID @|yellow,bold 3|@ at Raffles @|bold,cyan City|@\n"
+                + "@|faint -->|@ @|yellow 522|@ available lots total", result);
+    }
+
+    @Test
+    void testFilterPatternTooShort() throws FileWriteException, NoCarparkFoundException, InvalidCommandException,
+            NoFileFoundException {
+        String input = "fil -pat *a*";
+        CarparkList carparkList = new CarparkList(validPathAndFile, validBackupPathAndFile);
+        Command command = new Parser().parseCommand(input, null, carparkList, null);
+        String result = command.execute().showToUser;
+        Assertions.assertEquals("Pattern needs 3 characters in a row, or 2 at the start or end of a word. Valid "
+                + "format:\n`filter -pattern PATTERN` or `fil -pat PATTERN` \t: Filter carparks with address words "
+                + "matching PATTERN, where * is any text and ? is any letter.", result);
+    }
 }
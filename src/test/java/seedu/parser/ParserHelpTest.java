@@ -24,9 +24,29 @@ public class ParserHelpTest {
                 + "`auth status` or `a status` \t: to get the authentication status.\n"
                 + "`update` or `u` \t: To fetch the latest data from LTA.\n"
                 + "`filter QUERY` or `fil QUERY`\t: Filter carparks based on Carpark information.\n"
+                + "`filter QUERY -k COUNT` or `fil QUERY -k COUNT` \t: List the COUNT carparks most relevant to QUERY, "
+                + "best first.\n"
                 + "`filter -address QUERY` or `fil -add QUERY` \t: Filter carparks based on its Carpark address.\n"
                 + "`filter -id QUERY` or `fil -id QUERY` \t: Filter carparks based on its Carpark Id.\n"
+                + "`filter -fuzzy QUERY` or `fil -fuz QUERY` \t: Filter carparks based on its Carpark address, "
+                + "allowing for typos.\n"
+                + "`filter -sounds QUERY` or `fil -snd QUERY` \t: Filter carparks with address words that sound like "
+                + "QUERY.\n"
+                + "`filter -pattern PATTERN` or `fil -pat PATTERN` \t: Filter carparks with address words matching "
+                + "PATTERN, where * is any text and ? is any letter.\n"
+                + "`filter -query QUERY` or `fil -q QUERY` \t: Filter carparks with a query such as `area:marina and "
+                + "(dev:orchard or id:a1*) and not agency:ura and lots.c>=20`.\n"
+                + "`filter -min LOT_TYPE:LOTS` or `fil -min LOT_TYPE:LOTS` \t: Filter carparks with at least LOTS "
+                + "available lots of LOT_TYPE (C, M or H).\n"
                 + "`find CARPARK_ID` or `fin CARPARK_ID` \t: Display information about the specific queried carpark.\n"
+                + "`top -type LOT_TYPE -k COUNT` or `t -type LOT_TYPE -k COUNT` \t: List the COUNT carparks with the "
+                + "most available lots of LOT_TYPE (C, M or H).\n"
+                + "`suggest PREFIX -k COUNT` or `sug PREFIX -k COUNT` \t: List the most common address words and "
+                + "carpark IDs starting with PREFIX.\n"
+                + "`stats -area` or `st -area` \t: Show total available lots by area.\n"
+                + "`stats -agency` or `st -agency` \t: Show total available lots by agency.\n"
+                + "`stats -cache` or `st -cache` \t: Show how often searches were answered from the cache.\n"
+                + "`stats -phonetic` or `st -phonetic` \t: Show the size of the index used by `filter -sounds`.\n"
                 + "`favourite list` or `fav list` \t: to get the list of favourited carparks.\n"
                 + "`favourite CARPARK_ID` or `fav CARPARK_ID` \t: favourite carpark by its ID.\n"
                 + "`unfavourite CARPARK_ID` or `ufav CARPARK_ID` \t: unfavourite carpark by its ID.", result);
@@ -47,9 +67,29 @@ public class ParserHelpTest {
                 + "`auth status` or `a status` \t: to get the authentication status.\n"
                 + "`update` or `u` \t: To fetch the latest data from LTA.\n"
                 + "`filter QUERY` or `fil QUERY`\t: Filter carparks based on Carpark information.\n"
+                + "`filter QUERY -k COUNT` or `fil QUERY -k COUNT` \t: List the COUNT carparks most relevant to QUERY, "
+                + "best first.\n"
                 + "`filter -address QUERY` or `fil -add QUERY` \t: Filter carparks based on its Carpark address.\n"
                 + "`filter -id QUERY` or `fil -id QUERY` \t: Filter carparks based on its Carpark Id.\n"
+                + "`filter -fuzzy QUERY` or `fil -fuz QUERY` \t: Filter carparks based on its Carpark address, "
+                + "allowing for typos.\n"
+                + "`filter -sounds QUERY` or `fil -snd QUERY` \t: Filter carparks with address words that sound like "
+                + "QUERY.\n"
+                + "`filter -pattern PATTERN` or `fil -pat PATTERN` \t: Filter carparks with address words matching "
+                + "PATTERN, where * is any text and ? is any letter.\n"
+                + "`filter -query QUERY` or `fil -q QUERY` \t: Filter carparks with a query such as `area:marina and "
+                + "(dev:orchard or id:a1*) and not agency:ura and lots.c>=20`.\n"
+                + "`filter -min LOT_TYPE:LOTS` or `fil -min LOT_TYPE:LOTS` \t: Filter carparks with at least LOTS "
+                + "available lots of LOT_TYPE (C, M or H).\n"
                 + "`find CARPARK_ID` or `fin CARPARK_ID` \t: Display information about the specific queried carpark.\n"
+                + "`top -type LOT_TYPE -k COUNT` or `t -type LOT_TYPE -k COUNT` \t: List the COUNT carparks with the "
+                + "most available lots of LOT_TYPE (C, M or H).\n"
+                + "`suggest PREFIX -k COUNT` or `sug PREFIX -k COUNT` \t: List the most common address words and "
+                + "carpark IDs starting with PREFIX.\n"
+                + "`stats -area` or `st -area` \t: Show total available lots by area.\n"
+                + "`stats -agency` or `st -agency` \t: Show total available lots by agency.\n"
+                + "`stats -cache` or `st -cache` \t: Show how often searches were answered from the cache.\n"
+                + "`stats -phonetic` or `st -phonetic` \t: Show the size of the index used by `filter -sounds`.\n"
                 + "`favourite list` or `fav list` \t: to get the list of favourited carparks.\n"
                 + "`favourite CARPARK_ID` or `fav CARPARK_ID` \t: favourite carpark by its ID.\n"
                 + "`unfavourite CARPARK_ID` or `ufav CARPARK_ID` \t: unfavourite carpark by its ID.", result);
@@ -0,0 +1,68 @@
+package seedu.parser;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.commands.Command;
+import seedu.data.CarparkList;
+import seedu.exception.FileWriteException;
+import seedu.exception.InvalidCommandException;
+import seedu.exception.NoCarparkFoundException;
+import seedu.exception.NoFileFoundException;
+
+public class ParserTopTest {
+    private final String testFileDirectory = "./src/test/java/seedu/testfiles";
+    private final Path validPathAndFile = Paths.get(testFileDirectory, "ltaResponse.json");
+    private final Path validBackupPathAndFile = Paths.get(testFileDirectory, "ltaResponseBackup.json");
+
+    @Test
+    void testTop() throws FileWriteException, NoCarparkFoundException, InvalidCommandException,
+            NoFileFoundException {
+        CarparkList carparkList = new CarparkList(validPathAndFile, validBackupPathAndFile);
+        String input = "top -type C -k 2";
+        Command command = new Parser().parseCommand(input, null, carparkList, null);
+        String result = command.execute().showToUser;
+        Assertions.assertEquals("CarparkID @|yellow,bold 1|@ at Suntec City\n"
+                + "@|faint -->|@ @|yellow 1882|@ available lots for Cars\n"
+                + "CarparkID @|yellow,bold 2|@ at Marina Square\n"
+                + "@|faint -->|@ @|yellow 1003|@ available lots for Cars", result);
+    }
+
+    @Test
+    void testTopInvalidLotType() throws FileWriteException, NoCarparkFoundException, InvalidCommandException,
+            NoFileFoundException {
+        CarparkList carparkList = new CarparkList(validPathAndFile, validBackupPathAndFile);
+        String input = "top -type X";
+        Command command = new Parser().parseCommand(input, null, carparkList, null);
+        String result = command.execute().showToUser;
+        Assertions.assertEquals("Invalid lot type or count. Valid format:\n"
+                + "`top -type LOT_TYPE -k COUNT` or `t -type LOT_TYPE -k COUNT` \t: List the COUNT carparks with the "
+                + "most available lots of LOT_TYPE (C, M or H).", result);
+    }
+
+    @Test
+    void testFilterMin() throws FileWriteException, NoCarparkFoundException, InvalidCommandException,
+            NoFileFoundException {
+        CarparkList carparkList = new CarparkList(validPathAndFile, validBackupPathAndFile);
+        String input = "filter -min C:1000";
+        Command command = new Parser().parseCommand(input, null, carparkList, null);
+        String result = command.execute().showToUser;
+        Assertions.assertEquals("CarparkID @|yellow,bold 1|@ at Suntec City\n"
+                + "@|faint -->|@ @|yellow 1882|@ available lots for Cars\n"
+                + "CarparkID @|yellow,bold 2|@ at Marina Square\n"
+                + "@|faint -->|@ @|yellow 1003|@ available lots for Cars", result);
+    }
+
+    @Test
+    void testFilterMinNoneFound() throws FileWriteException, NoCarparkFoundException, InvalidCommandException,
+            NoFileFoundException {
+        CarparkList carparkList = new CarparkList(validPathAndFile, validBackupPathAndFile);
+        String input = "filter -min H:1";
+        Command command = new Parser().parseCommand(input, null, carparkList, null);
+        String result = command.execute().showToUser;
+        Assertions.assertEquals("No carpark was found.", result);
+    }
+}
@@ -0,0 +1,249 @@
+package seedu.testutil;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import seedu.common.CommonData;
+
+/**
+ * Generates deterministic synthetic carpark data shaped like the LTA API response, in both the JSON format of
+ * {@code ltaResponse.json} and the save format of {@code carparkList.txt}. The same seed always gives the same
+ * carparks; the lot seed only changes the available lots, so two generators with the same seed and different lot
+ * seeds give an old and a refreshed view of the same carparks.
+ */
+public class CarparkDataGenerator {
+    private static final String[] TOWNS = {"ANG MO KIO", "BEDOK", "BISHAN", "BUKIT BATOK", "BUKIT MERAH", "CHOA CHU KANG",
+        "CLEMENTI", "GEYLANG", "HOUGANG", "JURONG WEST", "KALLANG", "PASIR RIS", "PUNGGOL", "QUEENSTOWN", "SEMBAWANG",
+        "SENGKANG", "SERANGOON", "TAMPINES", "TOA PAYOH", "WOODLANDS", "YISHUN"};
+    private static final String[] STREET_TYPES = {"AVENUE", "STREET", "ROAD", "DRIVE", "CRESCENT", "CENTRAL"};
+    private static final String[] NAME_WORDS = {"Orchard", "Marina", "Suntec", "Raffles", "Harbour", "Plaza", "Square",
+        "Central", "Point", "Tower", "Centre", "Mall", "Park", "Bay", "Gardens", "City", "Link", "Hub", "Place",
+        "Junction", "Galleria", "Paragon", "Esplanade", "Millenia", "Singapore", "Flyer", "Ion", "Vivo", "Jewel"};
+    private static final String[] AREAS = {"Marina", "Orchard", "Harbfront", "JurongLakeDistrict", "Others"};
+    private static final String TIMESTAMP = "03-11-2022 00:56:14";
+
+    private final long seed;
+    private final long lotSeed;
+    private double hdbFraction = 0.9;
+    private int idPrefixCount = 60;
+    private int developmentVocabularySize = NAME_WORDS.length;
+
+    /**
+     * Constructor for the {@link CarparkDataGenerator} class.
+     *
+     * @param seed Seed for the carpark IDs, developments, areas and agencies.
+     * @param lotSeed Seed for the available lots.
+     */
+    public CarparkDataGenerator(long seed, long lotSeed) {
+        this.seed = seed;
+        this.lotSeed = lotSeed;
+    }
+
+    /**
+     * Sets the fraction of carparks that are HDB carparks, which have letter-prefixed IDs, block-style developments
+     * and no area. The rest are split between URA and LTA carparks.
+     *
+     * @param hdbFraction Fraction between 0 and 1.
+     */
+    public void setHdbFraction(double hdbFraction) {
+        this.hdbFraction = hdbFraction;
+    }
+
+    /**
+     * Sets the number of distinct letter prefixes used for HDB carpark IDs. Fewer prefixes give longer runs of
+     * similar IDs.
+     *
+     * @param idPrefixCount Number of prefixes, at least 1.
+     */
+    public void setIdPrefixCount(int idPrefixCount) {
+        this.idPrefixCount = idPrefixCount;
+    }
+
+    /**
+     * Sets the number of distinct words used for non-HDB development names, up to the size of the built-in
+     * vocabulary. Words are drawn with a skew so that a few are much more frequent than the rest.
+     *
+     * @param developmentVocabularySize Number of words, at least 2.
+     */
+    public void setDevelopmentVocabularySize(int developmentVocabularySize) {
+        this.developmentVocabularySize = Math.min(developmentVocabularySize, NAME_WORDS.length);
+    }
+
+    /**
+     * Generates the given number of carparks. Some carparks have more than one lot type and so produce more than
+     * one record.
+     *
+     * @param size Number of distinct carparks.
+     * @return Generated records.
+     */
+    public List<Record> generate(int size) {
+        Random random = new Random(seed);
+        Random lotRandom = new Random(lotSeed);
+        HashSet<String> carparkIds = new HashSet<>();
+        List<Record> records = new ArrayList<>();
+        int ltaCount = 0;
+        while (carparkIds.size() < size) {
+            double agencyRoll = random.nextDouble();
+            String agency;
+            String carparkId;
+            String area;
+            String development;
+            if (agencyRoll < hdbFraction) {
+                agency = "HDB";
+                carparkId = getPrefix(random.nextInt(idPrefixCount)) + (1 + random.nextInt(999))
+                        + (random.nextInt(10) == 0 ? "M" : "");
+                area = "";
+                development = String.format("BLK %s %s %s %s", 1 + random.nextInt(999),
+                        TOWNS[random.nextInt(TOWNS.length)], STREET_TYPES[random.nextInt(STREET_TYPES.length)],
+                        1 + random.nextInt(99));
+            } else {
+                boolean isLta = random.nextBoolean();
+                agency = isLta ? "LTA" : "URA";
+                carparkId = isLta ? Integer.toString(++ltaCount) : "U" + (1 + random.nextInt(99999));
+                area = AREAS[random.nextInt(AREAS.length)];
+                development = getSkewedWord(random) + " " + getSkewedWord(random);
+            }
+            if (!carparkIds.add(carparkId)) {
+                continue;
+            }
+            String location = String.format("1.%05d 103.%05d", 20000 + random.nextInt(25000),
+                    60000 + random.nextInt(40000));
+            int car = lotRandom.nextInt(2000);
+            int motorcycle = random.nextInt(10) == 0 ? lotRandom.nextInt(200) : -1;
+            int heavyVehicle = random.nextInt(12) == 0 ? lotRandom.nextInt(80) : -1;
+            records.add(new Record(carparkId, area, development, location, agency, car, motorcycle, heavyVehicle));
+        }
+        return records;
+    }
+
+    private String getPrefix(int index) {
+        StringBuilder prefix = new StringBuilder();
+        int value = index;
+        do {
+            prefix.append((char) ('A' + value % 26));
+            value = value / 26 - 1;
+        } while (value >= 0);
+        return prefix.toString();
+    }
+
+    private String getSkewedWord(Random random) {
+        // Squaring a uniform value skews towards the front of the vocabulary.
+        double roll = random.nextDouble();
+        return NAME_WORDS[(int) (roll * roll * developmentVocabularySize)];
+    }
+
+    /**
+     * Generates carparks as a JSON string in the format of the LTA API response.
+     *
+     * @param size Number of distinct carparks.
+     * @return JSON string.
+     */
+    public String getLtaJson(int size) {
+        StringBuilder json = new StringBuilder(CommonData.API_RESPONSE_HEADER);
+        boolean isFirst = true;
+        for (Record record : generate(size)) {
+            for (String entry : record.getLtaJsonEntries()) {
+                if (!isFirst) {
+                    json.append(",");
+                }
+                json.append(entry);
+                isFirst = false;
+            }
+        }
+        return json.append(CommonData.API_RESPONSE_TAIL).toString();
+    }
+
+    /**
+     * Generates carparks as a save string in the format of {@code carparkList.txt}.
+     *
+     * @param size Number of distinct carparks.
+     * @return Save string.
+     */
+    public String getSaveString(int size) {
+        StringBuilder saveString = new StringBuilder();
+        for (Record record : generate(size)) {
+            saveString.append(record.getSaveString());
+        }
+        return saveString.toString();
+    }
+
+    /**
+     * Writes generated carparks to a JSON file in the format of the LTA API response.
+     *
+     * @param filepath File to write.
+     * @param size Number of distinct carparks.
+     * @throws IOException If the file cannot be written.
+     */
+    public void writeLtaJson(Path filepath, int size) throws IOException {
+        Files.write(filepath, getLtaJson(size).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes generated carparks to a save file in the format of {@code carparkList.txt}.
+     *
+     * @param filepath File to write.
+     * @param size Number of distinct carparks.
+     * @throws IOException If the file cannot be written.
+     */
+    public void writeSaveFile(Path filepath, int size) throws IOException {
+        Files.write(filepath, getSaveString(size).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * A single generated carpark. Lot types the carpark does not have are -1.
+     */
+    public static class Record {
+        public final String carparkId;
+        public final String area;
+        public final String development;
+        public final String location;
+        public final String agency;
+        public final int car;
+        public final int motorcycle;
+        public final int heavyVehicle;
+
+        private Record(String carparkId, String area, String development, String location, String agency, int car,
+                int motorcycle, int heavyVehicle) {
+            this.carparkId = carparkId;
+            this.area = area;
+            this.development = development;
+            this.location = location;
+            this.agency = agency;
+            this.car = car;
+            this.motorcycle = motorcycle;
+            this.heavyVehicle = heavyVehicle;
+        }
+
+        private List<String> getLtaJsonEntries() {
+            List<String> entries = new ArrayList<>();
+            entries.add(getLtaJsonEntry(car, "C"));
+            if (motorcycle >= 0) {
+                entries.add(getLtaJsonEntry(motorcycle, "Y"));
+            }
+            if (heavyVehicle >= 0) {
+                entries.add(getLtaJsonEntry(heavyVehicle, "H"));
+            }
+            return entries;
+        }
+
+        private String getLtaJsonEntry(int lots, String lotType) {
+            return String.format("{\"CarParkID\":\"%s\",\"Area\":\"%s\",\"Development\":\"%s\",\"Location\":\"%s\","
+                    + "\"AvailableLots\":%s,\"LotType\":\"%s\",\"Agency\":\"%s\"}", carparkId, area, development,
+                    location, lots, lotType, agency);
+        }
+
+        private String getSaveString() {
+            int motorcycleLots = Math.max(motorcycle, 0);
+            int heavyVehicleLots = Math.max(heavyVehicle, 0);
+            return String.format("%s || %s || %s || %s || %s || %s %s %s || false || %s || %s \n", carparkId, area,
+                    development, location, car + motorcycleLots + heavyVehicleLots, car, motorcycleLots,
+                    heavyVehicleLots, agency, TIMESTAMP);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.FileDescriptor;
 import java.io.FileOutputStream;
 import java.io.PrintStream;
+import java.util.List;
 import java.util.Scanner;
 
 import org.junit.jupiter.api.Assertions;
@@ -47,4 +48,23 @@ public class UiTest {
         String content = ui.getLine();
         Assertions.assertEquals("Example user input", content);
     }
+
+    @Test
+    void testCompleteLastWord() {
+        Assertions.assertEquals("filter tampines ", Ui.completeLastWord("filter tam", List.of("TAMPINES")));
+        Assertions.assertEquals("filter orchard", Ui.completeLastWord("filter or",
+                List.of("Orchard", "Orchard2")));
+        Assertions.assertEquals("filter xy", Ui.completeLastWord("filter xy", List.of()));
+    }
+
+    @Test
+    void testGetCommandCompletes() {
+        Ui ui = new Ui();
+        ui.changeScanner(new Scanner(new ByteArrayInputStream("filter tam\t\n-k 2\n".getBytes())));
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        String content = ui.getCommand(prefix -> List.of("TAMPINES"));
+        System.setOut(out);
+        Assertions.assertEquals("filter tampines -k 2", content);
+    }
 }